@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.DeferredUpdateManager;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.UpdateManager;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Benchmarks of {@link DeferredUpdateManager} repairing the damage of two
+ * figures in opposite corners of a diagram, painting into an offscreen image.
+ * Requires a display.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DamageRepairBenchmark {
+
+	/**
+	 * Paints into the offscreen image and never posts asynchronous requests.
+	 */
+	private static class ImageUpdateManager extends DeferredUpdateManager {
+		private final GC gc;
+
+		ImageUpdateManager(GC gc) {
+			this.gc = gc;
+		}
+
+		@Override
+		protected Graphics getGraphics(Rectangle region) {
+			SWTGraphics graphics = new SWTGraphics(gc);
+			graphics.setClip(region);
+			return graphics;
+		}
+
+		@Override
+		protected void releaseGraphics(Graphics graphics) {
+			graphics.dispose();
+		}
+
+		@Override
+		protected void sendUpdateRequest() {
+		}
+	}
+
+	@Param({ "1", "8" })
+	public int maxDamageRegions;
+
+	@Param({ "2500" })
+	public int figures;
+
+	private Image image;
+	private GC gc;
+	private ImageUpdateManager manager;
+	private IFigure first;
+	private IFigure last;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Display display = Display.getDefault();
+		image = new Image(display, 2000, 2000);
+		gc = new GC(image);
+		manager = new ImageUpdateManager(gc);
+		manager.setMaxDamageRegions(maxDamageRegions);
+		Figure root = new Figure() {
+			@Override
+			public UpdateManager getUpdateManager() {
+				return manager;
+			}
+		};
+		root.setOpaque(true);
+		root.setBackgroundColor(ColorConstants.white);
+		root.setBounds(new Rectangle(0, 0, 2000, 2000));
+		manager.setRoot(root);
+		int columns = (int) Math.ceil(Math.sqrt(figures));
+		int size = 2000 / columns;
+		for (int i = 0; i < figures; i++) {
+			RectangleFigure child = new RectangleFigure();
+			child.setBackgroundColor(ColorConstants.lightBlue);
+			child.setBounds(new Rectangle((i % columns) * size, (i / columns) * size, size - 5, size - 5));
+			root.add(child);
+		}
+		first = root.getChildren().get(0);
+		last = root.getChildren().get(figures - 1);
+		manager.performUpdate();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		gc.dispose();
+		image.dispose();
+	}
+
+	@Benchmark
+	public void repairDistantRegions() {
+		first.repaint();
+		last.repaint();
+		manager.performUpdate();
+	}
+
+}
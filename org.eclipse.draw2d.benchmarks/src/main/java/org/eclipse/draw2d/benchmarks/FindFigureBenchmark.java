@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Benchmarks of {@link IFigure#findFigureAt(int, int)} on a wide tree, which
+ * is a single container with many children laid out in a grid, and on a deep
+ * tree, which is a chain of nested figures.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindFigureBenchmark {
+
+	@Param({ "1000", "20000" })
+	public int width;
+
+	@Param({ "false", "true" })
+	public boolean spatialIndex;
+
+	private Figure wide;
+	private Figure deep;
+	private int[] xs;
+	private int[] ys;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		int columns = (int) Math.ceil(Math.sqrt(width));
+		wide = new Figure();
+		wide.setBounds(new Rectangle(0, 0, columns * 50, columns * 50));
+		for (int i = 0; i < width; i++) {
+			IFigure child = new Figure();
+			child.setBounds(new Rectangle((i % columns) * 50, (i / columns) * 50, 40, 40));
+			wide.add(child);
+		}
+		wide.setSpatialIndexEnabled(spatialIndex);
+
+		deep = new Figure();
+		deep.setBounds(new Rectangle(0, 0, 1000, 1000));
+		IFigure parent = deep;
+		for (int i = 1; i < 200; i++) {
+			IFigure child = new Figure();
+			child.setBounds(new Rectangle(i * 2, i * 2, 1000 - i * 4, 1000 - i * 4));
+			parent.add(child);
+			parent = child;
+		}
+
+		Random random = new Random(42);
+		xs = new int[256];
+		ys = new int[256];
+		for (int i = 0; i < xs.length; i++) {
+			xs[i] = random.nextInt(columns * 50);
+			ys[i] = random.nextInt(columns * 50);
+		}
+	}
+
+	private int next() {
+		index = (index + 1) & 255;
+		return index;
+	}
+
+	@Benchmark
+	public IFigure findInWideTree() {
+		int i = next();
+		return wide.findFigureAt(xs[i], ys[i]);
+	}
+
+	@Benchmark
+	public IFigure findInDeepTree() {
+		int i = next();
+		return deep.findFigureAt(xs[i] % 1000, ys[i] % 1000);
+	}
+
+}
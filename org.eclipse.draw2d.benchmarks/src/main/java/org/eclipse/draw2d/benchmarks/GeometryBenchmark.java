@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.PrecisionRectangle;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Benchmarks of the basic geometry operations of {@link Rectangle},
+ * {@link PrecisionRectangle} and {@link PointList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+	@Param({ "16", "1024" })
+	public int points;
+
+	private Rectangle[] rectangles;
+	private PrecisionRectangle[] precisionRectangles;
+	private PointList pointList;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		rectangles = new Rectangle[256];
+		precisionRectangles = new PrecisionRectangle[256];
+		for (int i = 0; i < rectangles.length; i++) {
+			rectangles[i] = new Rectangle(random.nextInt(1000), random.nextInt(1000), random.nextInt(200) + 1,
+					random.nextInt(200) + 1);
+			precisionRectangles[i] = new PrecisionRectangle(random.nextDouble() * 1000, random.nextDouble() * 1000,
+					random.nextDouble() * 200 + 1, random.nextDouble() * 200 + 1);
+		}
+		pointList = new PointList(points);
+		for (int i = 0; i < points; i++)
+			pointList.addPoint(random.nextInt(1000), random.nextInt(1000));
+	}
+
+	private int next() {
+		index = (index + 1) & 255;
+		return index;
+	}
+
+	@Benchmark
+	public Rectangle rectangleUnion() {
+		int i = next();
+		return rectangles[i].getUnion(rectangles[(i + 1) & 255]);
+	}
+
+	@Benchmark
+	public Rectangle rectangleIntersection() {
+		int i = next();
+		return rectangles[i].getIntersection(rectangles[(i + 1) & 255]);
+	}
+
+	@Benchmark
+	public boolean rectangleIntersects() {
+		int i = next();
+		return rectangles[i].intersects(rectangles[(i + 1) & 255]);
+	}
+
+	@Benchmark
+	public Rectangle precisionRectangleUnion() {
+		int i = next();
+		return precisionRectangles[i].getUnion(precisionRectangles[(i + 1) & 255]);
+	}
+
+	@Benchmark
+	public Rectangle precisionRectangleIntersection() {
+		int i = next();
+		return precisionRectangles[i].getIntersection(precisionRectangles[(i + 1) & 255]);
+	}
+
+	@Benchmark
+	public Rectangle pointListBounds() {
+		// The bounds are cached until the list changes
+		pointList.translate(1, 0);
+		pointList.translate(-1, 0);
+		return pointList.getBounds();
+	}
+
+	@Benchmark
+	public PointList pointListTranslate() {
+		pointList.translate(1, 1);
+		return pointList;
+	}
+
+	@Benchmark
+	public boolean pointListContainsPoint() {
+		int i = next();
+		return pointList.polylineContainsPoint(rectangles[i].x, rectangles[i].y, 2);
+	}
+
+	@Benchmark
+	public boolean pointListIntersects() {
+		return pointList.intersects(rectangles[next()]);
+	}
+
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.GridData;
+import org.eclipse.draw2d.GridLayout;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.LayoutManager;
+import org.eclipse.draw2d.ToolbarLayout;
+import org.eclipse.draw2d.XYLayout;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Benchmarks of {@link IFigure#validate()} of a container whose children are
+ * arranged by one of the standard layout managers. Every invocation
+ * invalidates the whole tree first, so that the layout is fully recomputed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutBenchmark {
+
+	@Param({ "XYLayout", "GridLayout", "ToolbarLayout" })
+	public String layout;
+
+	@Param({ "100", "2000" })
+	public int children;
+
+	private Figure container;
+
+	@Setup
+	public void setUp() {
+		container = new Figure();
+		container.setBounds(new Rectangle(0, 0, 2000, 2000));
+		LayoutManager manager = switch (layout) {
+		case "GridLayout" -> new GridLayout(10, false);
+		case "ToolbarLayout" -> new ToolbarLayout();
+		default -> new XYLayout();
+		};
+		container.setLayoutManager(manager);
+		for (int i = 0; i < children; i++) {
+			IFigure child = new Figure();
+			child.setPreferredSize(new Dimension(20 + i % 30, 10 + i % 20));
+			Object constraint = null;
+			if (manager instanceof XYLayout)
+				constraint = new Rectangle((i % 50) * 40, (i / 50) * 30, -1, -1);
+			else if (manager instanceof GridLayout)
+				constraint = new GridData(GridData.FILL_HORIZONTAL);
+			container.add(child, constraint);
+		}
+	}
+
+	@Benchmark
+	public IFigure validate() {
+		container.invalidateTree();
+		container.validate();
+		return container;
+	}
+
+}
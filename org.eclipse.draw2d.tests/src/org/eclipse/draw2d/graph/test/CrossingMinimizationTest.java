@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.graph.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+
+import org.junit.Test;
+
+public class CrossingMinimizationTest {
+
+	private static final int LAYERS = 6;
+	private static final int WIDTH = 10;
+
+	private static DirectedGraph createGraph() {
+		Random random = new Random(7);
+		DirectedGraph g = new DirectedGraph();
+		Node[][] layers = new Node[LAYERS][WIDTH];
+		for (int l = 0; l < LAYERS; l++) {
+			for (int i = 0; i < WIDTH; i++) {
+				layers[l][i] = new Node(l + ":" + i); //$NON-NLS-1$
+				g.nodes.add(layers[l][i]);
+				if (l > 0) {
+					g.edges.add(new Edge(layers[l - 1][i], layers[l][i]));
+					g.edges.add(new Edge(layers[l - 1][random.nextInt(WIDTH)], layers[l][i]));
+					if (l > 1 && random.nextBoolean())
+						g.edges.add(new Edge(layers[l - 2][random.nextInt(WIDTH)], layers[l][i]));
+				}
+			}
+		}
+		return g;
+	}
+
+	private static List<int[]> getSegments(DirectedGraph g) {
+		List<int[]> segments = new ArrayList<>();
+		for (Edge edge : g.edges) {
+			List<int[]> points = new ArrayList<>();
+			points.add(new int[] { edge.source.x + edge.source.width / 2, edge.source.y });
+			if (edge.vNodes != null)
+				for (Node node : edge.vNodes)
+					points.add(new int[] { node.x, node.y });
+			points.add(new int[] { edge.target.x + edge.target.width / 2, edge.target.y });
+			points.sort((a, b) -> a[1] - b[1]);
+			for (int i = 0; i < points.size() - 1; i++) {
+				int[] top = points.get(i);
+				int[] bottom = points.get(i + 1);
+				segments.add(new int[] { top[1], top[0], bottom[0] });
+			}
+		}
+		return segments;
+	}
+
+	private static int countCrossings(DirectedGraph g) {
+		List<int[]> segments = getSegments(g);
+		int crossings = 0;
+		for (int i = 0; i < segments.size(); i++) {
+			for (int j = i + 1; j < segments.size(); j++) {
+				int[] a = segments.get(i);
+				int[] b = segments.get(j);
+				if (a[0] == b[0] && (long) (a[1] - b[1]) * (a[2] - b[2]) < 0)
+					crossings++;
+			}
+		}
+		return crossings;
+	}
+
+	private static DirectedGraph layout(int runs) {
+		DirectedGraph g = createGraph();
+		DirectedGraphLayout layout = new DirectedGraphLayout();
+		layout.setCrossingMinimizationRuns(runs);
+		layout.visit(g);
+		return g;
+	}
+
+	@Test
+	public void testMultipleRunsReduceCrossings() {
+		int single = countCrossings(layout(1));
+		int multiple = countCrossings(layout(8));
+		assertTrue(multiple + " > " + single, multiple <= single); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testMultipleRunsAreDeterministic() {
+		DirectedGraph first = layout(4);
+		DirectedGraph second = layout(4);
+		for (int i = 0; i < first.nodes.size(); i++)
+			assertEquals(first.nodes.get(i).x, second.nodes.get(i).x);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRuns() {
+		new DirectedGraphLayout().setCrossingMinimizationRuns(0);
+	}
+
+}
@@ -13,15 +13,22 @@ package org.eclipse.draw2d.graph.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
+import org.eclipse.draw2d.geometry.Insets;
 import org.eclipse.draw2d.graph.DirectedGraph;
 import org.eclipse.draw2d.graph.DirectedGraphLayout;
 import org.eclipse.draw2d.graph.Edge;
 import org.eclipse.draw2d.graph.EdgeList;
+import org.eclipse.draw2d.graph.GraphLayoutCanceledException;
+import org.eclipse.draw2d.graph.GraphLayoutMonitor;
 import org.eclipse.draw2d.graph.Node;
 import org.eclipse.draw2d.graph.NodeList;
 
@@ -90,6 +97,198 @@ public class DirectedGraphLayoutTest {
 		assertEquals(getRank(n3), 0);
 	}
 
+	@Test
+	public void test_monitorReportsSteps() {
+		List<String> started = new ArrayList<>();
+		List<String> finished = new ArrayList<>();
+		layout.visit(g, new GraphLayoutMonitor() {
+			@Override
+			public void stepStarted(String step, int index, int count) {
+				assertEquals(started.size(), index);
+				started.add(step);
+			}
+
+			@Override
+			public void stepFinished(String step, long nanos) {
+				assertTrue(nanos >= 0);
+				finished.add(step);
+			}
+		});
+		assertFalse(started.isEmpty());
+		assertEquals(started, finished);
+		assertTrue(started.contains("MinCross"));
+	}
+
+	@Test
+	public void test_cancel() {
+		List<String> started = new ArrayList<>();
+		try {
+			layout.visit(g, new GraphLayoutMonitor() {
+				@Override
+				public void stepStarted(String step, int index, int count) {
+					started.add(step);
+				}
+
+				@Override
+				public boolean isCanceled() {
+					return started.size() == 3;
+				}
+			});
+			fail();
+		} catch (GraphLayoutCanceledException e) {
+			// expected
+		}
+		assertEquals(3, started.size());
+		// The feedback edge is inverted again
+		assertSame(n2, e2.source);
+		assertSame(n3, e2.target);
+		assertTrue(e2.isFeedback());
+	}
+
+	@Test
+	public void test_timeBudget() {
+		// Large enough that the ranking exhausts the budget on its own
+		int unlimited = countPolls(createLayeredGraph(30, 30), 0);
+		DirectedGraph graph = createLayeredGraph(30, 30);
+		int limited = countPolls(graph, 1);
+		// Once the budget is exhausted, the iterative steps stop improving their
+		// result and no longer poll the monitor
+		assertTrue(limited < unlimited / 2);
+		assertValidLayout(graph);
+	}
+
+	/**
+	 * Creates a graph of the given number of layers, in which each node has two
+	 * random predecessors in the layer above.
+	 */
+	private static DirectedGraph createLayeredGraph(int layers, int width) {
+		Random random = new Random(1);
+		DirectedGraph graph = new DirectedGraph();
+		Node[] previous = null;
+		for (int i = 0; i < layers; i++) {
+			Node[] layer = new Node[width];
+			for (int j = 0; j < width; j++) {
+				layer[j] = new Node(i + ":" + j);
+				layer[j].width = 40;
+				layer[j].height = 20;
+				graph.nodes.add(layer[j]);
+				if (previous != null) {
+					graph.edges.add(new Edge(previous[random.nextInt(width)], layer[j]));
+					graph.edges.add(new Edge(previous[random.nextInt(width)], layer[j]));
+				}
+			}
+			previous = layer;
+		}
+		return graph;
+	}
+
+	/**
+	 * Lays out the graph with the given time budget and returns how often the
+	 * monitor was polled for cancellation.
+	 */
+	private static int countPolls(DirectedGraph graph, long budget) {
+		int[] polls = new int[1];
+		DirectedGraphLayout graphLayout = new DirectedGraphLayout();
+		graphLayout.setTimeBudget(budget);
+		graphLayout.visit(graph, new GraphLayoutMonitor() {
+			@Override
+			public boolean isCanceled() {
+				polls[0]++;
+				return false;
+			}
+		});
+		return polls[0];
+	}
+
+	private static void assertValidLayout(DirectedGraph graph) {
+		for (Edge edge : graph.edges) {
+			if (edge.isFeedback())
+				assertTrue(edge.source.y > edge.target.y);
+			else
+				assertTrue(edge.source.y < edge.target.y);
+		}
+		List<Node> nodes = new ArrayList<>(graph.nodes);
+		nodes.sort((a, b) -> a.y != b.y ? a.y - b.y : a.x - b.x);
+		for (int i = 1; i < nodes.size(); i++) {
+			Node left = nodes.get(i - 1);
+			Node right = nodes.get(i);
+			if (left.y == right.y)
+				assertTrue(right.x >= left.x + left.width);
+		}
+	}
+
+	@Test
+	public void test_fastHorizontalPlacement() {
+		Node n4 = new Node("n4");
+		Node n5 = new Node("n5");
+		n4.setPadding(new Insets(5, 20, 5, 30));
+		g.nodes.addAll(List.of(n4, n5));
+		g.edges.add(new Edge(n1, n4));
+		g.edges.add(new Edge(n1, n5));
+		for (Node node : g.nodes) {
+			node.width = 40;
+			node.height = 20;
+		}
+		layout.setFastHorizontalPlacement(true);
+		assertTrue(layout.isFastHorizontalPlacement());
+		layout.visit(g);
+
+		assertEquals(getRank(n2), getRank(n4));
+		assertEquals(getRank(n2), getRank(n5));
+		// Nodes in the same rank are separated by their widths and paddings
+		List<Node> rank = new ArrayList<>(List.of(n2, n4, n5));
+		rank.sort((a, b) -> a.x - b.x);
+		for (int i = 1; i < rank.size(); i++) {
+			Node left = rank.get(i - 1);
+			Node right = rank.get(i);
+			assertTrue(right.x >= left.x + left.width + g.getPadding(left).right + g.getPadding(right).left);
+		}
+		for (Node node : g.nodes) {
+			assertTrue(node.x - g.getPadding(node).left >= 0);
+			assertTrue(node.x + node.width + g.getPadding(node).right <= g.getLayoutSize().width);
+		}
+	}
+
+	@Test
+	public void test_incrementalLayout() {
+		layout.setIncremental(true);
+		layout.visit(g);
+		int x1 = n1.x;
+		int x2 = n2.x;
+		int x3 = n3.x;
+
+		// An unchanged graph keeps its layout
+		layout.visit(g);
+		assertEquals(x1, n1.x);
+		assertEquals(x2, n2.x);
+		assertEquals(x3, n3.x);
+
+		Node n4 = new Node("n4");
+		g.nodes.add(n4);
+		g.edges.add(new Edge(n2, n4));
+		layout.visit(g);
+		assertEquals(1, getRank(n1));
+		assertEquals(2, getRank(n2));
+		assertEquals(0, getRank(n3));
+		assertEquals(3, getRank(n4));
+		assertTrue(n4.y > n2.y);
+		assertEquals(x1, n1.x);
+		assertEquals(x2, n2.x);
+		assertEquals(x3, n3.x);
+
+		// Removing the node restores the previous layout
+		g.removeEdge(n4.incoming.get(0));
+		g.nodes.remove(n4);
+		layout.visit(g);
+		assertEquals(2, getRank(n2));
+		assertEquals(x2, n2.x);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_invalidIncrementalRadius() {
+		layout.setIncrementalRadius(-1);
+	}
+
 	private static final int getRank(Node n) {
 		try {
 			Field f = Node.class.getDeclaredField("rank");
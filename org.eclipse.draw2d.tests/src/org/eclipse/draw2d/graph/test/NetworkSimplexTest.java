@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.draw2d.graph.test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+
+import org.junit.Test;
+
+/**
+ * Compares the ranks and horizontal positions computed by the network simplex
+ * on seeded random graphs with the results of the previous, object based
+ * implementation of the rank assignment and the tight spanning tree.
+ */
+public class NetworkSimplexTest {
+
+	private static final int[][] RANKS = {
+			{ 0, 1, 2, 3, 0, 5, 6, 2, 5, 4, 3, 2, 1 },
+			{ 3, 2, 3, 1, 3, 4, 1, 2, 5, 0, 2, 4, 2 },
+			{ 2, 1, 3, 4, 2, 5, 6, 0, 2, 1, 2, 7, 4 },
+			{ 1, 3, 2, 0, 1, 1, 3, 2, 1, 2, 1, 3, 1 },
+			{ 2, 3, 3, 4, 2, 1, 0, 5, 3, 2, 0, 3, 6 },
+			{ 4, 3, 4, 2, 3, 3, 0, 1, 1, 3, 0, 1, 2 },
+			{ 1, 3, 4, 5, 2, 1, 2, 1, 0, 0, 1, 1, 2 },
+			{ 3, 1, 4, 2, 2, 1, 1, 0, 1, 0, 3, 3, 4 },
+			{ 3, 2, 4, 5, 4, 5, 5, 1, 3, 1, 4, 0, 3 },
+			{ 2, 3, 3, 2, 1, 1, 1, 3, 2, 0, 3, 0, 0 } };
+
+	private static final int[][] X = {
+			{ 77, 131, 128, 144, 157, 83, 46, 233, 16, 128, 279, 329, 332 },
+			{ 199, 117, 63, 67, 119, 127, 217, 31, 24, 204, 202, 16, 286 },
+			{ 228, 97, 219, 159, 16, 109, 207, 128, 137, 214, 292, 223, 271 },
+			{ 80, 90, 142, 88, 291, 152, 230, 257, 344, 35, 16, 143, 226 },
+			{ 82, 16, 126, 185, 244, 203, 35, 202, 324, 407, 273, 412, 147 },
+			{ 80, 169, 291, 314, 96, 374, 42, 37, 228, 265, 253, 99, 89 },
+			{ 214, 200, 44, 207, 189, 152, 86, 16, 156, 338, 92, 302, 303 },
+			{ 112, 120, 117, 69, 197, 176, 16, 111, 261, 185, 208, 29, 293 },
+			{ 160, 168, 85, 16, 189, 79, 181, 17, 17, 117, 241, 148, 228 },
+			{ 65, 215, 16, 170, 154, 219, 44, 125, 341, 152, 322, 228, 46 } };
+
+	private static List<Node> createGraph(DirectedGraph graph, long seed) {
+		Random random = new Random(seed);
+		int n = 8 + random.nextInt(8);
+		List<Node> nodes = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			Node node = new Node(Integer.valueOf(i));
+			node.width = 20 + random.nextInt(60);
+			node.height = 20 + random.nextInt(20);
+			nodes.add(node);
+			graph.nodes.add(node);
+		}
+		// A random spanning tree with random edge directions, plus random edges
+		Set<String> pairs = new HashSet<>();
+		for (int i = 1; i < n; i++) {
+			int other = random.nextInt(i);
+			boolean forward = random.nextBoolean();
+			int s = forward ? other : i, t = forward ? i : other;
+			pairs.add(s + ":" + t); //$NON-NLS-1$
+			pairs.add(t + ":" + s); //$NON-NLS-1$
+			addEdge(graph, nodes.get(s), nodes.get(t), random);
+		}
+		int extra = random.nextInt(n);
+		for (int j = 0; j < extra; j++) {
+			int s = random.nextInt(n), t = random.nextInt(n);
+			if (s != t && pairs.add(s + ":" + t) && pairs.add(t + ":" + s)) //$NON-NLS-1$ //$NON-NLS-2$
+				addEdge(graph, nodes.get(s), nodes.get(t), random);
+		}
+		return nodes;
+	}
+
+	private static void addEdge(DirectedGraph graph, Node source, Node target, Random random) {
+		Edge edge = new Edge(source, target);
+		edge.weight = 1 + random.nextInt(3);
+		graph.edges.add(edge);
+	}
+
+	private static int getRank(Node n) {
+		try {
+			Field f = Node.class.getDeclaredField("rank"); //$NON-NLS-1$
+			f.setAccessible(true);
+			return f.getInt(n);
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Test
+	public void testResultsOfPreviousImplementation() {
+		for (int seed = 0; seed < RANKS.length; seed++) {
+			DirectedGraph graph = new DirectedGraph();
+			List<Node> nodes = createGraph(graph, seed);
+			new DirectedGraphLayout().visit(graph);
+			int[] ranks = new int[nodes.size()];
+			int[] x = new int[nodes.size()];
+			for (int i = 0; i < nodes.size(); i++) {
+				ranks[i] = getRank(nodes.get(i));
+				x[i] = nodes.get(i).x;
+			}
+			assertArrayEquals("ranks of graph " + seed, RANKS[seed], ranks); //$NON-NLS-1$
+			assertArrayEquals("x of graph " + seed, X[seed], x); //$NON-NLS-1$
+		}
+	}
+
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.draw2d.Animation;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureCanvas;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.LayoutAnimator;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.XYLayout;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AnimationTest extends BaseTestCase {
+
+	private static final Rectangle START = new Rectangle(0, 0, 10, 10);
+	private static final Rectangle END = new Rectangle(100, 100, 10, 10);
+
+	private Display d;
+	private Shell shell;
+	private FigureCanvas fc;
+	private IFigure contents;
+	private IFigure child;
+
+	@Before
+	public void setUp() {
+		d = Display.getDefault();
+		shell = new Shell(d);
+		shell.setLayout(new FillLayout());
+		fc = new FigureCanvas(shell);
+		fc.setSize(200, 200);
+
+		contents = new Figure();
+		contents.setLayoutManager(new XYLayout());
+		contents.addLayoutListener(LayoutAnimator.getDefault());
+		child = new RectangleFigure();
+		contents.add(child, START.getCopy());
+		fc.setContents(contents);
+		shell.open();
+		contents.getUpdateManager().performUpdate();
+	}
+
+	@After
+	public void tearDown() {
+		Animation.cancel();
+		shell.dispose();
+	}
+
+	/**
+	 * Moves the child to its final location and starts an asynchronous animation
+	 * of the move.
+	 */
+	private void startAnimation(int duration) {
+		assertTrue(Animation.markBegin());
+		contents.setConstraint(child, END.getCopy());
+		Animation.runAsync(duration);
+	}
+
+	/**
+	 * Dispatches the events of the display until the condition holds or the
+	 * timeout has elapsed.
+	 */
+	private void dispatchUntil(BooleanSupplier condition, int timeout) {
+		long end = System.currentTimeMillis() + timeout;
+		// Wakes up the display at the end of the timeout
+		d.timerExec(timeout, () -> {
+		});
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < end)
+			if (!d.readAndDispatch())
+				d.sleep();
+	}
+
+	private Rectangle getFinalBounds() {
+		contents.getUpdateManager().performValidation();
+		return child.getBounds();
+	}
+
+	@Test
+	public void testAsyncAnimationCompletes() {
+		startAnimation(100);
+		assertTrue(Animation.isAnimating());
+		// The first frame is played immediately
+		assertTrue(child.getBounds().x > START.x);
+		assertTrue(child.getBounds().x < END.x);
+
+		dispatchUntil(() -> !Animation.isAnimating(), 5000);
+		assertFalse(Animation.isAnimating());
+		assertEquals(END, getFinalBounds());
+	}
+
+	@Test
+	public void testCancelDuringAsyncAnimation() {
+		startAnimation(10000);
+		assertTrue(Animation.isAnimating());
+		assertTrue(child.getBounds().x < END.x);
+
+		Animation.cancel();
+		assertFalse(Animation.isAnimating());
+		assertEquals(END, getFinalBounds());
+
+		// No frame is played after the animation has been cancelled
+		dispatchUntil(() -> false, 100);
+		assertFalse(Animation.isAnimating());
+		assertEquals(END, getFinalBounds());
+	}
+
+	@Test
+	public void testMouseDownInterruptsAsyncAnimation() {
+		startAnimation(10000);
+		assertTrue(Animation.isAnimating());
+
+		fc.notifyListeners(SWT.MouseDown, new Event());
+		assertFalse(Animation.isAnimating());
+		assertEquals(END, getFinalBounds());
+	}
+
+	@Test
+	public void testEventOutsideCanvasDoesNotInterrupt() {
+		Shell other = new Shell(d);
+		try {
+			startAnimation(10000);
+			other.notifyListeners(SWT.MouseDown, new Event());
+			other.notifyListeners(SWT.KeyDown, new Event());
+			assertTrue(Animation.isAnimating());
+		} finally {
+			other.dispose();
+		}
+	}
+
+	@Test
+	public void testInvalidFrameRate() {
+		assertTrue(Animation.markBegin());
+		contents.setConstraint(child, END.getCopy());
+		try {
+			Animation.runAsync(100, 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		assertFalse(Animation.isAnimating());
+		assertEquals(END, getFinalBounds());
+
+		// The rejected animation leaves no state behind
+		startAnimation(100);
+		assertTrue(Animation.isAnimating());
+		dispatchUntil(() -> !Animation.isAnimating(), 5000);
+		assertEquals(END, getFinalBounds());
+	}
+
+	@Test
+	public void testAnimationAfterInterrupt() {
+		startAnimation(10000);
+		fc.notifyListeners(SWT.KeyDown, new Event());
+		assertFalse(Animation.isAnimating());
+		assertEquals(END, getFinalBounds());
+
+		// The interrupted animation leaves no state behind
+		assertTrue(Animation.markBegin());
+		contents.setConstraint(child, START.getCopy());
+		Animation.runAsync(100);
+		assertTrue(Animation.isAnimating());
+		assertTrue(child.getBounds().x < END.x);
+		assertTrue(child.getBounds().x > START.x);
+
+		dispatchUntil(() -> !Animation.isAnimating(), 5000);
+		assertFalse(Animation.isAnimating());
+		assertEquals(START, getFinalBounds());
+
+		// Events after the end of the animation have no effect
+		fc.notifyListeners(SWT.MouseDown, new Event());
+		assertFalse(Animation.isAnimating());
+		assertEquals(START, getFinalBounds());
+	}
+
+	@Test
+	public void testMarkBeginEndsAsyncAnimation() {
+		startAnimation(10000);
+		assertTrue(Animation.isAnimating());
+
+		assertTrue(Animation.markBegin());
+		assertFalse(Animation.isAnimating());
+		Animation.cancel();
+		assertEquals(END, getFinalBounds());
+	}
+
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.draw2d.AbstractRouter;
+import org.eclipse.draw2d.Connection;
+import org.eclipse.draw2d.ConnectionLayer;
+import org.eclipse.draw2d.ConnectionRouter;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.PolylineConnection;
+import org.eclipse.draw2d.XYAnchor;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConnectionLayerTest extends Assert {
+
+	private static class BatchRouter extends AbstractRouter {
+
+		final List<List<Connection>> batches = new ArrayList<>();
+		int routed;
+
+		@Override
+		public void route(Connection connection) {
+			routed++;
+			ConnectionRouter.NULL.route(connection);
+		}
+
+		@Override
+		public void routeAll(Collection<? extends Connection> connections) {
+			batches.add(new ArrayList<>(connections));
+			super.routeAll(connections);
+		}
+	}
+
+	private static class TestConnectionLayer extends ConnectionLayer {
+
+		List<IFigure> getCandidatesAt(int x, int y) {
+			List<IFigure> result = new ArrayList<>();
+			getChildrenRevIterable(x, y).forEach(result::add);
+			return result;
+		}
+	}
+
+	private TestConnectionLayer layer;
+	private BatchRouter router;
+	private List<PolylineConnection> connections;
+	private List<XYAnchor> anchors;
+
+	@Before
+	public void setUp() {
+		layer = new TestConnectionLayer();
+		layer.setBounds(new Rectangle(-2000, -2000, 4000, 4000));
+		router = new BatchRouter();
+		layer.setConnectionRouter(router);
+		layer.addNotify();
+		connections = new ArrayList<>();
+		anchors = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			PolylineConnection connection = new PolylineConnection();
+			XYAnchor anchor = new XYAnchor(new Point(0, i * 20));
+			connection.setSourceAnchor(anchor);
+			connection.setTargetAnchor(new XYAnchor(new Point(100, i * 20)));
+			layer.add(connection);
+			connections.add(connection);
+			anchors.add(anchor);
+		}
+		layer.validate();
+	}
+
+	@Test
+	public void testSpatialIndexIsDisabledByDefault() {
+		assertFalse(layer.isSpatialIndexEnabled());
+		assertSame(connections.get(1), layer.findFigureAt(50, 21));
+		assertNull(layer.findFigureAt(50, 30));
+	}
+
+	@Test
+	public void testFindConnectionAt() {
+		layer.setSpatialIndexEnabled(true);
+		assertSame(connections.get(1), layer.findFigureAt(50, 21));
+		assertNull(layer.findFigureAt(50, 30));
+
+		anchors.get(0).setLocation(new Point(-1000, -1000));
+		layer.validate();
+		assertSame(connections.get(0), layer.findFigureAt(-450, -500));
+		// Inside the bounds of the diagonal connection, but far from its segment
+		assertTrue(layer.getCandidatesAt(-900, -100).isEmpty());
+		assertNull(layer.findFigureAt(-900, -100));
+		assertEquals(List.of(connections.get(2)), layer.getCandidatesAt(50, 40));
+	}
+
+	@Test
+	public void testFindConnectionWithLargeTolerance() {
+		layer.setSpatialIndexEnabled(true);
+		assertNull(layer.findFigureAt(50, 31));
+
+		connections.get(1).setTolerance(15);
+		assertSame(connections.get(1), layer.findFigureAt(50, 31));
+		assertSame(connections.get(1), layer.findFigureAt(50, 6));
+		assertEquals(List.of(connections.get(1)), layer.getCandidatesAt(-14, 34));
+	}
+
+	@Test
+	public void testFindConnectionAfterSetPoint() {
+		layer.setSpatialIndexEnabled(true);
+		PolylineConnection connection = connections.get(2);
+		connection.setPoint(new Point(100, 400), 1);
+		assertSame(connection, layer.findFigureAt(50, 220));
+		assertNull(layer.findFigureAt(95, 40));
+		assertTrue(layer.getCandidatesAt(95, 40).isEmpty());
+
+		connection.addPoint(new Point(300, 400));
+		assertSame(connection, layer.findFigureAt(250, 400));
+		connection.removePoint(2);
+		assertNull(layer.findFigureAt(250, 400));
+	}
+
+	@Test
+	public void testPointChangesFireNoEvents() {
+		layer.setSpatialIndexEnabled(true);
+		PolylineConnection connection = connections.get(2);
+		List<String> events = new ArrayList<>();
+		connection.addPropertyChangeListener(event -> events.add(event.getPropertyName()));
+		connection.setPoint(new Point(100, 400), 1);
+		connection.addPoint(new Point(300, 400));
+		connection.insertPoint(new Point(200, 400), 2);
+		connection.removePoint(2);
+		connection.setLineWidth(3);
+		connection.setTolerance(5);
+		assertTrue(events.isEmpty());
+		assertSame(connection, layer.findFigureAt(250, 400));
+	}
+
+	@Test
+	public void testInitialRoutingIsBatched() {
+		assertEquals(1, router.batches.size());
+		assertEquals(connections, router.batches.get(0));
+		assertEquals(3, router.routed);
+		layer.validate();
+		assertEquals(1, router.batches.size());
+	}
+
+	@Test
+	public void testOnlyMovedConnectionsAreRouted() {
+		router.batches.clear();
+		router.routed = 0;
+		anchors.get(1).setLocation(new Point(10, 30));
+		layer.validate();
+		assertEquals(1, router.batches.size());
+		assertEquals(List.of(connections.get(1)), router.batches.get(0));
+		assertEquals(1, router.routed);
+		assertEquals(new Point(10, 30), connections.get(1).getStart());
+	}
+
+	@Test
+	public void testRemovedConnectionIsNotRouted() {
+		router.batches.clear();
+		router.routed = 0;
+		anchors.get(0).setLocation(new Point(5, 5));
+		anchors.get(2).setLocation(new Point(5, 45));
+		layer.remove(connections.get(0));
+		layer.validate();
+		assertEquals(1, router.batches.size());
+		assertEquals(List.of(connections.get(2)), router.batches.get(0));
+		assertEquals(1, router.routed);
+	}
+
+}
@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.AbstractLayout;
+import org.eclipse.draw2d.DeferredUpdateManager;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.RecordingGraphics;
+import org.eclipse.draw2d.UpdateListener;
+import org.eclipse.draw2d.UpdateManager;
+import org.eclipse.draw2d.UpdateMetrics;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeferredUpdateManagerTest extends Assert {
+
+	/**
+	 * Records the painted regions instead of painting them, so that no display is
+	 * required.
+	 */
+	private static class RecordingUpdateManager extends DeferredUpdateManager {
+		List<Rectangle> painted = new ArrayList<>();
+
+		@Override
+		protected Graphics getGraphics(Rectangle region) {
+			painted.add(new Rectangle(region));
+			return null;
+		}
+
+		@Override
+		protected void sendUpdateRequest() {
+		}
+	}
+
+	private RecordingUpdateManager manager;
+	private IFigure root;
+
+	@Before
+	public void setUp() {
+		manager = new RecordingUpdateManager();
+		root = new Figure() {
+			@Override
+			public UpdateManager getUpdateManager() {
+				return manager;
+			}
+		};
+		root.setBounds(new Rectangle(0, 0, 1000, 1000));
+		manager.setRoot(root);
+	}
+
+	@Test
+	public void testSingleRegionByDefault() {
+		manager.addDirtyRegion(root, 0, 0, 10, 10);
+		manager.addDirtyRegion(root, 990, 990, 10, 10);
+		manager.performUpdate();
+
+		assertEquals(1, manager.painted.size());
+		assertEquals(new Rectangle(0, 0, 1000, 1000), manager.painted.get(0));
+	}
+
+	@Test
+	public void testDistantRegionsPaintedSeparately() {
+		manager.setMaxDamageRegions(4);
+		IFigure other = new Figure();
+		root.add(other);
+		other.setBounds(new Rectangle(900, 900, 100, 100));
+		manager.performUpdate();
+		manager.painted.clear();
+
+		manager.addDirtyRegion(root, 0, 0, 10, 10);
+		manager.addDirtyRegion(other, 990, 990, 10, 10);
+		manager.performUpdate();
+
+		assertEquals(2, manager.painted.size());
+		assertTrue(manager.painted.contains(new Rectangle(0, 0, 10, 10)));
+		assertTrue(manager.painted.contains(new Rectangle(990, 990, 10, 10)));
+	}
+
+	@Test
+	public void testOverlappingAndAdjacentRegionsMerged() {
+		manager.setMaxDamageRegions(4);
+		IFigure first = new Figure();
+		IFigure second = new Figure();
+		IFigure third = new Figure();
+		root.add(first);
+		root.add(second);
+		root.add(third);
+		first.setBounds(new Rectangle(0, 0, 20, 20));
+		second.setBounds(new Rectangle(10, 10, 20, 20));
+		third.setBounds(new Rectangle(30, 0, 10, 30));
+		manager.performUpdate();
+		manager.painted.clear();
+
+		first.repaint();
+		second.repaint();
+		third.repaint();
+		manager.performUpdate();
+
+		assertEquals(1, manager.painted.size());
+		assertEquals(new Rectangle(0, 0, 40, 30), manager.painted.get(0));
+	}
+
+	@Test
+	public void testListenersReceiveClippedDirtyRegions() {
+		IFigure parent = new Figure() {
+			@Override
+			protected boolean useLocalCoordinates() {
+				return true;
+			}
+		};
+		IFigure child = new Figure();
+		root.add(parent);
+		parent.add(child);
+		parent.setBounds(new Rectangle(100, 100, 50, 50));
+		child.setBounds(new Rectangle(40, 40, 100, 100));
+		manager.performUpdate();
+
+		Map<IFigure, Rectangle> regions = new HashMap<>();
+		Rectangle[] damage = new Rectangle[1];
+		manager.addUpdateListener(new UpdateListener() {
+			@Override
+			public void notifyPainting(Rectangle damaged, Map<IFigure, Rectangle> dirtyRegions) {
+				damage[0] = damaged;
+				regions.putAll(dirtyRegions);
+			}
+
+			@Override
+			public void notifyValidating() {
+			}
+		});
+		child.repaint();
+		manager.performUpdate();
+
+		assertEquals(new Rectangle(140, 140, 10, 10), damage[0]);
+		assertEquals(new Rectangle(140, 140, 10, 10), regions.get(child));
+	}
+
+	@Test
+	public void testRegionCountIsBounded() {
+		manager.setMaxDamageRegions(3);
+		for (int i = 0; i < 10; i++) {
+			IFigure child = new Figure();
+			root.add(child);
+			child.setBounds(new Rectangle(i * 100, i * 100, 10, 10));
+		}
+		manager.performUpdate();
+		manager.painted.clear();
+
+		for (IFigure child : root.getChildren())
+			child.repaint();
+		manager.performUpdate();
+
+		assertTrue(manager.painted.size() <= 3);
+		for (int i = 0; i < manager.painted.size(); i++)
+			for (int j = i + 1; j < manager.painted.size(); j++)
+				assertFalse(manager.painted.get(i).intersects(manager.painted.get(j)));
+	}
+
+	@Test
+	public void testMetrics() {
+		manager.performUpdate();
+		UpdateMetrics metrics = new UpdateMetrics();
+		manager.setMetrics(metrics);
+		manager.setMaxDamageRegions(4);
+
+		IFigure first = new Figure();
+		IFigure second = new Figure();
+		root.add(first);
+		root.add(second);
+		first.setBounds(new Rectangle(0, 0, 10, 10));
+		second.setBounds(new Rectangle(500, 500, 20, 20));
+		manager.performUpdate();
+
+		assertEquals(1, metrics.getValidationTimes().getCount());
+		assertEquals(1, metrics.getValidatedFigures());
+		assertEquals(1, metrics.getRepairTimes().getCount());
+		assertEquals(100 + 400, metrics.getDamagedArea());
+		assertTrue(metrics.getRepairTimes().getTotal() > 0);
+		assertTrue(metrics.getRepairTimes().getPercentile(50) <= metrics.getRepairTimes().getMax());
+
+		metrics.reset();
+		manager.setMetrics(null);
+		first.repaint();
+		manager.performUpdate();
+		assertEquals(0, metrics.getRepairTimes().getCount());
+		assertEquals(0, metrics.getDamagedArea());
+	}
+
+	@Test
+	public void testFigurePaintProfilingPerUpdateManager() {
+		class OwnFigure extends Figure {
+		}
+		class OtherFigure extends Figure {
+		}
+		manager.performUpdate();
+		UpdateMetrics metrics = new UpdateMetrics();
+		metrics.setFigurePaintProfiling(true);
+		manager.setMetrics(metrics);
+
+		// A figure of another update manager, painted while this one repairs damage
+		UpdateManager otherManager = new RecordingUpdateManager();
+		IFigure otherRoot = new Figure() {
+			@Override
+			public UpdateManager getUpdateManager() {
+				return otherManager;
+			}
+		};
+		IFigure other = new OtherFigure();
+		otherRoot.add(other);
+		IFigure own = new OwnFigure();
+		root.add(own);
+		manager.addUpdateListener(new UpdateListener() {
+			@Override
+			public void notifyPainting(Rectangle damage, Map<IFigure, Rectangle> dirtyRegions) {
+				RecordingGraphics graphics = new RecordingGraphics(new Rectangle(0, 0, 10, 10));
+				own.paint(graphics);
+				other.paint(graphics);
+				graphics.dispose();
+			}
+
+			@Override
+			public void notifyValidating() {
+			}
+		});
+		own.setBounds(new Rectangle(0, 0, 10, 10));
+		manager.performUpdate();
+
+		assertTrue(metrics.getFigurePaintTimes().containsKey(OwnFigure.class));
+		assertFalse(metrics.getFigurePaintTimes().containsKey(OtherFigure.class));
+
+		// Outside of a repair, painting is not profiled
+		metrics.reset();
+		RecordingGraphics graphics = new RecordingGraphics(new Rectangle(0, 0, 10, 10));
+		own.paint(graphics);
+		graphics.dispose();
+		assertTrue(metrics.getFigurePaintTimes().isEmpty());
+	}
+
+	@Test
+	public void testValidationRootsProcessedTopDown() {
+		List<IFigure> laidOut = new ArrayList<>();
+		class RootFigure extends Figure {
+			@Override
+			protected boolean isValidationRoot() {
+				return true;
+			}
+
+			@Override
+			protected void layout() {
+				laidOut.add(this);
+				super.layout();
+			}
+		}
+		IFigure outer = new RootFigure();
+		IFigure inner = new RootFigure();
+		outer.add(inner);
+		outer.setLayoutManager(new AbstractLayout() {
+			@Override
+			protected Dimension calculatePreferredSize(IFigure container, int wHint, int hHint) {
+				return new Dimension();
+			}
+
+			@Override
+			public void layout(IFigure container) {
+				// Resizing the child invalidates it
+				Rectangle r = inner.getBounds();
+				inner.setBounds(new Rectangle(r.x, r.y, r.width + 1, r.height));
+			}
+		});
+		root.add(outer);
+		manager.performUpdate();
+		laidOut.clear();
+
+		for (int i = 0; i < 100; i++) {
+			inner.revalidate();
+			outer.revalidate();
+		}
+		manager.performUpdate();
+
+		assertEquals(Arrays.asList(outer, inner), laidOut);
+	}
+
+}
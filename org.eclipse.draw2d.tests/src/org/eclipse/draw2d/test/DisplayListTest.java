@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.DisplayList;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.RecordingGraphics;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.ScaledFontCache;
+import org.eclipse.draw2d.ScaledGraphics;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DisplayListTest extends Assert {
+
+	private static class TestGraphics extends RecordingGraphics {
+
+		final List<Rectangle> filled = new ArrayList<>();
+
+		TestGraphics(Rectangle clip) {
+			super(clip);
+		}
+
+		@Override
+		public void fillRectangle(int x, int y, int width, int height) {
+			filled.add(new Rectangle(x, y, width, height));
+			super.fillRectangle(x, y, width, height);
+		}
+	}
+
+	@Test
+	public void testRecordingCulledByClip() {
+		RecordingGraphics recorder = new RecordingGraphics(new Rectangle(0, 0, 50, 50));
+		recorder.fillRectangle(10, 10, 10, 10);
+		recorder.fillRectangle(100, 100, 10, 10);
+		recorder.drawLine(0, 60, 40, 60);
+		recorder.dispose();
+		DisplayList list = recorder.getDisplayList();
+		assertEquals(1, list.size());
+		assertEquals(new Rectangle(10, 10, 10, 10), list.getBounds());
+		assertTrue(new RecordingGraphics(new Rectangle()).getDisplayList().isEmpty());
+	}
+
+	@Test
+	public void testStateTracking() {
+		RecordingGraphics recorder = new RecordingGraphics(new Rectangle(0, 0, 100, 100));
+		recorder.pushState();
+		recorder.translate(10, 20);
+		recorder.clipRect(new Rectangle(0, 0, 30, 30));
+		recorder.setLineWidth(3);
+		assertEquals(new Rectangle(0, 0, 30, 30), recorder.getClip(new Rectangle()));
+		recorder.fillRectangle(5, 5, 10, 10);
+		recorder.scale(2.0);
+		assertEquals(new Rectangle(0, 0, 15, 15), recorder.getClip(new Rectangle()));
+		assertEquals(2.0, recorder.getAbsoluteScale(), 0);
+		recorder.fillRectangle(1, 1, 2, 2);
+		recorder.popState();
+		assertEquals(new Rectangle(0, 0, 100, 100), recorder.getClip(new Rectangle()));
+		assertEquals(1, recorder.getLineWidth());
+		assertEquals(1.0, recorder.getAbsoluteScale(), 0);
+		recorder.dispose();
+		// Bounds are reported in the coordinates in which the recording started
+		assertEquals(new Rectangle(12, 22, 13, 13), recorder.getDisplayList().getBounds());
+	}
+
+	@Test
+	public void testPlayCulledByTargetClip() {
+		Figure parent = new Figure();
+		parent.setBounds(new Rectangle(0, 0, 400, 100));
+		for (int i = 0; i < 4; i++) {
+			RectangleFigure child = new RectangleFigure();
+			child.setBounds(new Rectangle(i * 100, 0, 100, 100));
+			parent.add(child);
+		}
+		RecordingGraphics recorder = new RecordingGraphics(parent.getBounds());
+		parent.paint(recorder);
+		recorder.dispose();
+		DisplayList list = recorder.getDisplayList();
+
+		TestGraphics all = new TestGraphics(parent.getBounds());
+		list.play(all);
+		assertEquals(4, all.filled.size());
+
+		TestGraphics page = new TestGraphics(new Rectangle(0, 0, 400, 100));
+		page.translate(-150, 0);
+		page.clipRect(new Rectangle(150, 0, 100, 100));
+		list.play(page);
+		assertEquals(List.of(new Rectangle(100, 0, 100, 100), new Rectangle(200, 0, 100, 100)), page.filled);
+	}
+
+	@Test
+	public void testNestedDisplayList() {
+		RecordingGraphics child = new RecordingGraphics(new Rectangle(0, 0, 100, 100));
+		child.fillRectangle(60, 60, 10, 10);
+		child.dispose();
+
+		RecordingGraphics recorder = new RecordingGraphics(new Rectangle(0, 0, 200, 200));
+		recorder.drawDisplayList(child.getDisplayList());
+		recorder.translate(100, 100);
+		recorder.drawDisplayList(child.getDisplayList());
+		recorder.dispose();
+		DisplayList list = recorder.getDisplayList();
+		assertEquals(new Rectangle(60, 60, 110, 110), list.getBounds());
+
+		TestGraphics target = new TestGraphics(new Rectangle(0, 0, 100, 100));
+		list.play(target);
+		target.dispose();
+		assertTrue(target.filled.isEmpty());
+		assertEquals(2, target.getDisplayList().size());
+
+		target = new TestGraphics(new Rectangle(0, 0, 50, 50));
+		list.play(target);
+		assertEquals(1, target.getDisplayList().size());
+	}
+
+	@Test
+	public void testPlayAfterResourcesDisposed() {
+		Font font = new Font(null, "Arial", 12, SWT.BOLD); //$NON-NLS-1$
+		Image image = new Image(null, 16, 16);
+		RecordingGraphics recorder = new RecordingGraphics(new Rectangle(0, 0, 100, 100));
+		recorder.setFont(font);
+		assertSame(font, recorder.getFont());
+		recorder.drawText("Recorded", 10, 10); //$NON-NLS-1$
+		recorder.drawImage(image, 50, 50);
+		recorder.dispose();
+		image.dispose();
+		font.dispose();
+
+		playOnImage(recorder.getDisplayList());
+	}
+
+	@Test
+	public void testPlayAfterScaledFontReleased() {
+		Font font = new Font(null, "Arial", 12, SWT.NORMAL); //$NON-NLS-1$
+		RecordingGraphics recorder = new RecordingGraphics(new Rectangle(0, 0, 100, 100));
+		ScaledGraphics scaled = new ScaledGraphics(recorder);
+		scaled.scale(2);
+		scaled.setFont(font);
+		scaled.drawText("Zoomed", 10, 10); //$NON-NLS-1$
+		scaled.dispose();
+		recorder.dispose();
+		// Disposes the zoomed font, which is no longer in use
+		ScaledFontCache.flush();
+		font.dispose();
+
+		playOnImage(recorder.getDisplayList());
+	}
+
+	private static void playOnImage(DisplayList list) {
+		Image target = new Image(null, 100, 100);
+		GC gc = new GC(target);
+		SWTGraphics graphics = new SWTGraphics(gc);
+		try {
+			list.play(graphics);
+		} finally {
+			graphics.dispose();
+			gc.dispose();
+			target.dispose();
+			list.dispose();
+		}
+	}
+
+}
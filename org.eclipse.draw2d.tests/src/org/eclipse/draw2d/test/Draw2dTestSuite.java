@@ -11,7 +11,9 @@
  *******************************************************************************/
 package org.eclipse.draw2d.test;
 
+import org.eclipse.draw2d.graph.test.CrossingMinimizationTest;
 import org.eclipse.draw2d.graph.test.DirectedGraphLayoutTest;
+import org.eclipse.draw2d.graph.test.NetworkSimplexTest;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -31,8 +33,17 @@ import org.junit.runners.Suite;
 	FlowBorderTests.class,
 	GraphicsClipping.class,
 	PaintDamageEraseTest.class,
+	DeferredUpdateManagerTest.class,
+	FigureSpatialIndexTest.class,
+	FigureImageCacheTest.class,
+	DisplayListTest.class,
+	LevelOfDetailTest.class,
+	ScaledFontCacheTest.class,
+	TextExtentCacheTest.class,
 	LayeredPaneTest.class,
 	ConnectionEndPointMoveTest.class,
+	ConnectionLayerTest.class,
+	AnimationTest.class,
 	ImageUtilitiesTest.class,
 	LookAheadTest.class,
 	TextualTests.class,
@@ -41,6 +52,7 @@ import org.junit.runners.Suite;
 	PointListTests.class,
 	PrecisionDimensionTest.class,
 	PrecisionPointTest.class,
+	PrecisionPointListTest.class,
 	PrecisionRectangleTest.class,
 	ThumbnailTest.class,
 	FigurePaintingTest.class,
@@ -54,9 +66,12 @@ import org.junit.runners.Suite;
 	GeometryTest.class,
 	ScalablePolygonShapeTest.class,
 	LayerTest.class,
+	FreeformLayerTest.class,
 	ShapeTest.class,
 	InsetsTest.class,
-	DirectedGraphLayoutTest.class
+	DirectedGraphLayoutTest.class,
+	CrossingMinimizationTest.class,
+	NetworkSimplexTest.class
 })
 public class Draw2dTestSuite {
 }
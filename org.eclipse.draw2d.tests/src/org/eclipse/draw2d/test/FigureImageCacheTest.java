@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureImageCache;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.RecordingGraphics;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.ScaledGraphics;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FigureImageCacheTest extends BaseTestCase {
+
+	private static class CountingFigure extends Figure {
+		int paintCount;
+
+		@Override
+		protected void paintFigure(Graphics graphics) {
+			paintCount++;
+			super.paintFigure(graphics);
+		}
+	}
+
+	private Image image;
+	private GC gc;
+	private CountingFigure parent;
+	private CountingFigure child;
+
+	@Before
+	public void setUp() {
+		image = new Image(null, 200, 200);
+		gc = new GC(image);
+		parent = new CountingFigure();
+		parent.setOpaque(true);
+		parent.setBackgroundColor(ColorConstants.white);
+		parent.setBounds(new Rectangle(10, 10, 100, 100));
+		child = new CountingFigure();
+		child.setBounds(new Rectangle(20, 20, 30, 30));
+		parent.add(child);
+		parent.setPaintCached(true);
+	}
+
+	@After
+	public void tearDown() {
+		FigureImageCache.clear();
+		gc.dispose();
+		image.dispose();
+	}
+
+	private void paint(double scale) {
+		SWTGraphics graphics = new SWTGraphics(gc);
+		if (scale == 1.0) {
+			parent.paint(graphics);
+		} else {
+			ScaledGraphics scaled = new ScaledGraphics(graphics);
+			scaled.scale(scale);
+			parent.paint(scaled);
+			scaled.dispose();
+		}
+		graphics.dispose();
+	}
+
+	@Test
+	public void testCachedImageIsReused() {
+		paint(1.0);
+		paint(1.0);
+		assertEquals(1, parent.paintCount);
+		assertEquals(1, child.paintCount);
+		assertEquals(4L * 100 * 100, FigureImageCache.getMemoryUsage());
+	}
+
+	@Test
+	public void testRepaintOfDescendantDiscardsImage() {
+		paint(1.0);
+		child.repaint();
+		assertEquals(0, FigureImageCache.getMemoryUsage());
+		paint(1.0);
+		assertEquals(2, parent.paintCount);
+		assertEquals(2, child.paintCount);
+	}
+
+	@Test
+	public void testScaleChangeRendersAgain() {
+		paint(1.0);
+		paint(2.0);
+		assertEquals(2, parent.paintCount);
+		assertEquals(4L * 200 * 200, FigureImageCache.getMemoryUsage());
+	}
+
+	@Test
+	public void testMemoryBudget() {
+		long budget = FigureImageCache.getMemoryBudget();
+		try {
+			FigureImageCache.setMemoryBudget(1000);
+			paint(1.0);
+			paint(1.0);
+			assertEquals(2, parent.paintCount);
+			assertEquals(0, FigureImageCache.getMemoryUsage());
+		} finally {
+			FigureImageCache.setMemoryBudget(budget);
+		}
+	}
+
+	@Test
+	public void testLargeScaleIsNotCached() {
+		paint(FigureImageCache.MAX_SCALE * 2);
+		paint(FigureImageCache.MAX_SCALE * 2);
+		assertEquals(2, parent.paintCount);
+		assertEquals(0, FigureImageCache.getMemoryUsage());
+	}
+
+	@Test
+	public void testRecordingIsNotCached() {
+		RecordingGraphics recorder = new RecordingGraphics(new Rectangle(0, 0, 200, 200));
+		parent.paint(recorder);
+		ScaledGraphics scaled = new ScaledGraphics(recorder);
+		scaled.scale(2.0);
+		parent.paint(scaled);
+		scaled.dispose();
+		recorder.dispose();
+		recorder.getDisplayList().dispose();
+		assertEquals(2, parent.paintCount);
+		assertEquals(0, FigureImageCache.getMemoryUsage());
+	}
+
+	@Test
+	public void testTransparentFigureIsNotCached() {
+		parent.setOpaque(false);
+		paint(1.0);
+		paint(1.0);
+		assertEquals(2, parent.paintCount);
+		assertEquals(0, FigureImageCache.getMemoryUsage());
+	}
+
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FigureSpatialIndexTest extends Assert {
+
+	private Figure container;
+
+	@Before
+	public void setUp() {
+		container = new Figure();
+		container.setBounds(new Rectangle(0, 0, 2000, 2000));
+		for (int i = 0; i < 20; i++) {
+			for (int j = 0; j < 20; j++) {
+				IFigure child = new Figure();
+				child.setBounds(new Rectangle(i * 100, j * 100, 50, 50));
+				container.add(child);
+			}
+		}
+	}
+
+	private void assertSameResults() {
+		List<IFigure> expected = new ArrayList<>();
+		container.setSpatialIndexEnabled(false);
+		for (int x = 0; x < 2000; x += 37)
+			for (int y = 0; y < 2000; y += 41)
+				expected.add(container.findFigureAt(x, y));
+		container.setSpatialIndexEnabled(true);
+		Iterator<IFigure> iter = expected.iterator();
+		for (int x = 0; x < 2000; x += 37)
+			for (int y = 0; y < 2000; y += 41)
+				assertSame(iter.next(), container.findFigureAt(x, y));
+	}
+
+	@Test
+	public void testFindFigureAt() {
+		container.setSpatialIndexEnabled(true);
+		assertTrue(container.isSpatialIndexEnabled());
+		assertSame(container.getChildren().get(21), container.findFigureAt(125, 110));
+		assertSame(container, container.findFigureAt(75, 75));
+		assertSameResults();
+	}
+
+	@Test
+	public void testIndexFollowsBoundsChanges() {
+		container.setSpatialIndexEnabled(true);
+		IFigure moved = container.getChildren().get(0);
+		moved.setBounds(new Rectangle(1960, 1960, 30, 30));
+		assertSame(container, container.findFigureAt(10, 10));
+		assertSame(moved, container.findFigureAt(1970, 1970));
+
+		IFigure removed = container.getChildren().get(1);
+		container.remove(removed);
+		assertSame(container, container.findFigureAt(10, 110));
+		assertSameResults();
+	}
+
+	@Test
+	public void testTopmostChildIsFound() {
+		container.setSpatialIndexEnabled(true);
+		IFigure below = new Figure();
+		below.setBounds(new Rectangle(60, 60, 30, 30));
+		IFigure above = new Figure();
+		above.setBounds(new Rectangle(70, 70, 30, 30));
+		container.add(above);
+		container.add(below, 0);
+		assertSame(above, container.findFigureAt(75, 75));
+		assertSame(below, container.findFigureAt(65, 65));
+		assertSame(above, container.findFigureAtExcluding(75, 75, Collections.singleton(below)));
+		assertSame(below, container.findFigureAtExcluding(75, 75, Collections.singleton(above)));
+	}
+
+	@Test
+	public void testTransparentLayer() {
+		FreeformLayer layer = new FreeformLayer();
+		layer.setBounds(new Rectangle(0, 0, 500, 500));
+		IFigure child = new Figure();
+		child.setBounds(new Rectangle(100, 100, 20, 20));
+		layer.add(child);
+		layer.setSpatialIndexEnabled(true);
+		assertTrue(layer.containsPoint(110, 110));
+		assertFalse(layer.containsPoint(300, 300));
+		assertSame(child, layer.findFigureAt(110, 110));
+		assertNull(layer.findFigureAt(300, 300));
+	}
+
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.Random;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FreeformLayer;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FreeformLayerTest extends Assert {
+
+	private FreeformLayer layer;
+	private int notifications;
+
+	@Before
+	public void setUp() {
+		layer = new FreeformLayer();
+		layer.addFreeformListener(() -> notifications++);
+	}
+
+	private Figure addChild(int x, int y, int width, int height) {
+		Figure child = new Figure();
+		child.setBounds(new Rectangle(x, y, width, height));
+		layer.add(child);
+		return child;
+	}
+
+	private Rectangle getUnion() {
+		Rectangle union = null;
+		for (IFigure child : layer.getChildren()) {
+			if (union == null)
+				union = child.getBounds().getCopy();
+			else
+				union.union(child.getBounds());
+		}
+		return union == null ? new Rectangle() : union;
+	}
+
+	@Test
+	public void testExtentFollowsMovedChildren() {
+		Figure left = addChild(0, 0, 10, 10);
+		Figure middle = addChild(50, 50, 10, 10);
+		addChild(100, 100, 10, 10);
+		assertEquals(new Rectangle(0, 0, 110, 110), layer.getFreeformExtent());
+
+		notifications = 0;
+		middle.setBounds(new Rectangle(60, 40, 20, 20));
+		assertEquals("Moving an inner child must not change the extent", 0, notifications);
+		assertEquals(new Rectangle(0, 0, 110, 110), layer.getFreeformExtent());
+
+		middle.setBounds(new Rectangle(-20, 40, 10, 10));
+		assertEquals(1, notifications);
+		assertEquals(new Rectangle(-20, 0, 130, 110), layer.getFreeformExtent());
+
+		middle.setBounds(new Rectangle(50, 50, 10, 10));
+		left.setBounds(new Rectangle(20, 30, 10, 10));
+		assertEquals(new Rectangle(20, 30, 90, 80), layer.getFreeformExtent());
+
+		layer.remove(left);
+		assertEquals(new Rectangle(50, 50, 60, 60), layer.getFreeformExtent());
+	}
+
+	@Test
+	public void testExtentMatchesUnionOfChildren() {
+		Random random = new Random(7);
+		for (int i = 0; i < 50; i++)
+			addChild(random.nextInt(1000), random.nextInt(1000), random.nextInt(5) * 10, random.nextInt(5) * 10);
+		for (int i = 0; i < 2000; i++) {
+			IFigure child = layer.getChildren().get(random.nextInt(layer.getChildren().size()));
+			switch (random.nextInt(10)) {
+			case 0:
+				layer.remove(child);
+				addChild(random.nextInt(1000), random.nextInt(1000), random.nextInt(5) * 10, 10);
+				break;
+			case 1:
+				layer.add(child, 0);
+				break;
+			default:
+				child.setBounds(new Rectangle(random.nextInt(1200) - 100, random.nextInt(1200) - 100,
+						random.nextInt(5) * 10, random.nextInt(5) * 10));
+			}
+			assertEquals(getUnion(), layer.getFreeformExtent());
+		}
+	}
+
+}
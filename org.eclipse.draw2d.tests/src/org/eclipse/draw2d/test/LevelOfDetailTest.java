@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.Ellipse;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.LevelOfDetail;
+import org.eclipse.draw2d.PolygonDecoration;
+import org.eclipse.draw2d.PolylineConnection;
+import org.eclipse.draw2d.RecordingGraphics;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.ScalableFreeformLayeredPane;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LevelOfDetailTest extends Assert {
+
+	private static class TestFigure extends Figure {
+
+		final List<Integer> levels = new ArrayList<>();
+
+		@Override
+		protected int getSimplestDetailLevel() {
+			return LevelOfDetail.BOUNDS;
+		}
+
+		@Override
+		protected void paintFigure(Graphics graphics) {
+			levels.add(Integer.valueOf(getDetailLevel()));
+		}
+
+		@Override
+		protected void paintBounds(Graphics graphics) {
+			levels.add(Integer.valueOf(getDetailLevel()));
+		}
+	}
+
+	@Test
+	public void testLevelSelection() {
+		LevelOfDetail lod = new LevelOfDetail();
+		lod.setHysteresis(0.1);
+		assertEquals(LevelOfDetail.FULL, lod.getLevel(1.0, 100, LevelOfDetail.FULL));
+		assertEquals(LevelOfDetail.NO_DECORATIONS, lod.getLevel(0.4, 100, LevelOfDetail.FULL));
+		assertEquals(LevelOfDetail.NO_TEXT, lod.getLevel(0.2, 100, LevelOfDetail.FULL));
+		assertEquals(LevelOfDetail.BOUNDS, lod.getLevel(0.1, 100, LevelOfDetail.FULL));
+		// Small figures are simplified regardless of the scale
+		assertEquals(LevelOfDetail.NO_TEXT, lod.getLevel(1.0, 6, LevelOfDetail.FULL));
+		assertEquals(LevelOfDetail.BOUNDS, lod.getLevel(1.0, 3, LevelOfDetail.FULL));
+	}
+
+	@Test
+	public void testHysteresis() {
+		LevelOfDetail lod = new LevelOfDetail();
+		lod.setHysteresis(0.1);
+		// Slightly above the threshold keeps a simpler previous level
+		assertEquals(LevelOfDetail.NO_TEXT, lod.getLevel(0.31, 100, LevelOfDetail.NO_TEXT));
+		assertEquals(LevelOfDetail.NO_DECORATIONS, lod.getLevel(0.31, 100, LevelOfDetail.NO_DECORATIONS));
+		assertEquals(LevelOfDetail.FULL, lod.getLevel(0.56, 100, LevelOfDetail.NO_DECORATIONS));
+		// Slightly below the threshold keeps a more detailed previous level
+		assertEquals(LevelOfDetail.NO_DECORATIONS, lod.getLevel(0.29, 100, LevelOfDetail.NO_DECORATIONS));
+		assertEquals(LevelOfDetail.NO_TEXT, lod.getLevel(0.26, 100, LevelOfDetail.NO_DECORATIONS));
+	}
+
+	@Test
+	public void testPaneSelectsLevels() {
+		ScalableFreeformLayeredPane pane = new ScalableFreeformLayeredPane(false);
+		pane.setBounds(new Rectangle(0, 0, 1000, 1000));
+		TestFigure figure = new TestFigure();
+		figure.setBounds(new Rectangle(10, 10, 100, 100));
+		pane.add(figure);
+
+		paint(pane);
+		assertEquals(List.of(Integer.valueOf(LevelOfDetail.FULL)), figure.levels);
+
+		pane.setLevelOfDetail(new LevelOfDetail());
+		paint(pane);
+		pane.setScale(0.4);
+		paint(pane);
+		pane.setScale(0.1);
+		paint(pane);
+		assertEquals(List.of(Integer.valueOf(LevelOfDetail.FULL), Integer.valueOf(LevelOfDetail.FULL),
+				Integer.valueOf(LevelOfDetail.NO_DECORATIONS), Integer.valueOf(LevelOfDetail.BOUNDS)), figure.levels);
+
+		pane.setLevelOfDetail(null);
+		paint(pane);
+		assertEquals(Integer.valueOf(LevelOfDetail.FULL), figure.levels.get(figure.levels.size() - 1));
+	}
+
+	@Test
+	public void testOnlyRectanglesAreReducedToBounds() {
+		List<String> painted = new ArrayList<>();
+		ScalableFreeformLayeredPane pane = new ScalableFreeformLayeredPane(false);
+		pane.setBounds(new Rectangle(0, 0, 1000, 1000));
+		Figure ellipse = new Ellipse() {
+			@Override
+			protected void fillShape(Graphics graphics) {
+				painted.add("ellipse"); //$NON-NLS-1$
+			}
+
+			@Override
+			protected void paintBounds(Graphics graphics) {
+				painted.add("ellipse bounds"); //$NON-NLS-1$
+			}
+		};
+		ellipse.setBounds(new Rectangle(10, 10, 100, 100));
+		pane.add(ellipse);
+		Figure rectangle = new RectangleFigure() {
+			@Override
+			protected void fillShape(Graphics graphics) {
+				painted.add("rectangle"); //$NON-NLS-1$
+			}
+
+			@Override
+			protected void paintBounds(Graphics graphics) {
+				painted.add("rectangle bounds"); //$NON-NLS-1$
+			}
+		};
+		rectangle.setBounds(new Rectangle(200, 10, 100, 100));
+		pane.add(rectangle);
+
+		pane.setLevelOfDetail(new LevelOfDetail());
+		pane.setScale(0.1);
+		paint(pane);
+		assertEquals(List.of("ellipse", "rectangle bounds"), painted); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testDecorationsAreOmitted() {
+		List<String> painted = new ArrayList<>();
+		ScalableFreeformLayeredPane pane = new ScalableFreeformLayeredPane(false);
+		pane.setBounds(new Rectangle(0, 0, 1000, 1000));
+		PolylineConnection connection = new PolylineConnection();
+		connection.setPoints(new PointList(new int[] { 10, 10, 300, 10 }));
+		connection.setTargetDecoration(new PolygonDecoration() {
+			@Override
+			protected void fillShape(Graphics graphics) {
+				painted.add("decoration"); //$NON-NLS-1$
+			}
+		});
+		Figure label = new RectangleFigure() {
+			@Override
+			protected void fillShape(Graphics graphics) {
+				painted.add("label"); //$NON-NLS-1$
+			}
+		};
+		label.setBounds(new Rectangle(100, 0, 50, 20));
+		connection.add(label);
+		// The spatial index of the children must honor the omission as well
+		connection.setSpatialIndexEnabled(true);
+		pane.add(connection);
+		pane.setLevelOfDetail(new LevelOfDetail());
+
+		paint(pane);
+		assertEquals(List.of("decoration", "label"), painted); //$NON-NLS-1$ //$NON-NLS-2$
+		painted.clear();
+		pane.setScale(0.4);
+		paint(pane);
+		assertEquals(List.of("label"), painted); //$NON-NLS-1$
+	}
+
+	private static void paint(Figure figure) {
+		RecordingGraphics graphics = new RecordingGraphics(figure.getBounds());
+		figure.paint(graphics);
+		graphics.dispose();
+	}
+
+}
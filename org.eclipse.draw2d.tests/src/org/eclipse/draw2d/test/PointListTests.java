@@ -16,6 +16,7 @@ import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.PrecisionPoint;
 import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.geometry.Transform;
 
 import org.junit.Test;
 
@@ -428,4 +429,62 @@ public class PointListTests extends BaseTestCase {
 		}
 	}
 
+	@Test
+	public void testGetBoundsAfterModification() throws Exception {
+		PointList list = new PointList(new int[] { 5, 5, -3, 8, 10, -2 });
+		assertEquals(-3, -2, 14, 11, list.getBounds());
+		list.setPoint(new Point(20, 20), 1);
+		assertEquals(5, -2, 16, 23, list.getBounds());
+	}
+
+	@Test
+	public void testScale() throws Exception {
+		PointList list = new PointList(new int[] { 10, 20, -5, 3 });
+		list.getBounds();
+		list.scale(0.5, 2);
+		assertEquals(5, 40, list.getPoint(0));
+		assertEquals(-3, 6, list.getPoint(1));
+		assertEquals(-3, 6, 9, 35, list.getBounds());
+		list.performScale(2);
+		assertEquals(10, 80, list.getPoint(0));
+		assertEquals(-6, 12, list.getPoint(1));
+	}
+
+	@Test
+	public void testTransform() throws Exception {
+		Transform transform = new Transform();
+		transform.setScale(7, 3);
+		transform.setRotation(Math.PI / 3);
+		transform.setTranslation(100, 50);
+		PointList list = new PointList(new int[] { 0, 0, -1, 1, -1, -1 });
+		list.transform(transform);
+		for (int i = 0; i < list.size(); i++) {
+			Point expected = transform.getTransformed(new PointList(new int[] { 0, 0, -1, 1, -1, -1 }).getPoint(i));
+			assertEquals(expected, list.getPoint(i));
+		}
+	}
+
+	@Test
+	public void testIntersectsSegment() {
+		PointList list = new PointList(new int[] { 0, 0, 10, 0, 10, 10 });
+		assertTrue(list.intersects(5, -5, 5, 5));
+		assertTrue(list.intersects(5, 5, 15, 5));
+		// touching the end point
+		assertTrue(list.intersects(10, 10, 20, 20));
+		assertFalse(list.intersects(0, 5, 5, 10));
+		assertFalse(list.intersects(20, 0, 20, 10));
+		assertFalse(new PointList(new int[] { 0, 0 }).intersects(-5, 0, 5, 0));
+	}
+
+	@Test
+	public void testGetNearestSegment() {
+		PointList list = new PointList(new int[] { 0, 0, 100, 0, 100, 100, 0, 100 });
+		assertEquals(0, list.getNearestSegment(50, -10));
+		assertEquals(1, list.getNearestSegment(120, 50));
+		assertEquals(2, list.getNearestSegment(40, 90));
+		// beyond the end points the distance is measured to the end point
+		assertEquals(2, list.getNearestSegment(-10, 110));
+		assertEquals(-1, new PointList(new int[] { 0, 0 }).getNearestSegment(0, 0));
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.PrecisionPoint;
+import org.eclipse.draw2d.geometry.PrecisionPointList;
+import org.eclipse.draw2d.geometry.PrecisionRectangle;
+import org.eclipse.draw2d.geometry.Transform;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrecisionPointListTest extends Assert {
+
+	private static final double DELTA = 1e-9;
+
+	private static PrecisionPointList create(double... coordinates) {
+		PrecisionPointList list = new PrecisionPointList();
+		for (int i = 0; i < coordinates.length; i += 2)
+			list.addPoint(coordinates[i], coordinates[i + 1]);
+		return list;
+	}
+
+	@Test
+	public void testAddAndGetPoint() {
+		PrecisionPointList list = create(0.5, 1.5, -2.25, 3);
+		list.addPoint(new PrecisionPoint(7.75, -1));
+		assertEquals(3, list.size());
+		PrecisionPoint p = list.getPoint(new PrecisionPoint(), 2);
+		assertEquals(7.75, p.preciseX(), DELTA);
+		assertEquals(-1, p.preciseY(), DELTA);
+		assertEquals(-2.25, list.getPoint(1).preciseX(), DELTA);
+		assertThrows(IndexOutOfBoundsException.class, () -> list.getPoint(3));
+	}
+
+	@Test
+	public void testGetBounds() {
+		PrecisionPointList list = create(0.5, 1.5, -2.25, 3, 4, -1);
+		PrecisionRectangle bounds = list.getBounds();
+		assertEquals(-2.25, bounds.preciseX(), DELTA);
+		assertEquals(-1, bounds.preciseY(), DELTA);
+		assertEquals(6.25, bounds.preciseWidth(), DELTA);
+		assertEquals(4, bounds.preciseHeight(), DELTA);
+		list.translate(0.25, 1);
+		assertEquals(-2, list.getBounds().preciseX(), DELTA);
+		assertEquals(0, list.getBounds().preciseY(), DELTA);
+	}
+
+	@Test
+	public void testScaleAndTransform() {
+		PrecisionPointList list = create(1, 2, -3, 4);
+		list.scale(0.5, 1.5);
+		assertEquals(0.5, list.getPoint(0).preciseX(), DELTA);
+		assertEquals(6, list.getPoint(1).preciseY(), DELTA);
+
+		Transform transform = new Transform();
+		transform.setRotation(Math.PI / 2);
+		transform.setTranslation(10, 0);
+		list.transform(transform);
+		assertEquals(7, list.getPoint(0).preciseX(), DELTA);
+		assertEquals(0.5, list.getPoint(0).preciseY(), DELTA);
+		assertEquals(4, list.getPoint(1).preciseX(), DELTA);
+		assertEquals(-1.5, list.getPoint(1).preciseY(), DELTA);
+	}
+
+	@Test
+	public void testIntersects() {
+		PrecisionPointList list = create(0, 0, 10, 0, 10, 10);
+		assertTrue(list.intersects(5, -0.5, 5, 0.5));
+		assertTrue(list.intersects(10, 10, 20, 20));
+		// collinear and overlapping
+		assertTrue(list.intersects(-5, 0, 0.5, 0));
+		assertFalse(list.intersects(0, 0.1, 9.9, 10));
+		assertFalse(list.intersects(10.1, 0, 10.1, 10));
+	}
+
+	@Test
+	public void testGetNearestSegment() {
+		PrecisionPointList list = create(0, 0, 100, 0, 100, 100);
+		assertEquals(0, list.getNearestSegment(50, 10));
+		assertEquals(1, list.getNearestSegment(99.5, 50));
+		assertEquals(-1, create(1, 1).getNearestSegment(0, 0));
+	}
+
+	@Test
+	public void testPointListConversion() {
+		PointList points = new PointList(new int[] { 1, 2, 3, 4 });
+		PrecisionPointList list = new PrecisionPointList(points);
+		list.translate(0.6, -0.4);
+		PointList result = list.toPointList();
+		assertArrayEquals(new int[] { 1, 1, 3, 3 }, result.toIntArray());
+	}
+
+}
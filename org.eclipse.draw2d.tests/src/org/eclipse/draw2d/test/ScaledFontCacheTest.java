@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.ScaledFontCache;
+import org.eclipse.draw2d.ScaledGraphics;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ScaledFontCacheTest extends Assert {
+
+	private Image image;
+	private GC gc;
+	private SWTGraphics graphics;
+	private Font font;
+	private int maximumSize;
+
+	@Before
+	public void setUp() throws Exception {
+		image = new Image(Display.getDefault(), 100, 100);
+		gc = new GC(image);
+		graphics = new SWTGraphics(gc);
+		font = new Font(Display.getDefault(), "Arial", 20, 0); //$NON-NLS-1$
+		maximumSize = ScaledFontCache.getMaximumSize();
+		ScaledFontCache.flush();
+		ScaledFontCache.resetStatistics();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ScaledFontCache.setMaximumSize(maximumSize);
+		ScaledFontCache.flush();
+		graphics.dispose();
+		gc.dispose();
+		image.dispose();
+		font.dispose();
+	}
+
+	private Font zoomFont(double zoom) {
+		ScaledGraphics scaled = new ScaledGraphics(graphics);
+		scaled.setFont(font);
+		scaled.scale(zoom);
+		Font zoomed = graphics.getFont();
+		scaled.dispose();
+		return zoomed;
+	}
+
+	@Test
+	public void testFontsAreShared() {
+		// Both the unscaled and the scaled font are created
+		Font zoomed = zoomFont(0.5);
+		assertEquals(2, ScaledFontCache.getMissCount());
+		assertEquals(0, ScaledFontCache.getHitCount());
+		assertFalse(zoomed.isDisposed());
+
+		assertSame(zoomed, zoomFont(0.5));
+		assertEquals(2, ScaledFontCache.getMissCount());
+		assertEquals(2, ScaledFontCache.getHitCount());
+		assertFalse(zoomed.isDisposed());
+
+		ScaledFontCache.flush();
+		assertTrue(zoomed.isDisposed());
+		assertEquals(0, ScaledFontCache.getSize());
+	}
+
+	@Test
+	public void testFontsInUseAreNotEvicted() {
+		// The unscaled and the scaled font remain in use
+		ScaledFontCache.setMaximumSize(3);
+		ScaledGraphics scaled = new ScaledGraphics(graphics);
+		scaled.setFont(font);
+		scaled.scale(0.5);
+		Font inUse = graphics.getFont();
+
+		Font first = zoomFont(0.75);
+		Font second = zoomFont(0.25);
+		assertTrue(first.isDisposed());
+		assertFalse(second.isDisposed());
+		assertFalse(inUse.isDisposed());
+		assertEquals(1, ScaledFontCache.getEvictionCount());
+
+		ScaledFontCache.setMaximumSize(0);
+		assertFalse(inUse.isDisposed());
+		assertEquals(2, ScaledFontCache.getSize());
+
+		scaled.dispose();
+		assertTrue(inUse.isDisposed());
+		assertEquals(0, ScaledFontCache.getSize());
+	}
+
+}
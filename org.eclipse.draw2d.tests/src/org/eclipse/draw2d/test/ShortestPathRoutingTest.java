@@ -9,6 +9,12 @@
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
 package org.eclipse.draw2d.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -515,6 +521,65 @@ public class ShortestPathRoutingTest extends Assert {
 		assertTrue("Both paths should have been solved.", routing.solve().size() > 0);
 	}
 
+	@Test
+	public void testDeltasMoveObstacleChangedPaths() {
+		Path a = new Path(new Point(50, 150), new Point(250, 150));
+		Path b = new Path(new Point(50, 600), new Point(250, 600));
+		routing.addObstacle(new Rectangle(100, 100, 100, 100));
+		routing.addObstacle(new Rectangle(100, 550, 100, 100));
+		routing.addPath(a);
+		routing.addPath(b);
+		routing.solve();
+		assertEquals(2, routing.getChangedPaths().size());
+
+		routing.solve();
+		assertTrue("No paths should have changed.", routing.getChangedPaths().isEmpty());
+
+		PointList pointsB = b.getPoints().getCopy();
+		routing.updateObstacle(new Rectangle(100, 100, 100, 100), new Rectangle(100, 80, 100, 100));
+		routing.solve();
+		assertEquals(Collections.singletonList(a), routing.getChangedPaths());
+		assertArrayEquals(pointsB.toIntArray(), b.getPoints().toIntArray());
+	}
+
+	@Test
+	public void testForkJoinPool() {
+		ShortestPathRouter parallel = new ShortestPathRouter();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		parallel.setForkJoinPool(pool);
+		assertSame(pool, parallel.getForkJoinPool());
+		List<Path> paths = new ArrayList<>();
+		List<Path> parallelPaths = new ArrayList<>();
+		List<Rectangle> obstacles = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			obstacles.add(new Rectangle(100 + i * 120, 100 + (i % 2) * 60, 80, 200));
+			routing.addObstacle(obstacles.get(i).getCopy());
+			parallel.addObstacle(obstacles.get(i).getCopy());
+		}
+		for (int i = 0; i < 12; i++) {
+			Point start = new Point(20, 40 + i * 30);
+			Point end = new Point(880, 360 - i * 25);
+			paths.add(new Path(start, end));
+			parallelPaths.add(new Path(start, end));
+			routing.addPath(paths.get(i));
+			parallel.addPath(parallelPaths.get(i));
+		}
+		try {
+			for (int pass = 0; pass < 3; pass++) {
+				routing.solve();
+				parallel.solve();
+				for (int i = 0; i < paths.size(); i++)
+					assertArrayEquals(paths.get(i).getPoints().toIntArray(),
+							parallelPaths.get(i).getPoints().toIntArray());
+				Rectangle moved = obstacles.get(pass).getTranslated(10, -20).resize(0, 30);
+				routing.updateObstacle(obstacles.get(pass).getCopy(), moved.getCopy());
+				parallel.updateObstacle(obstacles.get(pass).getCopy(), moved.getCopy());
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
 	@Test
 	public void testDeltasMoveObstacleNoIntersection() {
 		doSetUp(deltaAStart, deltaAEnd, deltaBStart, deltaBEnd, deltaRect);
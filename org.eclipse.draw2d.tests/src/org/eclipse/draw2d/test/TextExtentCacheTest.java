@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.test;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.draw2d.FigureUtilities;
+import org.eclipse.draw2d.TextExtentCache;
+import org.eclipse.draw2d.geometry.Dimension;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TextExtentCacheTest extends Assert {
+
+	private Font font;
+	private int maximumSize;
+
+	@Before
+	public void setUp() throws Exception {
+		font = new Font(Display.getDefault(), "Arial", 12, 0); //$NON-NLS-1$
+		maximumSize = TextExtentCache.getMaximumSize();
+		TextExtentCache.flush();
+		TextExtentCache.resetStatistics();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		TextExtentCache.setMaximumSize(maximumSize);
+		TextExtentCache.flush();
+		font.dispose();
+	}
+
+	@Test
+	public void testExtentsAreCached() {
+		Dimension extent = FigureUtilities.getTextExtents("Hello World", font); //$NON-NLS-1$
+		assertEquals(0, TextExtentCache.getHitCount());
+		assertEquals(1, TextExtentCache.getMissCount());
+
+		Dimension cached = FigureUtilities.getTextExtents("Hello World", font); //$NON-NLS-1$
+		assertEquals(extent, cached);
+		assertNotSame(extent, cached);
+		assertEquals(1, TextExtentCache.getHitCount());
+		assertEquals(0.5, TextExtentCache.getHitRate(), 0);
+
+		// Text and string extents are cached separately
+		FigureUtilities.getStringExtents("Hello World", font); //$NON-NLS-1$
+		assertEquals(2, TextExtentCache.getMissCount());
+		assertEquals(2, TextExtentCache.getSize());
+	}
+
+	@Test
+	public void testBulkMeasuring() {
+		String[] texts = { "a", "bb", "a\tb", "a" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		Dimension[] extents = FigureUtilities.getTextExtents(texts, font);
+		assertEquals(texts.length, extents.length);
+		// All strings are looked up before the missing ones are measured
+		assertEquals(0, TextExtentCache.getHitCount());
+		assertEquals(4, TextExtentCache.getMissCount());
+		assertEquals(3, TextExtentCache.getSize());
+		assertArrayEquals(extents, FigureUtilities.getTextExtents(texts, font));
+		assertEquals(4, TextExtentCache.getHitCount());
+		TextExtentCache.flush();
+		for (int i = 0; i < texts.length; i++) {
+			assertEquals(FigureUtilities.getTextExtents(texts[i], font), extents[i]);
+		}
+	}
+
+	@Test
+	public void testEviction() {
+		TextExtentCache.setMaximumSize(2);
+		FigureUtilities.getTextWidth("a", font); //$NON-NLS-1$
+		FigureUtilities.getTextWidth("b", font); //$NON-NLS-1$
+		FigureUtilities.getTextWidth("a", font); //$NON-NLS-1$
+		FigureUtilities.getTextWidth("c", font); //$NON-NLS-1$
+		assertEquals(1, TextExtentCache.getEvictionCount());
+		assertEquals(2, TextExtentCache.getSize());
+
+		// "b" was the least recently used
+		TextExtentCache.resetStatistics();
+		FigureUtilities.getTextWidth("a", font); //$NON-NLS-1$
+		FigureUtilities.getTextWidth("b", font); //$NON-NLS-1$
+		assertEquals(1, TextExtentCache.getHitCount());
+		assertEquals(1, TextExtentCache.getMissCount());
+	}
+
+}
@@ -12,6 +12,10 @@ package org.eclipse.draw2d.test;
 
 import java.util.List;
 
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.text.BlockFlow;
+import org.eclipse.draw2d.text.CaretInfo;
 import org.eclipse.draw2d.text.FlowPage;
 import org.eclipse.draw2d.text.InlineFlow;
 import org.eclipse.draw2d.text.TextFlow;
@@ -83,4 +87,114 @@ public class TextualTests extends BaseTestCase {
 		}
 	}
 
+	@Test
+	public void testIncrementalBlockLayout() {
+		Font xlFont = new Font(null, "Tahoma", 28, 0);
+		FlowPage page = new FlowPage();
+		page.setFont(TAHOMA);
+		TextFlow[] texts = new TextFlow[3];
+		BlockFlow[] blocks = new BlockFlow[3];
+		for (int i = 0; i < 3; i++) {
+			blocks[i] = new BlockFlow();
+			texts[i] = new TextFlow("Paragraph " + i);
+			blocks[i].add(texts[i]);
+			page.add(blocks[i]);
+		}
+		page.setSize(-1, -1);
+		page.validate();
+
+		Object firstFragment = texts[0].getFragments().get(0);
+		Object lastFragment = texts[2].getFragments().get(0);
+		Rectangle lastBounds = blocks[2].getBounds().getCopy();
+		try {
+			texts[1].setFont(xlFont);
+			page.validate();
+
+			// Only the edited paragraph is reflowed, the following one is moved
+			assertSame(firstFragment, texts[0].getFragments().get(0));
+			assertSame(lastFragment, texts[2].getFragments().get(0));
+			assertTrue(blocks[2].getBounds().y > lastBounds.y);
+			assertEquals(lastBounds.height, blocks[2].getBounds().height);
+			assertEquals(blocks[1].getBounds().bottom(), blocks[2].getBounds().y);
+		} finally {
+			xlFont.dispose();
+		}
+	}
+
+	@Test
+	public void testFontChangeReflowsNestedBlocks() {
+		Font xlFont = new Font(null, "Tahoma", 28, 0);
+		FlowPage page = new FlowPage();
+		page.setFont(TAHOMA);
+		BlockFlow outer = new BlockFlow();
+		BlockFlow inner = new BlockFlow();
+		TextFlow text = new TextFlow("Nested paragraph");
+		inner.add(text);
+		outer.add(inner);
+		page.add(outer);
+		page.setSize(-1, -1);
+		page.validate();
+
+		Object fragment = text.getFragments().get(0);
+		int height = inner.getBounds().height;
+		try {
+			// The font is inherited by the nested blocks, which must be reflowed
+			page.setFont(xlFont);
+			page.validate();
+			assertNotSame(fragment, text.getFragments().get(0));
+			assertTrue(inner.getBounds().height > height);
+			assertTrue(outer.getBounds().height >= inner.getBounds().height);
+		} finally {
+			page.setFont(TAHOMA);
+			xlFont.dispose();
+		}
+	}
+
+	@Test
+	public void testVirtualizedPage() {
+		FlowPage page = new FlowPage();
+		page.setFont(TAHOMA);
+		TextFlow[] texts = new TextFlow[500];
+		for (int i = 0; i < texts.length; i++) {
+			BlockFlow block = new BlockFlow();
+			texts[i] = new TextFlow("Paragraph " + i);
+			block.add(texts[i]);
+			page.add(block);
+		}
+		Viewport viewport = new Viewport(true);
+		viewport.setContents(page);
+		page.setVirtualized(true);
+		viewport.setBounds(new Rectangle(0, 0, 200, 100));
+		viewport.validate();
+
+		// Only the paragraphs near the visible region are laid out
+		assertFalse(texts[0].getFragments().isEmpty());
+		assertTrue(texts[texts.length - 1].getFragments().isEmpty());
+		assertTrue(page.getSize().height > 10 * texts.length);
+
+		viewport.setViewLocation(0, page.getSize().height - 100);
+		viewport.validate();
+		assertTrue(texts[0].getFragments().isEmpty());
+		assertFalse(texts[texts.length - 1].getFragments().isEmpty());
+
+		// Navigating into a paragraph far from the visible region lays it out
+		TextFlow text = texts[texts.length / 2];
+		assertTrue(text.getFragments().isEmpty());
+		assertEquals(1, text.getNextVisibleOffset(0));
+		assertFalse(text.getFragments().isEmpty());
+		CaretInfo first = text.getCaretPlacement(0, false);
+		CaretInfo last = text.getCaretPlacement(text.getText().length(), false);
+		Rectangle bounds = text.getBounds().getCopy();
+		text.translateToAbsolute(bounds);
+		assertTrue(bounds.contains(first.getX(), first.getY()));
+		assertTrue(last.getX() > first.getX());
+		viewport.validate();
+		assertFalse(text.getFragments().isEmpty());
+
+		page.setVirtualized(false);
+		viewport.validate();
+		assertFalse(texts[0].getFragments().isEmpty());
+		assertFalse(texts[texts.length / 2].getFragments().isEmpty());
+	}
+
 }
\ No newline at end of file
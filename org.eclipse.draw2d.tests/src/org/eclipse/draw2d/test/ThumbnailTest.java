@@ -10,12 +10,21 @@
  *******************************************************************************/
 package org.eclipse.draw2d.test;
 
+import java.util.Arrays;
+
 import org.eclipse.draw2d.Ellipse;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.LightweightSystem;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.parts.Thumbnail;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -59,4 +68,153 @@ public class ThumbnailTest extends Assert {
 		assertTrue(img == null);
 	}
 
+	/**
+	 * Creates a source figure of 1024x1024 pixels, which is split into 4x4 tiles
+	 * of 256x256 pixels when shown at its original size. Each tile contains one
+	 * child, which counts how often it is painted.
+	 */
+	private static IFigure createTiledSource(int[] paints) {
+		IFigure source = new Figure();
+		source.setBounds(new Rectangle(0, 0, 1024, 1024));
+		source.setFont(Display.getDefault().getSystemFont());
+		for (int i = 0; i < paints.length; i++) {
+			int index = i;
+			IFigure child = new Figure() {
+				@Override
+				protected void paintFigure(Graphics graphics) {
+					paints[index]++;
+				}
+			};
+			child.setBounds(new Rectangle(i % 4 * 256 + 78, i / 4 * 256 + 78, 100, 100));
+			source.add(child);
+		}
+		return source;
+	}
+
+	/**
+	 * Dispatches the pending events and returns how many of them were processed.
+	 */
+	private static int dispatchAll() {
+		Display display = Display.getDefault();
+		int count = 0;
+		while (display.readAndDispatch()) {
+			count++;
+		}
+		return count;
+	}
+
+	@Test
+	public void test_OnlyDamagedTilesRepainted() {
+		Shell shell = new Shell();
+		try {
+			Canvas canvas = new Canvas(shell, SWT.NONE);
+			canvas.setSize(1024, 1024);
+			LightweightSystem lws = new LightweightSystem(canvas);
+			int[] paints = new int[16];
+			IFigure source = createTiledSource(paints);
+			lws.setContents(source);
+			lws.getUpdateManager().performValidation();
+
+			TestThumbnail thumb = new TestThumbnail();
+			thumb.setSource(source);
+			thumb.setBounds(new Rectangle(0, 0, 1024, 1024));
+			assertNotNull(thumb.getThumbnailImage());
+			dispatchAll();
+			for (int paint : paints) {
+				assertEquals(1, paint);
+			}
+
+			// Damage a region inside the second tile of the second row
+			Arrays.fill(paints, 0);
+			source.repaint(new Rectangle(300, 300, 20, 20));
+			lws.getUpdateManager().performUpdate();
+			assertNotNull(thumb.getThumbnailImage());
+			dispatchAll();
+			for (int i = 0; i < paints.length; i++) {
+				assertEquals(i == 5 ? 1 : 0, paints[i]);
+			}
+			thumb.deactivate();
+		} finally {
+			shell.dispose();
+		}
+	}
+
+	@Test
+	public void test_TimeBudgetSplitsUpdate() {
+		TestThumbnail thumb = new TestThumbnail();
+		thumb.setSource(createTiledSource(new int[16]));
+		thumb.setBounds(new Rectangle(0, 0, 1024, 1024));
+		assertNotNull(thumb.getThumbnailImage());
+		// Without a time budget, every tile is updated in its own slice
+		assertTrue(dispatchAll() >= 16);
+		thumb.deactivate();
+
+		thumb = new TestThumbnail();
+		thumb.setSource(createTiledSource(new int[16]));
+		thumb.setBounds(new Rectangle(0, 0, 1024, 1024));
+		thumb.setTimeBudget(60000);
+		assertNotNull(thumb.getThumbnailImage());
+		// All tiles fit into the first slice
+		assertTrue(dispatchAll() < 16);
+		thumb.deactivate();
+	}
+
+	@Test
+	public void test_SourcePaintedOnceForAllTiles() {
+		int[] paints = new int[1];
+		TestThumbnail thumb = new TestThumbnail();
+		IFigure fig = new Ellipse() {
+			@Override
+			public void paintFigure(Graphics graphics) {
+				paints[0]++;
+				super.paintFigure(graphics);
+			}
+		};
+		// Large enough to be split into several tiles
+		fig.setBounds(new Rectangle(0, 0, 1024, 1024));
+		fig.setFont(Display.getDefault().getSystemFont());
+		thumb.setSource(fig);
+		thumb.setBounds(new Rectangle(0, 0, 100, 100));
+		thumb.setDisplayListEnabled(true);
+		assertNotNull(thumb.getThumbnailImage());
+
+		Display display = Display.getDefault();
+		while (display.readAndDispatch()) {
+			// Let the updater paint all tiles
+		}
+		assertEquals(1, paints[0]);
+	}
+
+	@Test
+	public void test_SourceDisposingResourcesWhilePainting() {
+		for (boolean displayList : new boolean[] { false, true }) {
+			TestThumbnail thumb = new TestThumbnail();
+			IFigure fig = new Figure() {
+				@Override
+				protected void paintFigure(Graphics graphics) {
+					Font font = new Font(null, "Arial", 12, SWT.BOLD); //$NON-NLS-1$
+					Image image = new Image(null, 16, 16);
+					graphics.setFont(font);
+					graphics.drawText("Thumbnail", 10, 10); //$NON-NLS-1$
+					graphics.drawImage(image, 300, 300);
+					graphics.setFont(getFont());
+					image.dispose();
+					font.dispose();
+				}
+			};
+			fig.setBounds(new Rectangle(0, 0, 1024, 1024));
+			fig.setFont(Display.getDefault().getSystemFont());
+			thumb.setSource(fig);
+			thumb.setBounds(new Rectangle(0, 0, 100, 100));
+			thumb.setDisplayListEnabled(displayList);
+			assertNotNull(thumb.getThumbnailImage());
+
+			Display display = Display.getDefault();
+			while (display.readAndDispatch()) {
+				// Let the updater paint all tiles
+			}
+			thumb.deactivate();
+		}
+	}
+
 }
@@ -17,6 +17,11 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+
 /**
  * A utility for coordinating figure animations. During animation, multiple
  * <i>animators</i> are employed to capture the <em>initial</em> and
@@ -37,6 +42,13 @@ import java.util.Set;
  * The run method will force a validation pass to capture the final states, and
  * then commence the animation. The animation is synchronous and the method does
  * not return until the animation has completed.
+ * <P>
+ * Alternatively, {@link #runAsync(int)} plays the animation in frames scheduled
+ * with {@link Display#timerExec(int, Runnable)}, so that the UI thread remains
+ * responsive. Frames which cannot be painted in time are skipped. Such an
+ * animation ends immediately in its final state when {@link #cancel()} is
+ * called, when the user presses a key or mouse button, or when
+ * {@link #markBegin()} starts a new animation.
  * 
  * @see LayoutAnimator
  * @since 3.2
@@ -66,6 +78,8 @@ public class Animation {
 	}
 
 	private static final int DEFAULT_DELAY = 250;
+	private static final int DEFAULT_FRAME_RATE = 60;
+	private static final int[] INTERRUPTING_EVENTS = { SWT.KeyDown, SWT.MouseDown, SWT.MouseWheel };
 	private static Set figureAnimators;
 	private static Map finalStates;
 
@@ -81,6 +95,12 @@ public class Animation {
 
 	private static UpdateManager updateManager;
 
+	private static Display display;
+	private static int playbackDuration;
+	private static int frameInterval;
+	private static Runnable frame;
+	private static Listener interruptListener;
+
 	private static void capture() {
 		Iterator keys = figureAnimators.iterator();
 		while (keys.hasNext()) {
@@ -92,7 +112,31 @@ public class Animation {
 		}
 	}
 
+	/**
+	 * Ends the current animation. An animation playing asynchronously jumps to its
+	 * final state. If the beginning has been marked but the animation has not been
+	 * run yet, the captured states are discarded. If there is no animation, this
+	 * has no effect.
+	 * 
+	 * @see #runAsync(int)
+	 * @since 3.15
+	 */
+	public static void cancel() {
+		if (state != 0)
+			cleanup();
+	}
+
 	static void cleanup() {
+		if (frame != null) {
+			display.timerExec(-1, frame);
+			if (interruptListener != null)
+				for (int event : INTERRUPTING_EVENTS)
+					display.removeFilter(event, interruptListener);
+			frame = null;
+			interruptListener = null;
+			display = null;
+		}
+
 		if (figureAnimators != null) {
 			Iterator keys = figureAnimators.iterator();
 			while (keys.hasNext()) {
@@ -115,15 +159,7 @@ public class Animation {
 	}
 
 	private static void doRun(int duration) {
-		state = RECORD_FINAL;
-		findUpdateManager();
-		updateManager.performValidation();
-		capture();
-		state = PLAYBACK;
-		progress = 0.1f;
-		startTime = System.currentTimeMillis();
-
-		notifyPlaybackStarting();
+		startPlayback();
 
 		while (progress != 0) {
 			step();
@@ -140,6 +176,36 @@ public class Animation {
 		}
 	}
 
+	/**
+	 * Plays one frame of an asynchronous animation and schedules the next one. The
+	 * progress is derived from the elapsed time, and the next frame is scheduled
+	 * for the next multiple of the frame interval, so frames which could not be
+	 * played in time are skipped.
+	 */
+	private static void doFrame() {
+		boolean scheduled = false;
+		try {
+			step();
+			updateManager.performUpdate();
+			if (frame == null || progress == 1.0)
+				return;
+			int delta = (int) (System.currentTimeMillis() - startTime);
+			if (delta >= playbackDuration) {
+				progress = 1f;
+				display.timerExec(0, frame);
+			} else {
+				progress = 0.1f + 0.9f * delta / playbackDuration;
+				int next = (delta / frameInterval + 1) * frameInterval;
+				display.timerExec(Math.min(next, playbackDuration) - delta, frame);
+			}
+			scheduled = true;
+		} finally {
+			// Unless cancelled while painting
+			if (!scheduled && frame != null)
+				cleanup();
+		}
+	}
+
 	private static void findUpdateManager() {
 		AnimPair pair = (AnimPair) figureAnimators.iterator().next();
 		updateManager = pair.figure.getUpdateManager();
@@ -224,6 +290,8 @@ public class Animation {
 	 * @since 3.2
 	 */
 	public static boolean markBegin() {
+		if (frame != null)
+			cleanup();
 		if (state == 0) {
 			state = RECORD_INITIAL;
 			initialStates = new HashMap();
@@ -268,7 +336,7 @@ public class Animation {
 	 * @since 3.2
 	 */
 	public static void run(int duration) {
-		if (state == 0)
+		if (state == 0 || frame != null)
 			return;
 		try {
 			if (!figureAnimators.isEmpty())
@@ -278,6 +346,98 @@ public class Animation {
 		}
 	}
 
+	/**
+	 * Runs the animation asynchronously using the recommended duration of 250
+	 * milliseconds and 60 frames per second.
+	 * 
+	 * @see #runAsync(int, int)
+	 * @since 3.15
+	 */
+	public static void runAsync(int duration) {
+		runAsync(duration, DEFAULT_FRAME_RATE);
+	}
+
+	/**
+	 * Captures the final states for the animation and then plays the animation
+	 * without blocking the UI thread. The first frame is played immediately, the
+	 * remaining ones are scheduled at the given frame rate using
+	 * {@link Display#timerExec(int, Runnable)}. Frames are skipped when painting
+	 * falls behind, so the animation always ends after the given duration.
+	 * <P>
+	 * The animation ends in its final state when {@link #cancel()} is called, when
+	 * a key or mouse button is pressed over the animated canvas, or when
+	 * {@link #markBegin()} is called. If this method is not called from the UI
+	 * thread, the animation is played synchronously like {@link #run(int)}.
+	 * 
+	 * @param duration  the length of animation in milliseconds
+	 * @param frameRate the targeted number of frames per second
+	 * @throws IllegalArgumentException if the frame rate is not positive
+	 * @since 3.15
+	 */
+	public static void runAsync(int duration, int frameRate) {
+		if (state == 0 || frame != null)
+			return;
+		if (frameRate <= 0) {
+			cleanup();
+			throw new IllegalArgumentException("The frame rate must be positive: " + frameRate); //$NON-NLS-1$
+		}
+		Display current = Display.getCurrent();
+		if (current == null) {
+			run(duration);
+			return;
+		}
+		boolean started = false;
+		try {
+			if (!figureAnimators.isEmpty()) {
+				startPlayback();
+				playbackDuration = duration;
+				frameInterval = Math.max(1, 1000 / frameRate);
+				display = current;
+				frame = Animation::doFrame;
+				Control control = findControl();
+				interruptListener = event -> {
+					if (event.widget == control)
+						cancel();
+				};
+				for (int event : INTERRUPTING_EVENTS)
+					display.addFilter(event, interruptListener);
+				started = true;
+			}
+		} finally {
+			if (!started)
+				cleanup();
+		}
+		if (started)
+			doFrame();
+	}
+
+	/**
+	 * Returns the control hosting the animated figures, or <code>null</code> if
+	 * they are not shown by a {@link LightweightSystem}.
+	 */
+	private static Control findControl() {
+		AnimPair pair = (AnimPair) figureAnimators.iterator().next();
+		EventDispatcher dispatcher = pair.figure.internalGetEventDispatcher();
+		if (dispatcher instanceof SWTEventDispatcher)
+			return ((SWTEventDispatcher) dispatcher).control;
+		return null;
+	}
+
+	/**
+	 * Captures the final states and prepares the playback of the first frame.
+	 */
+	private static void startPlayback() {
+		state = RECORD_FINAL;
+		findUpdateManager();
+		updateManager.performValidation();
+		capture();
+		state = PLAYBACK;
+		progress = 0.1f;
+		startTime = System.currentTimeMillis();
+
+		notifyPlaybackStarting();
+	}
+
 	private static void step() {
 		Iterator iter = initialStates.keySet().iterator();
 		while (iter.hasNext())
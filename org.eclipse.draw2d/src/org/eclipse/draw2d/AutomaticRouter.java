@@ -11,6 +11,7 @@
 package org.eclipse.draw2d;
 
 import java.util.ArrayList;
+import java.util.Collection;
 
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
@@ -157,6 +158,28 @@ public abstract class AutomaticRouter extends AbstractRouter {
 			setEndPoints(conn);
 		}
 
+		routeCollisions(conn);
+	}
+
+	/**
+	 * Routes the given connections. If a 'next' router exists, it routes all
+	 * connections in a single batch, after which collisions are dealt with like in
+	 * {@link #route(Connection)}.
+	 * 
+	 * @param conns The connections to route
+	 * @since 3.15
+	 */
+	@Override
+	public void routeAll(Collection<? extends Connection> conns) {
+		if (next() == null) {
+			conns.forEach(this::route);
+			return;
+		}
+		next().routeAll(conns);
+		conns.forEach(this::routeCollisions);
+	}
+
+	private void routeCollisions(Connection conn) {
 		if (conn.getPoints().size() == 2) {
 			PointList points = conn.getPoints();
 			HashKey connectionKey = new HashKey(conn);
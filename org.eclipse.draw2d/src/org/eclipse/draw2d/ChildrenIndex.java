@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.internal.SpatialGrid;
+
+/**
+ * A spatial index over the children of a figure. The index listens to the
+ * children's {@link FigureListener figure notifications} to keep their bounds
+ * up to date and answers point and rectangle queries in z-order.
+ * <P>
+ * Optionally, {@link Polyline} connections are indexed by their segments
+ * instead of their bounds. The bounds of a connection between distant figures
+ * cover a large area which the connection itself barely touches, so the
+ * segments give far fewer candidates. The segments are registered again when
+ * the connection is moved, or lazily before the next query after the
+ * connection has been {@link #invalidate(IFigure) invalidated}.
+ * 
+ * @since 3.15
+ */
+class ChildrenIndex implements FigureListener {
+
+	/**
+	 * A part of the area covered by a connection, registered instead of the
+	 * connection's bounds.
+	 */
+	private static final class Part {
+
+		final IFigure connection;
+
+		Part(IFigure connection) {
+			this.connection = connection;
+		}
+	}
+
+	/**
+	 * The size of the grid cells.
+	 */
+	static final int CELL_SIZE = 128;
+
+	/**
+	 * The distance by which children may contain points outside of their bounds,
+	 * like the tolerance of a {@link Polyline}.
+	 */
+	static final int HIT_TOLERANCE = 4;
+
+	private final SpatialGrid<Object> grid = new SpatialGrid<>(CELL_SIZE);
+	private final Map<IFigure, Integer> order = new IdentityHashMap<>();
+	private final Map<IFigure, List<Part>> parts;
+	private final Set<IFigure> invalid = Collections.newSetFromMap(new IdentityHashMap<>());
+	private int nextOrder;
+	private final Rectangle tmp = new Rectangle();
+
+	/**
+	 * Constructs an index over the given list of children.
+	 * 
+	 * @param children the children of the owning figure
+	 */
+	ChildrenIndex(List<? extends IFigure> children) {
+		this(children, false);
+	}
+
+	/**
+	 * Constructs an index over the given list of children, optionally indexing
+	 * the segments of {@link Polyline} connections.
+	 * 
+	 * @param children        the children of the owning figure
+	 * @param indexConnections whether connections are indexed by their segments
+	 */
+	ChildrenIndex(List<? extends IFigure> children, boolean indexConnections) {
+		parts = indexConnections ? new IdentityHashMap<>() : null;
+		children.forEach(child -> {
+			hook(child);
+			order.put(child, Integer.valueOf(nextOrder++));
+			update(child);
+		});
+	}
+
+	/**
+	 * Registers a new child. Must be called after the child has been inserted in
+	 * the list of children.
+	 * 
+	 * @param child    the new child
+	 * @param index    the index at which the child was inserted, or -1 if appended
+	 * @param children the children of the owning figure
+	 */
+	void add(IFigure child, int index, List<? extends IFigure> children) {
+		hook(child);
+		if (index == -1 || index == children.size() - 1) {
+			order.put(child, Integer.valueOf(nextOrder++));
+		} else {
+			nextOrder = 0;
+			children.forEach(f -> order.put(f, Integer.valueOf(nextOrder++)));
+		}
+		update(child);
+	}
+
+	/**
+	 * Unregisters all children and removes the listeners.
+	 */
+	void dispose() {
+		order.keySet().forEach(this::unhook);
+		order.clear();
+		invalid.clear();
+		grid.clear();
+		if (parts != null)
+			parts.clear();
+	}
+
+	/**
+	 * @see FigureListener#figureMoved(IFigure)
+	 */
+	@Override
+	public void figureMoved(IFigure source) {
+		if (order.containsKey(source))
+			update(source);
+	}
+
+	/**
+	 * Returns the children which may contain the given point, topmost child
+	 * first.
+	 * 
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @return the children near the given point in reverse paint order
+	 */
+	List<IFigure> getChildrenAt(int x, int y) {
+		updateInvalid();
+		List<Object> items = new ArrayList<>();
+		grid.query(x, y, items);
+		List<IFigure> result = toChildren(items);
+		if (result.size() > 1)
+			result.sort((f1, f2) -> Integer.compare(getOrder(f2), getOrder(f1)));
+		return result;
+	}
+
+	/**
+	 * Returns the children whose bounds intersect the given rectangle, in paint
+	 * order.
+	 * 
+	 * @param rect the rectangle
+	 * @return the children intersecting the given rectangle
+	 */
+	List<IFigure> getChildrenIntersecting(Rectangle rect) {
+		updateInvalid();
+		List<Object> items = new ArrayList<>();
+		grid.query(rect, items);
+		List<IFigure> result = toChildren(items);
+		if (result.size() > 1)
+			result.sort((f1, f2) -> Integer.compare(getOrder(f1), getOrder(f2)));
+		return result;
+	}
+
+	private int getOrder(IFigure child) {
+		return order.get(child).intValue();
+	}
+
+	private void hook(IFigure child) {
+		child.addFigureListener(this);
+	}
+
+	/**
+	 * Marks the area covered by the given child as changed. The child is
+	 * registered again before the next query.
+	 * 
+	 * @param child the changed child
+	 */
+	void invalidate(IFigure child) {
+		if (order.containsKey(child))
+			invalid.add(child);
+	}
+
+	private boolean isIndexedBySegments(IFigure child) {
+		return parts != null && child instanceof Connection && child instanceof Polyline;
+	}
+
+	/**
+	 * Unregisters the given child.
+	 * 
+	 * @param child the removed child
+	 */
+	void remove(IFigure child) {
+		unhook(child);
+		order.remove(child);
+		invalid.remove(child);
+		grid.remove(child);
+		removeParts(child);
+	}
+
+	private void removeParts(IFigure connection) {
+		List<Part> old = parts == null ? null : parts.remove(connection);
+		if (old != null)
+			old.forEach(grid::remove);
+	}
+
+	/**
+	 * Maps the found items to the children they belong to. A connection is
+	 * returned once, even if several of its parts were found.
+	 */
+	private List<IFigure> toChildren(List<Object> items) {
+		List<IFigure> result = new ArrayList<>(items.size());
+		Set<IFigure> connections = null;
+		for (Object item : items) {
+			if (item instanceof Part part) {
+				if (connections == null)
+					connections = Collections.newSetFromMap(new IdentityHashMap<>());
+				if (connections.add(part.connection))
+					result.add(part.connection);
+			} else
+				result.add((IFigure) item);
+		}
+		return result;
+	}
+
+	private void unhook(IFigure child) {
+		child.removeFigureListener(this);
+	}
+
+	private void update(IFigure child) {
+		if (isIndexedBySegments(child))
+			updateParts((Polyline) child);
+		else
+			grid.put(child, tmp.setBounds(child.getBounds()).expand(HIT_TOLERANCE, HIT_TOLERANCE));
+	}
+
+	private void updateInvalid() {
+		if (invalid.isEmpty())
+			return;
+		invalid.forEach(this::update);
+		invalid.clear();
+	}
+
+	/**
+	 * Registers the segments of the given connection, split into pieces no longer
+	 * than a grid cell, and the bounds of its children, such as decorations and
+	 * labels. The segments are expanded by the connection's tolerance or half its
+	 * line width, whichever is larger.
+	 */
+	private void updateParts(Polyline connection) {
+		removeParts(connection);
+		List<Part> list = new ArrayList<>();
+		int expand = Math.max(connection.getTolerance(), (int) Math.ceil(connection.getLineWidthFloat() / 2));
+		PointList points = connection.getPoints();
+		int[] coordinates = points.toIntArray();
+		for (int i = 0; i < points.size() - 1; i++) {
+			int x1 = coordinates[i * 2], y1 = coordinates[i * 2 + 1];
+			int dx = coordinates[i * 2 + 2] - x1, dy = coordinates[i * 2 + 3] - y1;
+			int pieces = Math.max(1, (Math.max(Math.abs(dx), Math.abs(dy)) + CELL_SIZE - 1) / CELL_SIZE);
+			int startX = x1, startY = y1;
+			for (int j = 1; j <= pieces; j++) {
+				int endX = x1 + (int) ((long) dx * j / pieces);
+				int endY = y1 + (int) ((long) dy * j / pieces);
+				tmp.setBounds(Math.min(startX, endX), Math.min(startY, endY), Math.abs(endX - startX) + 1,
+						Math.abs(endY - startY) + 1);
+				addPart(connection, tmp.expand(expand, expand), list);
+				startX = endX;
+				startY = endY;
+			}
+		}
+		if (points.size() == 1) {
+			tmp.setBounds(coordinates[0], coordinates[1], 1, 1);
+			addPart(connection, tmp.expand(expand, expand), list);
+		}
+		connection.getChildren()
+				.forEach(child -> addPart(connection, tmp.setBounds(child.getBounds()).expand(1, 1), list));
+		parts.put(connection, list);
+	}
+
+	private void addPart(IFigure connection, Rectangle bounds, List<Part> list) {
+		Part part = new Part(connection);
+		grid.put(part, bounds);
+		list.add(part);
+	}
+
+}
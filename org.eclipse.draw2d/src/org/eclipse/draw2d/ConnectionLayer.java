@@ -12,11 +12,30 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.swt.SWT;
 
 /**
  * Layer designed specifically to handle the presence of connections. This is
  * done due to the necessity of having a router for the connections added.
+ * <P>
+ * The layer keeps track of its {@link PolylineConnection PolylineConnections}
+ * which have been revalidated, for instance because one of their anchors has
+ * moved. When the layer is validated, only these connections are routed, and
+ * all connections sharing a router are passed to
+ * {@link ConnectionRouter#routeAll(java.util.Collection)} in a single batch.
+ * <P>
+ * When the {@link #setSpatialIndexEnabled(boolean) spatial index} of this layer
+ * is enabled, it indexes {@link PolylineConnection PolylineConnections} by the
+ * segments of their points and the bounds of their decorations, so that finding
+ * the connection at a location and painting only visit the connections passing
+ * near the location or the clip. The index is disabled by default.
  */
 public class ConnectionLayer extends FreeformLayer {
 
@@ -27,6 +46,8 @@ public class ConnectionLayer extends FreeformLayer {
 	 */
 	protected ConnectionRouter connectionRouter;
 
+	private final Set<PolylineConnection> invalidConnections = new LinkedHashSet<>();
+
 	/**
 	 * Adds the given figure with the given contraint at the given index. If the
 	 * figure is a {@link Connection}, its {@link ConnectionRouter} is set.
@@ -46,6 +67,21 @@ public class ConnectionLayer extends FreeformLayer {
 			((Connection) figure).setConnectionRouter(getConnectionRouter());
 	}
 
+	/**
+	 * Adds a child connection whose route has been invalidated. The connection is
+	 * routed during the next validation of this layer.
+	 * 
+	 * @param connection the invalid connection
+	 */
+	void addInvalidConnection(PolylineConnection connection) {
+		invalidConnections.add(connection);
+	}
+
+	@Override
+	ChildrenIndex createChildrenIndex(List<? extends IFigure> list) {
+		return new ChildrenIndex(list, true);
+	}
+
 	/**
 	 * Returns the ConnectionRouter being used by this layer.
 	 * 
@@ -56,6 +92,18 @@ public class ConnectionLayer extends FreeformLayer {
 		return connectionRouter;
 	}
 
+	/**
+	 * Registers the area covered by the given child connection again in the
+	 * {@link #setSpatialIndexEnabled(boolean) spatial index}, if it is enabled.
+	 * 
+	 * @param connection the changed connection
+	 */
+	void invalidateIndex(IFigure connection) {
+		ChildrenIndex index = getChildrenIndex();
+		if (index != null)
+			index.invalidate(connection);
+	}
+
 	/**
 	 * @see IFigure#paint(Graphics)
 	 */
@@ -74,11 +122,37 @@ public class ConnectionLayer extends FreeformLayer {
 	 */
 	@Override
 	public void remove(IFigure figure) {
+		invalidConnections.remove(figure);
 		if (figure instanceof Connection)
 			((Connection) figure).setConnectionRouter(null);
 		super.remove(figure);
 	}
 
+	/**
+	 * Routes the invalid connections in batches, one per router. Routing may
+	 * revalidate further connections, which are routed in a subsequent batch. Each
+	 * connection is routed at most once per validation.
+	 */
+	private void routeInvalidConnections() {
+		Set<PolylineConnection> routed = new LinkedHashSet<>();
+		while (!invalidConnections.isEmpty()) {
+			Map<ConnectionRouter, List<Connection>> batches = new LinkedHashMap<>();
+			for (PolylineConnection connection : invalidConnections) {
+				if (connection.getParent() != this || connection.isValid() || connection.getSourceAnchor() == null
+						|| connection.getTargetAnchor() == null || !routed.add(connection))
+					continue;
+				batches.computeIfAbsent(connection.getRouter(), router -> new ArrayList<>()).add(connection);
+			}
+			invalidConnections.clear();
+			batches.forEach(ConnectionRouter::routeAll);
+		}
+		// The connections must not be routed again when they are laid out
+		routed.forEach(connection -> {
+			connection.isRouted = true;
+			invalidateIndex(connection);
+		});
+	}
+
 	/**
 	 * Sets the ConnectionRouter for this layer. This router is set as the
 	 * ConnectionRouter for all the child connections of this Layer.
@@ -107,4 +181,17 @@ public class ConnectionLayer extends FreeformLayer {
 		this.antialias = antialias;
 	}
 
+	/**
+	 * Routes the connections which have been revalidated since the last
+	 * validation before validating this layer and its children.
+	 * 
+	 * @see IFigure#validate()
+	 */
+	@Override
+	public void validate() {
+		if (!isValid())
+			routeInvalidConnections();
+		super.validate();
+	}
+
 }
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.Collection;
+
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 
@@ -45,6 +47,19 @@ public interface ConnectionRouter {
 	 */
 	void route(Connection connection);
 
+	/**
+	 * Routes all the given Connections. This is called by a
+	 * {@link ConnectionLayer} with all of its invalid connections using this
+	 * router, so that routers can share work across the batch. The default
+	 * implementation routes each connection separately.
+	 * 
+	 * @param connections The Connections to route
+	 * @since 3.15
+	 */
+	default void routeAll(Collection<? extends Connection> connections) {
+		connections.forEach(this::route);
+	}
+
 	/**
 	 * Removes the Connection from this router.
 	 * 
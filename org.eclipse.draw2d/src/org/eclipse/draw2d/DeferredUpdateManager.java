@@ -11,10 +11,12 @@
 package org.eclipse.draw2d;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -46,11 +48,19 @@ public class DeferredUpdateManager extends UpdateManager {
 		}
 	}
 
+	/**
+	 * The factor by which the union of two damaged regions may exceed the sum of
+	 * their areas before they are kept apart when multi-region repair is enabled.
+	 */
+	private static final float REGION_MERGE_FACTOR = 1.25f;
+
 	private Rectangle damage;
 	private Map<IFigure, Rectangle> dirtyRegions = new HashMap<>();
+	private int maxDamageRegions = 1;
 
 	private GraphicsSource graphicsSource;
-	private List invalidFigures = new ArrayList();
+	private List<IFigure> invalidFigures = new ArrayList<>();
+	private Set<IFigure> queuedFigures = new HashSet<>();
 	private IFigure root;
 	private boolean updateQueued;
 
@@ -117,18 +127,80 @@ public class DeferredUpdateManager extends UpdateManager {
 
 	/**
 	 * Adds the given figure to the update queue. Invalid figures will be validated
-	 * before the damaged regions are repainted.
+	 * before the damaged regions are repainted. A figure which is already queued is
+	 * ignored.
 	 * 
 	 * @param f the invalid figure
 	 */
 	@Override
 	public synchronized void addInvalidFigure(IFigure f) {
-		if (invalidFigures.contains(f))
+		if (!queuedFigures.add(f))
 			return;
 		queueWork();
 		invalidFigures.add(f);
 	}
 
+	/**
+	 * Adds the given region to the list of disjoint damaged regions. The region is
+	 * merged with every region it intersects, or whose union with it is not
+	 * significantly larger than the two regions together. If the list grows beyond
+	 * {@link #getMaxDamageRegions()}, the two regions wasting the least area when
+	 * merged are combined.
+	 * 
+	 * @param regions the list of disjoint regions
+	 * @param region  the region to add
+	 */
+	private void addDamageRegion(List<Rectangle> regions, Rectangle region) {
+		boolean merged;
+		do {
+			merged = false;
+			for (int i = 0; i < regions.size(); i++) {
+				Rectangle existing = regions.get(i);
+				if (existing.intersects(region) || getMergeWaste(existing, region) <= 0) {
+					region.union(existing);
+					regions.remove(i);
+					merged = true;
+					break;
+				}
+			}
+		} while (merged);
+		regions.add(region);
+
+		if (regions.size() > maxDamageRegions) {
+			int first = 0;
+			int second = 1;
+			long leastWaste = Long.MAX_VALUE;
+			for (int i = 0; i < regions.size(); i++) {
+				for (int j = i + 1; j < regions.size(); j++) {
+					long waste = getMergeWaste(regions.get(i), regions.get(j));
+					if (waste < leastWaste) {
+						leastWaste = waste;
+						first = i;
+						second = j;
+					}
+				}
+			}
+			Rectangle union = regions.remove(second);
+			union.union(regions.remove(first));
+			addDamageRegion(regions, union);
+		}
+	}
+
+	private static long getArea(Rectangle r) {
+		return (long) r.width * r.height;
+	}
+
+	/**
+	 * Returns the area that would be painted needlessly if the two regions were
+	 * merged, taking the tolerated {@link #REGION_MERGE_FACTOR} into account. A
+	 * result less than or equal to zero means the regions should be merged.
+	 */
+	private static long getMergeWaste(Rectangle r1, Rectangle r2) {
+		long unionArea = (long) (Math.max(r1.right(), r2.right()) - Math.min(r1.x, r2.x))
+				* (Math.max(r1.bottom(), r2.bottom()) - Math.min(r1.y, r2.y));
+		return unionArea - (long) ((getArea(r1) + getArea(r2)) * REGION_MERGE_FACTOR);
+	}
+
 	/**
 	 * Returns a Graphics object for the given region.
 	 * 
@@ -141,6 +213,18 @@ public class DeferredUpdateManager extends UpdateManager {
 		return graphicsSource.getGraphics(region);
 	}
 
+	/**
+	 * Returns the maximum number of disjoint regions painted during a single
+	 * damage repair.
+	 * 
+	 * @return the maximum number of damaged regions
+	 * @see #setMaxDamageRegions(int)
+	 * @since 3.15
+	 */
+	public int getMaxDamageRegions() {
+		return maxDamageRegions;
+	}
+
 	/**
 	 * @since 3.10
 	 */
@@ -206,18 +290,28 @@ public class DeferredUpdateManager extends UpdateManager {
 	public synchronized void performValidation() {
 		if (invalidFigures.isEmpty() || validating)
 			return;
+		UpdateMetrics metrics = getMetrics();
+		long start = metrics != null ? System.nanoTime() : 0;
+		int count = 0;
 		try {
-			IFigure fig;
 			validating = true;
 			fireValidating();
-			for (int i = 0; i < invalidFigures.size(); i++) {
-				fig = (IFigure) invalidFigures.get(i);
-				invalidFigures.set(i, null);
-				fig.validate();
+			while (!invalidFigures.isEmpty()) {
+				// Figures invalidated during validation are queued for the next pass
+				List<IFigure> pass = invalidFigures;
+				invalidFigures = new ArrayList<>();
+				queuedFigures.clear();
+				sortTopDown(pass);
+				for (IFigure fig : pass)
+					fig.validate();
+				count += pass.size();
 			}
 		} finally {
 			invalidFigures.clear();
+			queuedFigures.clear();
 			validating = false;
+			if (metrics != null)
+				metrics.recordValidation(System.nanoTime() - start, count);
 		}
 	}
 
@@ -270,9 +364,29 @@ public class DeferredUpdateManager extends UpdateManager {
 	/**
 	 * Repaints the dirty regions on the update queue and calls
 	 * {@link UpdateManager#firePainting(Rectangle, Map)}, unless there are no dirty
-	 * regions.
+	 * regions. If more than one damaged region is allowed, the dirty regions are
+	 * collected into a small set of disjoint rectangles, each of which is painted
+	 * separately.
+	 * 
+	 * @see #setMaxDamageRegions(int)
 	 */
 	protected void repairDamage() {
+		UpdateMetrics metrics = getMetrics();
+		if (metrics == null) {
+			primRepairDamage(null);
+			return;
+		}
+		long start = System.nanoTime();
+		metrics.repairStarted();
+		try {
+			primRepairDamage(metrics);
+		} finally {
+			metrics.recordRepair(System.nanoTime() - start);
+		}
+	}
+
+	private void primRepairDamage(UpdateMetrics metrics) {
+		List<Rectangle> regions = maxDamageRegions > 1 ? new ArrayList<>() : null;
 		dirtyRegions.forEach((figure, contribution) -> {
 			IFigure walker = figure.getParent();
 			// A figure can't paint beyond its own bounds
@@ -286,6 +400,8 @@ public class DeferredUpdateManager extends UpdateManager {
 				damage = new Rectangle(contribution);
 			else
 				damage.union(contribution);
+			if (regions != null && !contribution.isEmpty())
+				addDamageRegion(regions, new Rectangle(contribution));
 		});
 
 		if (!dirtyRegions.isEmpty()) {
@@ -295,16 +411,35 @@ public class DeferredUpdateManager extends UpdateManager {
 		}
 
 		if (damage != null && !damage.isEmpty()) {
-			// ystem.out.println(damage);
-			Graphics graphics = getGraphics(damage);
-			if (graphics != null) {
-				root.paint(graphics);
-				releaseGraphics(graphics);
+			if (regions != null && regions.size() > 1) {
+				for (Rectangle region : regions) {
+					damage = region;
+					repairRegion(region);
+					if (metrics != null)
+						metrics.recordDamage(region);
+				}
+			} else {
+				repairRegion(damage);
+				if (metrics != null)
+					metrics.recordDamage(damage);
 			}
 		}
 		damage = null;
 	}
 
+	/**
+	 * Paints the root figure clipped to the given region.
+	 * 
+	 * @param region the region to repaint
+	 */
+	private void repairRegion(Rectangle region) {
+		Graphics graphics = getGraphics(region);
+		if (graphics != null) {
+			root.paint(graphics);
+			releaseGraphics(graphics);
+		}
+	}
+
 	/**
 	 * Adds the given runnable and queues an update if an update is not under
 	 * progress.
@@ -328,6 +463,23 @@ public class DeferredUpdateManager extends UpdateManager {
 		graphicsSource = gs;
 	}
 
+	/**
+	 * Sets the maximum number of disjoint regions painted during a single damage
+	 * repair. By default, all dirty regions are unioned into one rectangle which is
+	 * then painted at once. With a value greater than one, dirty regions are only
+	 * merged if they overlap or if their union is not much larger than the regions
+	 * themselves. Each of the resulting regions is then painted with its own clip,
+	 * so that far apart changes don't cause everything in between to be repainted.
+	 * 
+	 * @param count the maximum number of damaged regions, at least one
+	 * @since 3.15
+	 */
+	public void setMaxDamageRegions(int count) {
+		if (count < 1)
+			throw new IllegalArgumentException();
+		maxDamageRegions = count;
+	}
+
 	/**
 	 * Sets the root figure.
 	 * 
@@ -338,6 +490,26 @@ public class DeferredUpdateManager extends UpdateManager {
 		root = figure;
 	}
 
+	/**
+	 * Sorts the given figures such that ancestors precede their descendants. When
+	 * the descendants are validated, they have usually been validated by their
+	 * ancestors already, so their layout is not performed a second time.
+	 * 
+	 * @param figures the figures to sort
+	 */
+	private static void sortTopDown(List<IFigure> figures) {
+		if (figures.size() < 2)
+			return;
+		Map<IFigure, Integer> depths = new HashMap<>();
+		for (IFigure figure : figures) {
+			int depth = 0;
+			for (IFigure f = figure.getParent(); f != null; f = f.getParent())
+				depth++;
+			depths.put(figure, Integer.valueOf(depth));
+		}
+		figures.sort(Comparator.comparing(depths::get));
+	}
+
 	/**
 	 * Validates all invalid figures on the update queue and calls
 	 * {@link UpdateManager#fireValidating()} unless there are no invalid figures.
@@ -0,0 +1,513 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.LineAttributes;
+import org.eclipse.swt.graphics.Path;
+import org.eclipse.swt.graphics.Pattern;
+import org.eclipse.swt.graphics.Resource;
+import org.eclipse.swt.graphics.TextLayout;
+
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A recorded stream of paint commands, which can be replayed onto any
+ * {@link Graphics}. Display lists are created using a {@link RecordingGraphics}.
+ * <P>
+ * The commands are stored in a single <code>int[]</code>, with strings, colors,
+ * fonts and other objects kept in a separate table. Every drawing command
+ * carries its bounds in the coordinates in which it was recorded. During
+ * {@link #play(Graphics)}, drawing commands which lie completely outside of the
+ * clip of the target graphics are skipped. Display lists may be nested using
+ * {@link RecordingGraphics#drawDisplayList(DisplayList)}, which allows clients
+ * to keep the display lists of unchanged parts of a drawing and reuse them.
+ * <P>
+ * Fonts, images, paths and text layouts are copied during recording, so that
+ * figures may dispose of them as soon as they have painted. These copies are
+ * released by {@link #dispose()}. Colors and patterns are referenced, not
+ * copied, and must remain undisposed as long as the display list is used.
+ *
+ * @since 3.15
+ */
+public final class DisplayList {
+
+	// Commands which change the clip or the coordinate system
+	static final int CLIP_RECT = 0;
+	static final int SET_CLIP = 1;
+	static final int CLIP_PATH = 2;
+	static final int SET_CLIP_PATH = 3;
+	static final int POP_STATE = 4;
+	static final int RESTORE_STATE = 5;
+	static final int TRANSLATE = 6;
+	static final int TRANSLATE_FLOAT = 7;
+	static final int SCALE = 8;
+	static final int SCALE_FLOAT = 9;
+	static final int ROTATE = 10;
+	static final int SHEAR = 11;
+
+	// Commands which change other attributes
+	static final int PUSH_STATE = 20;
+	static final int SET_ADVANCED = 21;
+	static final int SET_ALPHA = 22;
+	static final int SET_ANTIALIAS = 23;
+	static final int SET_BACKGROUND_COLOR = 24;
+	static final int SET_BACKGROUND_PATTERN = 25;
+	static final int SET_FILL_RULE = 26;
+	static final int SET_FONT = 27;
+	static final int SET_FOREGROUND_COLOR = 28;
+	static final int SET_FOREGROUND_PATTERN = 29;
+	static final int SET_INTERPOLATION = 30;
+	static final int SET_LINE_ATTRIBUTES = 31;
+	static final int SET_LINE_CAP = 32;
+	static final int SET_LINE_DASH = 33;
+	static final int SET_LINE_DASH_FLOAT = 34;
+	static final int SET_LINE_DASH_OFFSET = 35;
+	static final int SET_LINE_JOIN = 36;
+	static final int SET_LINE_MITER_LIMIT = 37;
+	static final int SET_LINE_STYLE = 38;
+	static final int SET_LINE_WIDTH = 39;
+	static final int SET_LINE_WIDTH_FLOAT = 40;
+	static final int SET_TEXT_ANTIALIAS = 41;
+	static final int SET_XOR_MODE = 42;
+
+	// Drawing commands, which are followed by their bounds
+	static final int FIRST_DRAWING_COMMAND = 50;
+	static final int DRAW_ARC = 50;
+	static final int DRAW_FOCUS = 51;
+	static final int DRAW_IMAGE = 52;
+	static final int DRAW_IMAGE_SCALED = 53;
+	static final int DRAW_LINE = 54;
+	static final int DRAW_OVAL = 55;
+	static final int DRAW_PATH = 56;
+	static final int DRAW_POINT = 57;
+	static final int DRAW_POLYGON = 58;
+	static final int DRAW_POLYLINE = 59;
+	static final int DRAW_RECTANGLE = 60;
+	static final int DRAW_ROUND_RECTANGLE = 61;
+	static final int DRAW_STRING = 62;
+	static final int DRAW_TEXT = 63;
+	static final int DRAW_TEXT_STYLE = 64;
+	static final int DRAW_TEXT_LAYOUT = 65;
+	static final int FILL_ARC = 66;
+	static final int FILL_GRADIENT = 67;
+	static final int FILL_OVAL = 68;
+	static final int FILL_PATH = 69;
+	static final int FILL_POLYGON = 70;
+	static final int FILL_RECTANGLE = 71;
+	static final int FILL_ROUND_RECTANGLE = 72;
+	static final int FILL_STRING = 73;
+	static final int FILL_TEXT = 74;
+	static final int DISPLAY_LIST = 75;
+
+	private int[] code = new int[64];
+	private int codeSize;
+	private Object[] objects = new Object[16];
+	private int objectCount;
+	private int commandCount;
+	private final List<Resource> resources = new ArrayList<>();
+	private Rectangle bounds;
+	private boolean unbounded;
+	private int start;
+
+	/**
+	 * Constructs an empty display list.
+	 */
+	DisplayList() {
+	}
+
+	void addResource(Resource resource) {
+		resources.add(resource);
+	}
+
+	/**
+	 * Starts a new command.
+	 *
+	 * @param command the command type
+	 */
+	void begin(int command) {
+		start = codeSize;
+		write(command);
+		write(0);
+	}
+
+	/**
+	 * Starts a new drawing command.
+	 *
+	 * @param command the command type
+	 * @param area    the bounds of the command in recording coordinates, or
+	 *                <code>null</code> if they are not known
+	 * @param extent  the bounds of the command in the root coordinates of the
+	 *                recording, or <code>null</code> if they are not known
+	 */
+	void begin(int command, Rectangle area, Rectangle extent) {
+		begin(command);
+		if (area == null) {
+			write(0);
+			write(0);
+			write(-1);
+			write(-1);
+		} else {
+			write(area.x);
+			write(area.y);
+			write(area.width);
+			write(area.height);
+		}
+		if (extent == null)
+			unbounded = true;
+		else if (bounds == null)
+			bounds = extent.getCopy();
+		else
+			bounds.union(extent);
+	}
+
+	/**
+	 * Finishes the current command by storing its length.
+	 */
+	void end() {
+		code[start + 1] = codeSize - start;
+		commandCount++;
+	}
+
+	/**
+	 * Releases the fonts, images, paths and text layouts which have been copied
+	 * during recording. The display list can not be played afterwards.
+	 */
+	public void dispose() {
+		resources.forEach(Resource::dispose);
+		resources.clear();
+	}
+
+	/**
+	 * Returns the union of the bounds of all drawing commands in the coordinates
+	 * in which the recording started, or <code>null</code> if the bounds of at
+	 * least one command are not known, for example because it has been drawn in a
+	 * rotated coordinate system.
+	 *
+	 * @return the bounds, or <code>null</code>
+	 */
+	public Rectangle getBounds() {
+		if (unbounded)
+			return null;
+		return bounds == null ? new Rectangle() : bounds.getCopy();
+	}
+
+	/**
+	 * Returns whether no commands have been recorded.
+	 *
+	 * @return <code>true</code> if this display list is empty
+	 */
+	public boolean isEmpty() {
+		return commandCount == 0;
+	}
+
+	private static boolean isClipChange(int command) {
+		return command < PUSH_STATE;
+	}
+
+	/**
+	 * Replays all commands onto the given graphics. Drawing commands which do not
+	 * intersect with the clip of the graphics are skipped. The state of the
+	 * graphics is changed as if the commands had been performed on it directly.
+	 *
+	 * @param g the target graphics
+	 */
+	public void play(Graphics g) {
+		Rectangle clip = new Rectangle();
+		boolean clipValid = false;
+		int pc = 0;
+		while (pc < codeSize) {
+			int command = code[pc];
+			int next = pc + code[pc + 1];
+			int i = pc + 2;
+			if (command >= FIRST_DRAWING_COMMAND) {
+				int x = code[i++], y = code[i++], w = code[i++], h = code[i++];
+				if (w >= 0) {
+					if (!clipValid) {
+						g.getClip(clip);
+						clipValid = true;
+					}
+					if (x >= clip.x + clip.width || y >= clip.y + clip.height || x + w <= clip.x
+							|| y + h <= clip.y) {
+						pc = next;
+						continue;
+					}
+				}
+			} else if (isClipChange(command)) {
+				clipValid = false;
+			}
+			play(g, command, i);
+			pc = next;
+		}
+	}
+
+	private void play(Graphics g, int command, int i) {
+		int[] c = code;
+		switch (command) {
+		case CLIP_RECT:
+			g.clipRect(new Rectangle(c[i], c[i + 1], c[i + 2], c[i + 3]));
+			break;
+		case SET_CLIP:
+			g.setClip(new Rectangle(c[i], c[i + 1], c[i + 2], c[i + 3]));
+			break;
+		case CLIP_PATH:
+			g.clipPath((Path) objects[c[i]]);
+			break;
+		case SET_CLIP_PATH:
+			g.setClip((Path) objects[c[i]]);
+			break;
+		case POP_STATE:
+			g.popState();
+			break;
+		case RESTORE_STATE:
+			g.restoreState();
+			break;
+		case TRANSLATE:
+			g.translate(c[i], c[i + 1]);
+			break;
+		case TRANSLATE_FLOAT:
+			g.translate(Float.intBitsToFloat(c[i]), Float.intBitsToFloat(c[i + 1]));
+			break;
+		case SCALE:
+			g.scale(Double.longBitsToDouble(((long) c[i] << 32) | (c[i + 1] & 0xFFFFFFFFL)));
+			break;
+		case SCALE_FLOAT:
+			g.scale(Float.intBitsToFloat(c[i]), Float.intBitsToFloat(c[i + 1]));
+			break;
+		case ROTATE:
+			g.rotate(Float.intBitsToFloat(c[i]));
+			break;
+		case SHEAR:
+			g.shear(Float.intBitsToFloat(c[i]), Float.intBitsToFloat(c[i + 1]));
+			break;
+		case PUSH_STATE:
+			g.pushState();
+			break;
+		case SET_ADVANCED:
+			g.setAdvanced(c[i] != 0);
+			break;
+		case SET_ALPHA:
+			g.setAlpha(c[i]);
+			break;
+		case SET_ANTIALIAS:
+			g.setAntialias(c[i]);
+			break;
+		case SET_BACKGROUND_COLOR:
+			g.setBackgroundColor((Color) objects[c[i]]);
+			break;
+		case SET_BACKGROUND_PATTERN:
+			g.setBackgroundPattern((Pattern) objects[c[i]]);
+			break;
+		case SET_FILL_RULE:
+			g.setFillRule(c[i]);
+			break;
+		case SET_FONT:
+			g.setFont((Font) objects[c[i]]);
+			break;
+		case SET_FOREGROUND_COLOR:
+			g.setForegroundColor((Color) objects[c[i]]);
+			break;
+		case SET_FOREGROUND_PATTERN:
+			g.setForegroundPattern((Pattern) objects[c[i]]);
+			break;
+		case SET_INTERPOLATION:
+			g.setInterpolation(c[i]);
+			break;
+		case SET_LINE_ATTRIBUTES:
+			g.setLineAttributes((LineAttributes) objects[c[i]]);
+			break;
+		case SET_LINE_CAP:
+			g.setLineCap(c[i]);
+			break;
+		case SET_LINE_DASH:
+			g.setLineDash((int[]) objects[c[i]]);
+			break;
+		case SET_LINE_DASH_FLOAT:
+			g.setLineDash((float[]) objects[c[i]]);
+			break;
+		case SET_LINE_DASH_OFFSET:
+			g.setLineDashOffset(Float.intBitsToFloat(c[i]));
+			break;
+		case SET_LINE_JOIN:
+			g.setLineJoin(c[i]);
+			break;
+		case SET_LINE_MITER_LIMIT:
+			g.setLineMiterLimit(Float.intBitsToFloat(c[i]));
+			break;
+		case SET_LINE_STYLE:
+			g.setLineStyle(c[i]);
+			break;
+		case SET_LINE_WIDTH:
+			g.setLineWidth(c[i]);
+			break;
+		case SET_LINE_WIDTH_FLOAT:
+			g.setLineWidthFloat(Float.intBitsToFloat(c[i]));
+			break;
+		case SET_TEXT_ANTIALIAS:
+			g.setTextAntialias(c[i]);
+			break;
+		case SET_XOR_MODE:
+			g.setXORMode(c[i] != 0);
+			break;
+		case DRAW_ARC:
+			g.drawArc(c[i], c[i + 1], c[i + 2], c[i + 3], c[i + 4], c[i + 5]);
+			break;
+		case DRAW_FOCUS:
+			g.drawFocus(c[i], c[i + 1], c[i + 2], c[i + 3]);
+			break;
+		case DRAW_IMAGE:
+			g.drawImage((Image) objects[c[i]], c[i + 1], c[i + 2]);
+			break;
+		case DRAW_IMAGE_SCALED:
+			g.drawImage((Image) objects[c[i]], c[i + 1], c[i + 2], c[i + 3], c[i + 4], c[i + 5], c[i + 6],
+					c[i + 7], c[i + 8]);
+			break;
+		case DRAW_LINE:
+			g.drawLine(c[i], c[i + 1], c[i + 2], c[i + 3]);
+			break;
+		case DRAW_OVAL:
+			g.drawOval(c[i], c[i + 1], c[i + 2], c[i + 3]);
+			break;
+		case DRAW_PATH:
+			g.drawPath((Path) objects[c[i]]);
+			break;
+		case DRAW_POINT:
+			g.drawPoint(c[i], c[i + 1]);
+			break;
+		case DRAW_POLYGON:
+			g.drawPolygon(readPoints(i));
+			break;
+		case DRAW_POLYLINE:
+			g.drawPolyline(readPoints(i));
+			break;
+		case DRAW_RECTANGLE:
+			g.drawRectangle(c[i], c[i + 1], c[i + 2], c[i + 3]);
+			break;
+		case DRAW_ROUND_RECTANGLE:
+			g.drawRoundRectangle(new Rectangle(c[i], c[i + 1], c[i + 2], c[i + 3]), c[i + 4], c[i + 5]);
+			break;
+		case DRAW_STRING:
+			g.drawString((String) objects[c[i]], c[i + 1], c[i + 2]);
+			break;
+		case DRAW_TEXT:
+			g.drawText((String) objects[c[i]], c[i + 1], c[i + 2]);
+			break;
+		case DRAW_TEXT_STYLE:
+			g.drawText((String) objects[c[i]], c[i + 1], c[i + 2], c[i + 3]);
+			break;
+		case DRAW_TEXT_LAYOUT:
+			g.drawTextLayout((TextLayout) objects[c[i]], c[i + 1], c[i + 2], c[i + 3], c[i + 4],
+					(Color) objects[c[i + 5]], (Color) objects[c[i + 6]]);
+			break;
+		case FILL_ARC:
+			g.fillArc(c[i], c[i + 1], c[i + 2], c[i + 3], c[i + 4], c[i + 5]);
+			break;
+		case FILL_GRADIENT:
+			g.fillGradient(c[i], c[i + 1], c[i + 2], c[i + 3], c[i + 4] != 0);
+			break;
+		case FILL_OVAL:
+			g.fillOval(c[i], c[i + 1], c[i + 2], c[i + 3]);
+			break;
+		case FILL_PATH:
+			g.fillPath((Path) objects[c[i]]);
+			break;
+		case FILL_POLYGON:
+			g.fillPolygon(readPoints(i));
+			break;
+		case FILL_RECTANGLE:
+			g.fillRectangle(c[i], c[i + 1], c[i + 2], c[i + 3]);
+			break;
+		case FILL_ROUND_RECTANGLE:
+			g.fillRoundRectangle(new Rectangle(c[i], c[i + 1], c[i + 2], c[i + 3]), c[i + 4], c[i + 5]);
+			break;
+		case FILL_STRING:
+			g.fillString((String) objects[c[i]], c[i + 1], c[i + 2]);
+			break;
+		case FILL_TEXT:
+			g.fillText((String) objects[c[i]], c[i + 1], c[i + 2]);
+			break;
+		case DISPLAY_LIST:
+			DisplayList list = (DisplayList) objects[c[i]];
+			if (g instanceof RecordingGraphics) {
+				((RecordingGraphics) g).drawDisplayList(list);
+			} else {
+				g.pushState();
+				list.play(g);
+				g.popState();
+			}
+			break;
+		default:
+			throw new IllegalStateException("Unknown command: " + command); //$NON-NLS-1$
+		}
+	}
+
+	private PointList readPoints(int i) {
+		int length = code[i];
+		return new PointList(Arrays.copyOfRange(code, i + 1, i + 1 + length));
+	}
+
+	/**
+	 * Returns the number of recorded commands, including commands which change the
+	 * state of the graphics.
+	 *
+	 * @return the number of commands
+	 */
+	public int size() {
+		return commandCount;
+	}
+
+	/**
+	 * Releases unused capacity after the recording has finished.
+	 */
+	void trim() {
+		code = Arrays.copyOf(code, codeSize);
+		objects = Arrays.copyOf(objects, objectCount);
+	}
+
+	void write(int value) {
+		if (codeSize == code.length)
+			code = Arrays.copyOf(code, Math.max(64, codeSize * 2));
+		code[codeSize++] = value;
+	}
+
+	void write(float value) {
+		write(Float.floatToIntBits(value));
+	}
+
+	void write(double value) {
+		long bits = Double.doubleToLongBits(value);
+		write((int) (bits >>> 32));
+		write((int) bits);
+	}
+
+	void write(int[] values) {
+		write(values.length);
+		if (codeSize + values.length > code.length)
+			code = Arrays.copyOf(code, Math.max(code.length * 2, codeSize + values.length));
+		System.arraycopy(values, 0, code, codeSize, values.length);
+		codeSize += values.length;
+	}
+
+	void writeObject(Object object) {
+		if (objectCount == objects.length)
+			objects = Arrays.copyOf(objects, Math.max(16, objectCount * 2));
+		objects[objectCount] = object;
+		write(objectCount++);
+	}
+
+}
@@ -122,6 +122,10 @@ public class Figure implements IFigure {
 	protected IFigure toolTip;
 
 	private AncestorHelper ancestorHelper;
+	private ChildrenIndex childrenIndex;
+	// Kept out of the flags, which are allocated upwards by subclasses
+	private boolean paintCached;
+	private byte detailLevel;
 
 	/**
 	 * Calls {@link #add(IFigure, Object, int)} with -1 as the index.
@@ -156,6 +160,8 @@ public class Figure implements IFigure {
 			children.add(figure);
 		else
 			children.add(index, figure);
+		if (childrenIndex != null)
+			childrenIndex.add(figure, index, children);
 		figure.setParent(this);
 
 		if (layoutManager != null)
@@ -326,6 +332,16 @@ public class Figure implements IFigure {
 		return getBounds().contains(x, y);
 	}
 
+	/**
+	 * Creates the spatial index over the given children.
+	 * 
+	 * @param list the children
+	 * @return the new index
+	 */
+	ChildrenIndex createChildrenIndex(List<? extends IFigure> list) {
+		return new ChildrenIndex(list);
+	}
+
 	/**
 	 * @see IFigure#erase()
 	 */
@@ -358,7 +374,7 @@ public class Figure implements IFigure {
 		x = PRIVATE_POINT.x;
 		y = PRIVATE_POINT.y;
 
-		for (IFigure fig : getChildrenRevIterable()) {
+		for (IFigure fig : getChildrenRevIterable(x, y)) {
 			if (fig.isVisible()) {
 				fig = fig.findFigureAt(x, y, search);
 				if (fig != null)
@@ -452,7 +468,7 @@ public class Figure implements IFigure {
 		if (!getClientArea(Rectangle.SINGLETON).contains(PRIVATE_POINT))
 			return null;
 
-		for (IFigure fig : getChildrenRevIterable()) {
+		for (IFigure fig : getChildrenRevIterable(PRIVATE_POINT.x, PRIVATE_POINT.y)) {
 			if (fig.isVisible() && fig.isEnabled() && fig.containsPoint(PRIVATE_POINT.x, PRIVATE_POINT.y)) {
 				fig = fig.findMouseEventTargetAt(PRIVATE_POINT.x, PRIVATE_POINT.y);
 				if (fig != null) {
@@ -592,6 +608,16 @@ public class Figure implements IFigure {
 		return children;
 	}
 
+	/**
+	 * Returns the spatial index over the children, or <code>null</code> if it is
+	 * not enabled.
+	 * 
+	 * @return the spatial index or <code>null</code>
+	 */
+	ChildrenIndex getChildrenIndex() {
+		return childrenIndex;
+	}
+
 	/**
 	 * Provide an iterable that will iterate in reverse over all children of this
 	 * figure.
@@ -602,6 +628,23 @@ public class Figure implements IFigure {
 		return () -> new ReverseFigureChildrenIterator(Figure.this);
 	}
 
+	/**
+	 * Returns the children which may contain the given point, in reverse order.
+	 * If the {@link #setSpatialIndexEnabled(boolean) spatial index} is enabled,
+	 * only the children near the point are returned, otherwise all children are.
+	 * The point is given in the coordinate system of the children.
+	 * 
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @return the candidate children, topmost child first
+	 * @since 3.15
+	 */
+	protected Iterable<IFigure> getChildrenRevIterable(int x, int y) {
+		if (childrenIndex != null)
+			return childrenIndex.getChildrenAt(x, y);
+		return getChildrenRevIterable();
+	}
+
 	/**
 	 * @see IFigure#getClientArea(Rectangle)
 	 */
@@ -729,6 +772,19 @@ public class Figure implements IFigure {
 		return eventListeners.getListenersIterable(listenerType);
 	}
 
+	/**
+	 * Returns the level of detail this Figure was last painted with. Subclasses
+	 * painting a cheaper representation at the simpler levels should query it
+	 * while painting.
+	 * 
+	 * @return one of the {@link LevelOfDetail} constants
+	 * @see #getSimplestDetailLevel()
+	 * @since 3.15
+	 */
+	protected int getDetailLevel() {
+		return detailLevel;
+	}
+
 	/**
 	 * Returns <code>null</code> or the local background Color of this Figure. Does
 	 * not inherit this Color from the parent.
@@ -837,6 +893,20 @@ public class Figure implements IFigure {
 		return getSize();
 	}
 
+	/**
+	 * Returns the simplest level of detail this Figure may be painted with when a
+	 * {@link LevelOfDetail} is in effect. The default is
+	 * {@link LevelOfDetail#FULL}, so the figure is always painted completely.
+	 * Subclasses which can do with a cheaper representation at small scales
+	 * should return a simpler level.
+	 *
+	 * @return one of the {@link LevelOfDetail} constants
+	 * @since 3.15
+	 */
+	protected int getSimplestDetailLevel() {
+		return LevelOfDetail.FULL;
+	}
+
 	/**
 	 * @see IFigure#getSize()
 	 */
@@ -1026,6 +1096,8 @@ public class Figure implements IFigure {
 	public void invalidate() {
 		if (layoutManager != null)
 			layoutManager.invalidate();
+		if (paintCached)
+			FigureImageCache.discard(this);
 		setValid(false);
 	}
 
@@ -1112,6 +1184,17 @@ public class Figure implements IFigure {
 		return isVisible() && (getParent() == null || getParent().isShowing());
 	}
 
+	/**
+	 * Returns whether this figure caches its rendering in an offscreen image.
+	 * 
+	 * @return <code>true</code> if paint caching is enabled
+	 * @see #setPaintCached(boolean)
+	 * @since 3.15
+	 */
+	public boolean isPaintCached() {
+		return paintCached;
+	}
+
 	/**
 	 * Returns <code>true</code> if this Figure is valid.
 	 * 
@@ -1134,6 +1217,17 @@ public class Figure implements IFigure {
 		return false;
 	}
 
+	/**
+	 * Returns whether this figure maintains a spatial index over its children.
+	 * 
+	 * @return <code>true</code> if the spatial index is enabled
+	 * @see #setSpatialIndexEnabled(boolean)
+	 * @since 3.15
+	 */
+	public boolean isSpatialIndexEnabled() {
+		return childrenIndex != null;
+	}
+
 	/**
 	 * @see IFigure#isVisible()
 	 */
@@ -1162,6 +1256,21 @@ public class Figure implements IFigure {
 	 */
 	@Override
 	public void paint(Graphics graphics) {
+		UpdateMetrics metrics = UpdateMetrics.getPaintProfiling(this);
+		if (metrics == null) {
+			primPaint(graphics);
+			return;
+		}
+		metrics.paintStarted();
+		long start = System.nanoTime();
+		try {
+			primPaint(graphics);
+		} finally {
+			metrics.paintFinished(this, System.nanoTime() - start);
+		}
+	}
+
+	private void primPaint(Graphics graphics) {
 		if (getLocalBackgroundColor() != null)
 			graphics.setBackgroundColor(getLocalBackgroundColor());
 		if (getLocalForegroundColor() != null)
@@ -1169,17 +1278,54 @@ public class Figure implements IFigure {
 		if (font != null)
 			graphics.setFont(font);
 
+		int level = updateLevelOfDetail();
+		if (level == LevelOfDetail.BOUNDS) {
+			paintBounds(graphics);
+			return;
+		}
+
+		if (paintCached && FigureImageCache.paint(this, graphics))
+			return;
+
 		graphics.pushState();
 		try {
 			paintFigure(graphics);
 			graphics.restoreState();
 			paintClientArea(graphics);
-			paintBorder(graphics);
+			if (level < LevelOfDetail.NO_DECORATIONS)
+				paintBorder(graphics);
 		} finally {
 			graphics.popState();
 		}
 	}
 
+	private int updateLevelOfDetail() {
+		LevelOfDetail lod = LevelOfDetail.current;
+		int level = LevelOfDetail.FULL;
+		if (lod != null) {
+			int simplest = getSimplestDetailLevel();
+			if (simplest != LevelOfDetail.FULL) {
+				double scale = LevelOfDetail.currentScale;
+				double size = Math.max(bounds.width, bounds.height) * scale;
+				level = Math.min(lod.getLevel(scale, size, getDetailLevel()), simplest);
+			}
+		}
+		detailLevel = (byte) level;
+		return level;
+	}
+
+	/**
+	 * Paints this Figure at the {@link LevelOfDetail#BOUNDS} level of detail,
+	 * which replaces painting the figure, its children and its border. By default,
+	 * the bounds are filled with the background color.
+	 * 
+	 * @param graphics The Graphics used to paint
+	 * @since 3.15
+	 */
+	protected void paintBounds(Graphics graphics) {
+		graphics.fillRectangle(getBounds());
+	}
+
 	/**
 	 * Paints the border associated with this Figure, if one exists.
 	 * 
@@ -1204,8 +1350,11 @@ public class Figure implements IFigure {
 	 * @since 2.0
 	 */
 	protected void paintChildren(Graphics graphics) {
-		for (IFigure child : children) {
-			if (child.isVisible()) {
+		List<? extends IFigure> candidates = children;
+		if (childrenIndex != null)
+			candidates = childrenIndex.getChildrenIntersecting(graphics.getClip(new Rectangle()));
+		for (IFigure child : candidates) {
+			if (child.isVisible() && shouldPaintChild(child)) {
 				// determine clipping areas for child
 				Rectangle[] clipping = null;
 				if (clippingStrategy != null) {
@@ -1226,6 +1375,20 @@ public class Figure implements IFigure {
 		}
 	}
 
+	/**
+	 * Returns whether the given visible child is painted by
+	 * {@link #paintChildren(Graphics)}. Subclasses may override this to omit
+	 * children, for example depending on the level of detail. The default
+	 * implementation returns <code>true</code>.
+	 * 
+	 * @param child the child about to be painted
+	 * @return <code>true</code> if the child should be painted
+	 * @since 3.15
+	 */
+	protected boolean shouldPaintChild(IFigure child) {
+		return true;
+	}
+
 	/**
 	 * Paints this Figure's client area. The client area is typically defined as the
 	 * anything inside the Figure's {@link Border} or {@link Insets}, and by default
@@ -1324,6 +1487,8 @@ public class Figure implements IFigure {
 		figure.erase();
 		figure.setParent(null);
 		children.remove(figure);
+		if (childrenIndex != null)
+			childrenIndex.remove(figure);
 		revalidate();
 	}
 
@@ -1435,6 +1600,8 @@ public class Figure implements IFigure {
 	@Override
 	public void removeNotify() {
 		children.forEach(IFigure::removeNotify);
+		if (paintCached)
+			FigureImageCache.discard(this);
 		if (internalGetEventDispatcher() != null)
 			internalGetEventDispatcher().requestRemoveFocus(this);
 		setFlag(FLAG_REALIZED, false);
@@ -1473,6 +1640,7 @@ public class Figure implements IFigure {
 	 */
 	@Override
 	public void repaint(int x, int y, int w, int h) {
+		FigureImageCache.discardAncestors(this);
 		if (isVisible())
 			getUpdateManager().addDirtyRegion(this, x, y, w, h);
 	}
@@ -1586,6 +1754,31 @@ public class Figure implements IFigure {
 		}
 	}
 
+	/**
+	 * Enables or disables a spatial index over the children of this figure. With
+	 * the index enabled, finding the figure at a location and painting the
+	 * children only visit the children near the location or the clip, instead of
+	 * testing every child. This is worthwhile for containers with many children,
+	 * such as the primary layer of a large diagram.
+	 * <P>
+	 * The index is kept up to date by listening to the children's
+	 * {@link FigureListener figure notifications}. It assumes that a child does not
+	 * contain points or paint more than a few pixels outside of its bounds.
+	 * 
+	 * @param enabled whether the spatial index is enabled
+	 * @since 3.15
+	 */
+	public void setSpatialIndexEnabled(boolean enabled) {
+		if (enabled == (childrenIndex != null))
+			return;
+		if (enabled) {
+			childrenIndex = createChildrenIndex(children);
+		} else {
+			childrenIndex.dispose();
+			childrenIndex = null;
+		}
+	}
+
 	/**
 	 * Sets the direction of any {@link Orientable} children. Allowable values for
 	 * <code>dir</code> are found in {@link PositionConstants}.
@@ -1794,6 +1987,29 @@ public class Figure implements IFigure {
 		repaint();
 	}
 
+	/**
+	 * Enables or disables caching of this figure's rendering. A cached figure
+	 * renders itself and all of its children once into an offscreen image at the
+	 * current scale, and subsequently draws that image instead of painting the
+	 * subtree again. This is useful for complex figures which rarely change.
+	 * <P>
+	 * The image is discarded automatically when this figure or any of its
+	 * descendants is repainted or invalidated, and re-rendered when the scale or
+	 * the inherited font and colors change. Only opaque figures are cached, since
+	 * the image always covers the figure's entire bounds. The images of all
+	 * figures share the memory budget of the {@link FigureImageCache}.
+	 * 
+	 * @param cached whether the rendering of this figure should be cached
+	 * @since 3.15
+	 */
+	public void setPaintCached(boolean cached) {
+		if (isPaintCached() == cached)
+			return;
+		paintCached = cached;
+		if (!cached)
+			FigureImageCache.discard(this);
+	}
+
 	/**
 	 * @see IFigure#setParent(IFigure)
 	 */
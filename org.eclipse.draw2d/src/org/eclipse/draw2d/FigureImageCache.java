@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.swt.SWTError;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * The process-wide cache of offscreen images used by figures which have
+ * {@link Figure#setPaintCached(boolean) paint caching} enabled. A cached figure
+ * renders itself and its children once into an image, which is then drawn on
+ * subsequent paints. The image is discarded whenever the figure or one of its
+ * descendants is repainted or invalidated, and re-rendered when the scale, the
+ * inherited font or the inherited colors change.
+ * <P>
+ * The total size of all cached images is limited by a memory budget. When the
+ * budget is exceeded, the least recently painted images are disposed.
+ * <P>
+ * Figures are painted directly when printing, when recording a
+ * {@link DisplayList}, and when the scale exceeds {@link #MAX_SCALE}, because
+ * the images are created on the display at the scale of the graphics.
+ * <P>
+ * The cache must only be accessed from the UI thread.
+ * 
+ * @since 3.15
+ */
+public final class FigureImageCache {
+
+	private static final class Entry {
+		Image image;
+		long size;
+		double scale;
+		int width;
+		int height;
+		Font font;
+		Color foreground;
+		Color background;
+
+		boolean isValid(IFigure figure, Graphics graphics, double currentScale) {
+			Rectangle bounds = figure.getBounds();
+			return scale == currentScale && width == bounds.width && height == bounds.height
+					&& Objects.equals(font, graphics.getFont())
+					&& Objects.equals(foreground, graphics.getForegroundColor())
+					&& Objects.equals(background, graphics.getBackgroundColor());
+		}
+	}
+
+	/**
+	 * The default memory budget of 64 MB.
+	 */
+	public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+	/**
+	 * The largest scale at which figures are painted from cached images.
+	 */
+	public static final double MAX_SCALE = 4.0;
+
+	private static final Map<IFigure, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true);
+	private static long memoryBudget = DEFAULT_MEMORY_BUDGET;
+	private static long memoryUsage;
+	private static IFigure rendering;
+
+	private FigureImageCache() {
+	}
+
+	/**
+	 * Disposes all cached images.
+	 */
+	public static void clear() {
+		ENTRIES.values().forEach(entry -> entry.image.dispose());
+		ENTRIES.clear();
+		memoryUsage = 0;
+	}
+
+	/**
+	 * Disposes the cached image of the given figure, if any.
+	 * 
+	 * @param figure the figure
+	 */
+	static void discard(IFigure figure) {
+		Entry entry = ENTRIES.remove(figure);
+		if (entry != null) {
+			entry.image.dispose();
+			memoryUsage -= entry.size;
+		}
+	}
+
+	/**
+	 * Disposes the cached images of the given figure and its ancestors.
+	 * 
+	 * @param figure the repainted or invalidated figure
+	 */
+	static void discardAncestors(IFigure figure) {
+		if (ENTRIES.isEmpty())
+			return;
+		for (IFigure f = figure; f != null; f = f.getParent())
+			discard(f);
+	}
+
+	private static void evict(long budget) {
+		Iterator<Entry> iter = ENTRIES.values().iterator();
+		while (memoryUsage > budget && iter.hasNext()) {
+			Entry entry = iter.next();
+			iter.remove();
+			entry.image.dispose();
+			memoryUsage -= entry.size;
+		}
+	}
+
+	/**
+	 * Returns the maximum number of bytes used by cached images.
+	 * 
+	 * @return the memory budget in bytes
+	 */
+	public static long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Returns the estimated number of bytes currently used by cached images.
+	 * 
+	 * @return the memory usage in bytes
+	 */
+	public static long getMemoryUsage() {
+		return memoryUsage;
+	}
+
+	/**
+	 * Returns <code>false</code> if the given graphics prints or records a display
+	 * list, possibly through scaled graphics.
+	 */
+	private static boolean isDisplayGraphics(Graphics graphics) {
+		while (graphics instanceof ScaledGraphics scaled) {
+			if (scaled instanceof PrinterGraphics)
+				return false;
+			graphics = scaled.getDelegate();
+		}
+		return !(graphics instanceof RecordingGraphics);
+	}
+
+	/**
+	 * Paints the given figure from its cached image, rendering the image first if
+	 * necessary. Returns <code>false</code> if the figure has to be painted
+	 * normally, because it is not opaque, because it is printed, recorded or
+	 * painted at a large scale, because its image would not fit into the memory
+	 * budget, or because the image is currently being rendered.
+	 * 
+	 * @param figure   the figure to paint
+	 * @param graphics the graphics
+	 * @return <code>true</code> if the figure has been painted
+	 */
+	static boolean paint(IFigure figure, Graphics graphics) {
+		if (rendering == figure || !figure.isOpaque())
+			return false;
+		double scale = graphics.getAbsoluteScale();
+		if (scale > MAX_SCALE || !isDisplayGraphics(graphics))
+			return false;
+		Rectangle bounds = figure.getBounds();
+		Entry entry = ENTRIES.get(figure);
+		if (entry == null || !entry.isValid(figure, graphics, scale)) {
+			discard(figure);
+			entry = render(figure, graphics, scale);
+			if (entry == null)
+				return false;
+		}
+		org.eclipse.swt.graphics.Rectangle size = entry.image.getBounds();
+		graphics.drawImage(entry.image, 0, 0, size.width, size.height, bounds.x, bounds.y, bounds.width,
+				bounds.height);
+		return true;
+	}
+
+	private static Entry render(IFigure figure, Graphics graphics, double scale) {
+		Rectangle bounds = figure.getBounds();
+		int width = (int) Math.ceil(bounds.width * scale);
+		int height = (int) Math.ceil(bounds.height * scale);
+		long size = 4L * width * height;
+		if (width <= 0 || height <= 0 || size > memoryBudget)
+			return null;
+		evict(memoryBudget - size);
+
+		Image image;
+		try {
+			image = new Image(null, width, height);
+		} catch (SWTError | IllegalArgumentException e) {
+			return null;
+		}
+		GC gc = new GC(image);
+		SWTGraphics swtGraphics = new SWTGraphics(gc);
+		ScaledGraphics scaledGraphics = null;
+		Graphics imageGraphics = swtGraphics;
+		if (scale != 1.0) {
+			scaledGraphics = new ScaledGraphics(swtGraphics);
+			scaledGraphics.scale(scale);
+			imageGraphics = scaledGraphics;
+		}
+		Entry entry = new Entry();
+		entry.image = image;
+		entry.size = size;
+		entry.scale = scale;
+		entry.width = bounds.width;
+		entry.height = bounds.height;
+		entry.font = graphics.getFont();
+		entry.foreground = graphics.getForegroundColor();
+		entry.background = graphics.getBackgroundColor();
+
+		imageGraphics.translate(-bounds.x, -bounds.y);
+		imageGraphics.setFont(entry.font);
+		imageGraphics.setForegroundColor(entry.foreground);
+		imageGraphics.setBackgroundColor(entry.background);
+		IFigure previous = rendering;
+		rendering = figure;
+		try {
+			figure.paint(imageGraphics);
+		} finally {
+			rendering = previous;
+			if (scaledGraphics != null)
+				scaledGraphics.dispose();
+			swtGraphics.dispose();
+			gc.dispose();
+		}
+		ENTRIES.put(figure, entry);
+		memoryUsage += size;
+		return entry;
+	}
+
+	/**
+	 * Sets the maximum number of bytes used by cached images. Images are disposed
+	 * in least recently used order until the usage fits into the new budget.
+	 * 
+	 * @param budget the memory budget in bytes
+	 */
+	public static void setMemoryBudget(long budget) {
+		if (budget < 0)
+			throw new IllegalArgumentException();
+		memoryBudget = budget;
+		evict(budget);
+	}
+
+}
@@ -82,10 +82,50 @@ public class FigureUtilities {
 	 * @param f the font
 	 * @return the text's dimensions
 	 * @see GC#textExtent(String)
+	 * @see TextExtentCache
 	 */
 	protected static org.eclipse.swt.graphics.Point getTextDimension(String s, Font f) {
+		return getDimension(s, f, true);
+	}
+
+	private static org.eclipse.swt.graphics.Point getDimension(String s, Font f, boolean text) {
+		if (s == null) {
+			setFont(f);
+			return text ? getGC().textExtent(s) : getGC().stringExtent(s);
+		}
+		long extent = TextExtentCache.get(s, f, text);
+		if (extent != TextExtentCache.MISSING)
+			return new org.eclipse.swt.graphics.Point(TextExtentCache.width(extent), TextExtentCache.height(extent));
 		setFont(f);
-		return getGC().textExtent(s);
+		org.eclipse.swt.graphics.Point pt = text ? getGC().textExtent(s) : getGC().stringExtent(s);
+		TextExtentCache.put(s, f, text, TextExtentCache.pack(pt.x, pt.y));
+		return pt;
+	}
+
+	private static Dimension[] getDimensions(String[] strings, Font f, boolean text) {
+		long[] extents = new long[strings.length];
+		int missing = TextExtentCache.get(strings, f, text, extents);
+		if (missing > 0) {
+			// Measure all missing strings with the font applied once
+			setFont(f);
+			String[] measured = new String[missing];
+			long[] measuredExtents = new long[missing];
+			int count = 0;
+			for (int i = 0; i < strings.length; i++) {
+				if (extents[i] == TextExtentCache.MISSING) {
+					org.eclipse.swt.graphics.Point pt = text ? getGC().textExtent(strings[i])
+							: getGC().stringExtent(strings[i]);
+					extents[i] = TextExtentCache.pack(pt.x, pt.y);
+					measured[count] = strings[i];
+					measuredExtents[count++] = extents[i];
+				}
+			}
+			TextExtentCache.put(measured, f, text, measuredExtents);
+		}
+		Dimension[] result = new Dimension[strings.length];
+		for (int i = 0; i < strings.length; i++)
+			result[i] = new Dimension(TextExtentCache.width(extents[i]), TextExtentCache.height(extents[i]));
+		return result;
 	}
 
 	/**
@@ -111,8 +151,7 @@ public class FigureUtilities {
 	 * @see GC#stringExtent(java.lang.String)
 	 */
 	protected static org.eclipse.swt.graphics.Point getStringDimension(String s, Font f) {
-		setFont(f);
-		return getGC().stringExtent(s);
+		return getDimension(s, f, false);
 	}
 
 	/**
@@ -140,6 +179,35 @@ public class FigureUtilities {
 		return new Dimension(getStringDimension(s, f));
 	}
 
+	/**
+	 * Returns the Dimensions of each of the given strings in Font <i>f</i>. No tab
+	 * expansion or carriage return processing will be performed. Measuring many
+	 * strings at once is cheaper than measuring them one by one, as the font is
+	 * selected only once.
+	 * 
+	 * @param strings the strings
+	 * @param f       the font
+	 * @return the dimensions of the given strings, in the same order
+	 * @since 3.15
+	 */
+	public static Dimension[] getStringExtents(String[] strings, Font f) {
+		return getDimensions(strings, f, false);
+	}
+
+	/**
+	 * Returns the Dimensions of each of the given texts, converting newlines and
+	 * tabs appropriately. Measuring many texts at once is cheaper than measuring
+	 * them one by one, as the font is selected only once.
+	 * 
+	 * @param texts the texts
+	 * @param f     the font
+	 * @return the dimensions of the given texts, in the same order
+	 * @since 3.15
+	 */
+	public static Dimension[] getTextExtents(String[] texts, Font f) {
+		return getDimensions(texts, f, true);
+	}
+
 	/**
 	 * Returns the Dimensions of the given text, converting newlines and tabs
 	 * appropriately.
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.swt.graphics.Font;
+
+/**
+ * A map in least recently used order, whose keys consist of a font, an object
+ * and an int. Fonts are compared by identity, as a disposed font may share its
+ * handle with a font created later. The other objects are compared by equality.
+ * <P>
+ * The map counts the hits and misses of {@link #get(Font, Object, int)} and the
+ * entries removed by {@link #evict(int, Predicate, Consumer)}. It is not
+ * synchronized.
+ *
+ * @param <V> the type of the values
+ */
+final class FontKeyedCache<V> {
+
+	private static final class Key {
+		Font font;
+		Object object;
+		int value;
+
+		Key() {
+		}
+
+		Key(Font font, Object object, int value) {
+			this.font = font;
+			this.object = object;
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			Key key = (Key) obj;
+			return key.font == font && key.value == value && Objects.equals(key.object, object);
+		}
+
+		@Override
+		public int hashCode() {
+			return (Objects.hashCode(object) * 31 + System.identityHashCode(font)) * 31 + value;
+		}
+	}
+
+	private final Map<Key, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+	// Reused for lookups, so that they don't allocate
+	private final Key lookupKey = new Key();
+
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * Returns the value for the given key, or <code>null</code>, and counts the
+	 * lookup as a hit or a miss.
+	 */
+	V get(Font font, Object object, int value) {
+		V result = find(font, object, value);
+		if (result == null)
+			misses++;
+		else
+			hits++;
+		return result;
+	}
+
+	/**
+	 * Returns the value for the given key, or <code>null</code>, without counting
+	 * the lookup.
+	 */
+	V find(Font font, Object object, int value) {
+		lookupKey.font = font;
+		lookupKey.object = object;
+		lookupKey.value = value;
+		V result = entries.get(lookupKey);
+		lookupKey.font = null;
+		lookupKey.object = null;
+		return result;
+	}
+
+	void put(Font font, Object object, int value, V entry) {
+		entries.put(new Key(font, object, value), entry);
+	}
+
+	/**
+	 * Removes the least recently used entries accepted by the given predicate
+	 * until at most <code>size</code> entries are left, passing each of them to
+	 * the given consumer.
+	 */
+	void evict(int size, Predicate<V> removable, Consumer<V> removed) {
+		Iterator<V> iter = entries.values().iterator();
+		while (entries.size() > size && iter.hasNext()) {
+			V entry = iter.next();
+			if (removable.test(entry)) {
+				iter.remove();
+				removed.accept(entry);
+				evictions++;
+			}
+		}
+	}
+
+	void clear() {
+		entries.clear();
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	long getHitCount() {
+		return hits;
+	}
+
+	long getMissCount() {
+		return misses;
+	}
+
+	long getEvictionCount() {
+		return evictions;
+	}
+
+	void resetStatistics() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+}
@@ -10,6 +10,12 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 import org.eclipse.draw2d.geometry.Insets;
 import org.eclipse.draw2d.geometry.Rectangle;
 
@@ -18,7 +24,45 @@ class FreeformHelper implements FreeformListener {
 	class ChildTracker implements FigureListener {
 		@Override
 		public void figureMoved(IFigure source) {
-			invalidate();
+			if (register(source) && refreshChildrenExtent())
+				invalidateExtent();
+		}
+	}
+
+	/**
+	 * The coordinates of one edge of the children's extents, counted per value.
+	 * The extent of a child can be replaced in O(log n) without visiting the
+	 * other children.
+	 */
+	private static final class Edge {
+
+		private final TreeMap<Integer, int[]> counts = new TreeMap<>();
+
+		void add(int value) {
+			counts.computeIfAbsent(Integer.valueOf(value), key -> new int[1])[0]++;
+		}
+
+		int max() {
+			return counts.lastKey().intValue();
+		}
+
+		int min() {
+			return counts.firstKey().intValue();
+		}
+
+		void remove(int value) {
+			Integer key = Integer.valueOf(value);
+			int[] count = counts.get(key);
+			if (--count[0] == 0)
+				counts.remove(key);
+		}
+
+		void clear() {
+			counts.clear();
+		}
+
+		boolean isEmpty() {
+			return counts.isEmpty();
 		}
 	}
 
@@ -26,28 +70,59 @@ class FreeformHelper implements FreeformListener {
 	private Rectangle freeformExtent;
 	private FigureListener figureListener = new ChildTracker();
 
+	/**
+	 * The extents with which the children are registered in the edges.
+	 */
+	private final Map<IFigure, Rectangle> childExtents = new IdentityHashMap<>();
+	private final List<FreeformFigure> freeformChildren = new ArrayList<>();
+	private final Edge lefts = new Edge();
+	private final Edge tops = new Edge();
+	private final Edge rights = new Edge();
+	private final Edge bottoms = new Edge();
+
+	/**
+	 * The union of the children's extents, before translating it to the parent and
+	 * adding the insets, or <code>null</code> if there are no children.
+	 */
+	private Rectangle childrenExtent;
+
 	FreeformHelper(FreeformFigure host) {
 		this.host = host;
 	}
 
+	/**
+	 * Computes the union of the registered children's extents. Like
+	 * {@link Rectangle#union(Rectangle)}, empty extents are ignored, unless the
+	 * extent of the first child is empty, which still defines a corner of the
+	 * union.
+	 */
+	private Rectangle computeChildrenExtent() {
+		Rectangle first = null;
+		for (IFigure child : host.getChildren()) {
+			first = childExtents.get(child);
+			if (first != null)
+				break;
+		}
+		if (first == null)
+			return null;
+		if (lefts.isEmpty())
+			return first.getCopy();
+		int x = lefts.min();
+		int y = tops.min();
+		Rectangle result = new Rectangle(x, y, rights.max() - x, bottoms.max() - y);
+		if (first.isEmpty())
+			result = first.getCopy().union(result.x, result.y, result.width, result.height);
+		return result;
+	}
+
 	public Rectangle getFreeformExtent() {
 		if (freeformExtent != null)
 			return freeformExtent;
-		Rectangle r;
-		for (IFigure child : host.getChildren()) {
-			if (child instanceof FreeformFigure)
-				r = ((FreeformFigure) child).getFreeformExtent();
-			else
-				r = child.getBounds();
-			if (freeformExtent == null)
-				freeformExtent = r.getCopy();
-			else
-				freeformExtent.union(r);
-		}
 		Insets insets = host.getInsets();
-		if (freeformExtent == null)
+		if (childrenExtent == null)
 			freeformExtent = new Rectangle(0, 0, insets.getWidth(), insets.getHeight());
 		else {
+			freeformExtent = childrenExtent.getCopy();
 			host.translateToParent(freeformExtent);
 			freeformExtent.expand(insets);
 		}
@@ -55,14 +130,32 @@ class FreeformHelper implements FreeformListener {
 	}
 
 	public void hookChild(IFigure child) {
-		invalidate();
-		if (child instanceof FreeformFigure)
+		if (child instanceof FreeformFigure) {
 			((FreeformFigure) child).addFreeformListener(this);
-		else
+			freeformChildren.add((FreeformFigure) child);
+		} else
 			child.addFigureListener(figureListener);
+		register(child);
+		if (refreshChildrenExtent())
+			invalidateExtent();
 	}
 
+	/**
+	 * Recomputes the extent from the current bounds and extents of all children,
+	 * and revalidates the host's parent.
+	 */
 	void invalidate() {
+		childExtents.clear();
+		lefts.clear();
+		tops.clear();
+		rights.clear();
+		bottoms.clear();
+		host.getChildren().forEach(this::register);
+		refreshChildrenExtent();
+		invalidateExtent();
+	}
+
+	private void invalidateExtent() {
 		freeformExtent = null;
 		host.fireExtentChanged();
 		if (host.getParent() != null)
@@ -75,7 +168,48 @@ class FreeformHelper implements FreeformListener {
 	public void notifyFreeformExtentChanged() {
 		// A childs freeform extent has changed, therefore this extent must be
 		// recalculated
-		invalidate();
+		freeformChildren.forEach(this::register);
+		if (refreshChildrenExtent())
+			invalidateExtent();
+	}
+
+	/**
+	 * Updates the union of the children's extents.
+	 * 
+	 * @return whether the union has changed
+	 */
+	private boolean refreshChildrenExtent() {
+		Rectangle extent = computeChildrenExtent();
+		if (extent == null ? childrenExtent == null : extent.equals(childrenExtent))
+			return false;
+		childrenExtent = extent;
+		return true;
+	}
+
+	/**
+	 * Registers the current extent of the given child.
+	 * 
+	 * @return whether the registered extent has changed
+	 */
+	private boolean register(IFigure child) {
+		Rectangle r;
+		if (child instanceof FreeformFigure)
+			r = ((FreeformFigure) child).getFreeformExtent();
+		else
+			r = child.getBounds();
+		Rectangle old = childExtents.get(child);
+		if (r.equals(old))
+			return false;
+		unregister(child);
+		r = r.getCopy();
+		childExtents.put(child, r);
+		if (!r.isEmpty()) {
+			lefts.add(r.x);
+			tops.add(r.y);
+			rights.add(r.right());
+			bottoms.add(r.bottom());
+		}
+		return true;
 	}
 
 	public void setFreeformBounds(Rectangle bounds) {
@@ -89,11 +223,24 @@ class FreeformHelper implements FreeformListener {
 	}
 
 	public void unhookChild(IFigure child) {
-		invalidate();
-		if (child instanceof FreeformFigure)
+		if (child instanceof FreeformFigure) {
 			((FreeformFigure) child).removeFreeformListener(this);
-		else
+			freeformChildren.remove(child);
+		} else
 			child.removeFigureListener(figureListener);
+		unregister(child);
+		if (refreshChildrenExtent())
+			invalidateExtent();
+	}
+
+	private void unregister(IFigure child) {
+		Rectangle r = childExtents.remove(child);
+		if (r != null && !r.isEmpty()) {
+			lefts.remove(r.x);
+			tops.remove(r.y);
+			rights.remove(r.right());
+			bottoms.remove(r.bottom());
+		}
 	}
 
 }
@@ -26,6 +26,29 @@ public interface IScalablePane extends ScalableFigure {
 
 	boolean optimizeClip();
 
+	/**
+	 * Returns the level of detail used to paint the contents of this pane, or
+	 * <code>null</code> if its contents are always painted in full detail.
+	 * 
+	 * @return the level of detail or <code>null</code>
+	 * @since 3.15
+	 */
+	public default LevelOfDetail getLevelOfDetail() {
+		return null;
+	}
+
+	/**
+	 * Sets the level of detail used to paint the contents of this pane. Passing
+	 * <code>null</code> paints the contents in full detail, unless an enclosing
+	 * pane has a level of detail. Panes which do not support levels of detail
+	 * ignore this call.
+	 * 
+	 * @param levelOfDetail the level of detail or <code>null</code>
+	 * @since 3.15
+	 */
+	public default void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+	}
+
 	public default Rectangle getScaledRect(Rectangle rect) {
 		double scale = getScale();
 		rect.width /= scale;
@@ -496,6 +496,11 @@ public class Label extends Figure implements PositionConstants {
 		graphics.translate(bounds.x, bounds.y);
 		if (icon != null)
 			graphics.drawImage(icon, getIconLocation());
+		if (getDetailLevel() >= LevelOfDetail.NO_TEXT) {
+			paintGreekedText(graphics);
+			graphics.translate(-bounds.x, -bounds.y);
+			return;
+		}
 		if (!isEnabled()) {
 			graphics.translate(1, 1);
 			graphics.setForegroundColor(ColorConstants.buttonLightest);
@@ -507,6 +512,30 @@ public class Label extends Figure implements PositionConstants {
 		graphics.translate(-bounds.x, -bounds.y);
 	}
 
+	/**
+	 * Replaces the text by a line where it would be painted, for the
+	 * {@link LevelOfDetail#NO_TEXT} level of detail.
+	 */
+	private void paintGreekedText(Graphics graphics) {
+		if (text.isEmpty())
+			return;
+		Point location = getTextLocation();
+		Dimension size = getSubStringTextSize();
+		int y = location.y + size.height / 2;
+		graphics.drawLine(location.x, y, location.x + size.width - 1, y);
+	}
+
+	/**
+	 * Labels may be painted without their text.
+	 * 
+	 * @see Figure#getSimplestDetailLevel()
+	 * @since 3.15
+	 */
+	@Override
+	protected int getSimplestDetailLevel() {
+		return LevelOfDetail.NO_TEXT;
+	}
+
 	/**
 	 * Sets the label's icon to the passed image.
 	 * 
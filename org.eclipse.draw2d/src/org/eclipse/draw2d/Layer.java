@@ -33,7 +33,7 @@ public class Layer extends Figure {
 		translateFromParent(pt);
 		x = pt.x;
 		y = pt.y;
-		for (IFigure child : getChildren()) {
+		for (IFigure child : getChildrenRevIterable(x, y)) {
 			if (child.containsPoint(x, y))
 				return true;
 		}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+/**
+ * Selects how much detail figures paint when they are displayed at a small
+ * scale. A level of detail is installed on a scalable pane using
+ * {@link IScalablePane#setLevelOfDetail(LevelOfDetail)}, or on a zoom manager.
+ * While the pane paints its children, each figure determines its level from
+ * the effective scale and its size on screen, and paints a cheaper
+ * representation for the simpler levels:
+ * <UL>
+ * <LI>{@link #FULL} - the figure is painted completely.</LI>
+ * <LI>{@link #NO_DECORATIONS} - borders and decorations such as arrow heads are
+ * omitted.</LI>
+ * <LI>{@link #NO_TEXT} - in addition, text is replaced by a simple line.</LI>
+ * <LI>{@link #BOUNDS} - the figure paints only its bounds, see
+ * {@link Figure#paintBounds(Graphics)}, and none of its children.</LI>
+ * </UL>
+ * A figure never uses a simpler level than the one returned by
+ * {@link Figure#getSimplestDetailLevel()}, so by default figures are always
+ * painted in full detail.
+ * <P>
+ * Each level is selected once either the scale or the figure's larger dimension
+ * in pixels falls below the level's threshold. To avoid figures flickering
+ * between two levels while the user zooms or resizes, the thresholds are
+ * relaxed by the hysteresis factor in the direction of the level the figure was
+ * last painted with.
+ *
+ * @since 3.15
+ */
+public class LevelOfDetail {
+
+	/**
+	 * The figure is painted in full detail.
+	 */
+	public static final int FULL = 0;
+
+	/**
+	 * Borders and decorations are not painted.
+	 */
+	public static final int NO_DECORATIONS = 1;
+
+	/**
+	 * Borders, decorations and text are not painted.
+	 */
+	public static final int NO_TEXT = 2;
+
+	/**
+	 * Only the bounds of the figure are painted.
+	 */
+	public static final int BOUNDS = 3;
+
+	/**
+	 * The level of detail used by the pane currently painting, or
+	 * <code>null</code>.
+	 */
+	static LevelOfDetail current;
+
+	/**
+	 * The absolute scale of the pane currently painting.
+	 */
+	static double currentScale = 1.0;
+
+	private final double[] scaleThresholds = { 0, 0.5, 0.3, 0.15 };
+	private final double[] sizeThresholds = { 0, 16, 8, 4 };
+	private double hysteresis = 0.15;
+
+	/**
+	 * Runs the given painter with the given level of detail and absolute scale in
+	 * effect. A pane without a level of detail of its own inherits the one of the
+	 * enclosing pane.
+	 */
+	static void paintWith(LevelOfDetail lod, double scale, Runnable painter) {
+		LevelOfDetail oldLod = current;
+		double oldScale = currentScale;
+		if (lod != null)
+			current = lod;
+		currentScale = scale;
+		try {
+			painter.run();
+		} finally {
+			current = oldLod;
+			currentScale = oldScale;
+		}
+	}
+
+	/**
+	 * Returns the level of detail for a figure painted at the given scale.
+	 *
+	 * @param scale    the absolute scale
+	 * @param size     the larger dimension of the figure in pixels
+	 * @param previous the level the figure was last painted with
+	 * @return the level of detail
+	 */
+	public int getLevel(double scale, double size, int previous) {
+		return Math.max(select(scaleThresholds, scale, previous), select(sizeThresholds, size, previous));
+	}
+
+	private int select(double[] thresholds, double value, int previous) {
+		for (int level = BOUNDS; level > FULL; level--) {
+			// Stay at the previous or a simpler level a little longer
+			double factor = level <= previous ? 1 + hysteresis : 1 - hysteresis;
+			if (value < thresholds[level] * factor)
+				return level;
+		}
+		return FULL;
+	}
+
+	/**
+	 * Returns the hysteresis factor.
+	 *
+	 * @return the hysteresis
+	 */
+	public double getHysteresis() {
+		return hysteresis;
+	}
+
+	/**
+	 * Sets the factor by which the thresholds are relaxed in favor of the level a
+	 * figure was last painted with. The default is 0.15.
+	 *
+	 * @param hysteresis a value between 0 and 1
+	 */
+	public void setHysteresis(double hysteresis) {
+		if (hysteresis < 0 || hysteresis >= 1)
+			throw new IllegalArgumentException("Hysteresis must be between 0 and 1"); //$NON-NLS-1$
+		this.hysteresis = hysteresis;
+	}
+
+	/**
+	 * Returns the scale below which the given level is used.
+	 *
+	 * @param level one of {@link #NO_DECORATIONS}, {@link #NO_TEXT} or
+	 *              {@link #BOUNDS}
+	 * @return the scale threshold
+	 */
+	public double getScaleThreshold(int level) {
+		return scaleThresholds[level];
+	}
+
+	/**
+	 * Sets the scale below which the given level is used. The defaults are 0.5,
+	 * 0.3 and 0.15.
+	 *
+	 * @param level     one of {@link #NO_DECORATIONS}, {@link #NO_TEXT} or
+	 *                  {@link #BOUNDS}
+	 * @param threshold the scale threshold
+	 */
+	public void setScaleThreshold(int level, double threshold) {
+		checkLevel(level);
+		scaleThresholds[level] = threshold;
+	}
+
+	/**
+	 * Returns the size in pixels below which the given level is used.
+	 *
+	 * @param level one of {@link #NO_DECORATIONS}, {@link #NO_TEXT} or
+	 *              {@link #BOUNDS}
+	 * @return the size threshold
+	 */
+	public double getSizeThreshold(int level) {
+		return sizeThresholds[level];
+	}
+
+	/**
+	 * Sets the size in pixels below which the given level is used. The size of a
+	 * figure is the larger of its scaled width and height. The defaults are 16, 8
+	 * and 4.
+	 *
+	 * @param level     one of {@link #NO_DECORATIONS}, {@link #NO_TEXT} or
+	 *                  {@link #BOUNDS}
+	 * @param threshold the size threshold
+	 */
+	public void setSizeThreshold(int level, double threshold) {
+		checkLevel(level);
+		sizeThresholds[level] = threshold;
+	}
+
+	private static void checkLevel(int level) {
+		if (level <= FULL || level > BOUNDS)
+			throw new IllegalArgumentException("Invalid level of detail: " + level); //$NON-NLS-1$
+	}
+
+}
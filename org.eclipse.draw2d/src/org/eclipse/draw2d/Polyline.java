@@ -75,6 +75,27 @@ public class Polyline extends AbstractPointListShape {
 		return bounds;
 	}
 
+	/**
+	 * Returns the distance from the line segments within which points are
+	 * considered to be contained in this polyline.
+	 * 
+	 * @return the tolerance
+	 * @see #setTolerance(int)
+	 * @since 3.15
+	 */
+	public int getTolerance() {
+		return tolerance;
+	}
+
+	/**
+	 * Notifies the parent {@link ConnectionLayer} that the area covered by this
+	 * polyline may have changed, so that its spatial index is updated.
+	 */
+	private void invalidateIndex() {
+		if (getParent() instanceof ConnectionLayer layer)
+			layer.invalidateIndex(this);
+	}
+
 	/**
 	 * @return <code>false</code> because Polyline's aren't filled
 	 */
@@ -146,11 +167,13 @@ public class Polyline extends AbstractPointListShape {
 	 */
 	public void setTolerance(int tolerance) {
 		this.tolerance = tolerance;
+		invalidateIndex();
 	}
 
 	@Override
 	public void repaint() {
 		bounds = null;
+		invalidateIndex();
 		super.repaint();
 	}
 }
\ No newline at end of file
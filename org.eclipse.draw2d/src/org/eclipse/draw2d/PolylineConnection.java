@@ -11,6 +11,7 @@
 package org.eclipse.draw2d;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.draw2d.geometry.Point;
@@ -36,6 +37,12 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 	private ConnectionRouter connectionRouter = ConnectionRouter.NULL;
 	private RotatableDecoration startArrow, endArrow;
 
+	/**
+	 * Whether this connection has already been routed by its
+	 * {@link ConnectionLayer} during the current validation.
+	 */
+	boolean isRouted;
+
 	{
 		setLayoutManager(new DelegatingLayout());
 		addPoint(new Point(0, 0));
@@ -107,6 +114,16 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 		return connectionRouter;
 	}
 
+	/**
+	 * Returns the router which routes this connection, including the notification
+	 * of the routing listeners.
+	 * 
+	 * @return the router
+	 */
+	ConnectionRouter getRouter() {
+		return connectionRouter;
+	}
+
 	/**
 	 * Returns this connection's routing constraint from its connection router. May
 	 * return <code>null</code>.
@@ -166,11 +183,14 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 	/**
 	 * Layouts this polyline. If the start and end anchors are present, the
 	 * connection router is used to route this, after which it is laid out. It also
-	 * fires a moved method.
+	 * fires a moved method. The routing is skipped if the parent
+	 * {@link ConnectionLayer} has already routed this connection.
 	 */
 	@Override
 	public void layout() {
-		if (getSourceAnchor() != null && getTargetAnchor() != null)
+		if (isRouted)
+			isRouted = false;
+		else if (getSourceAnchor() != null && getTargetAnchor() != null)
 			connectionRouter.route(this);
 
 		Rectangle oldBounds = bounds;
@@ -186,6 +206,18 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 		fireFigureMoved();
 	}
 
+	/**
+	 * Omits the source and target decorations below the
+	 * {@link LevelOfDetail#NO_DECORATIONS} level of detail.
+	 * 
+	 * @see Figure#shouldPaintChild(IFigure)
+	 * @since 3.15
+	 */
+	@Override
+	protected boolean shouldPaintChild(IFigure child) {
+		return getDetailLevel() < LevelOfDetail.NO_DECORATIONS || (child != startArrow && child != endArrow);
+	}
+
 	/**
 	 * Called just before the receiver is being removed from its parent. Results in
 	 * removing itself from the connection router.
@@ -221,6 +253,8 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 	public void revalidate() {
 		super.revalidate();
 		connectionRouter.invalidate(this);
+		if (getParent() instanceof ConnectionLayer layer)
+			layer.addInvalidConnection(this);
 	}
 
 	/**
@@ -371,6 +405,25 @@ public class PolylineConnection extends Polyline implements Connection, AnchorLi
 				((RoutingListener) listeners.get(i)).postRoute(connection);
 		}
 
+		@Override
+		public void routeAll(Collection<? extends Connection> connections) {
+			List<Connection> unconsumed = new ArrayList<>(connections.size());
+			for (Connection connection : connections) {
+				boolean consumed = false;
+				for (int i = 0; i < listeners.size(); i++)
+					consumed |= ((RoutingListener) listeners.get(i)).route(connection);
+				if (!consumed)
+					unconsumed.add(connection);
+			}
+
+			if (!unconsumed.isEmpty())
+				realRouter.routeAll(unconsumed);
+
+			for (Connection connection : connections)
+				for (int i = 0; i < listeners.size(); i++)
+					((RoutingListener) listeners.get(i)).postRoute(connection);
+		}
+
 		@Override
 		public void remove(Connection connection) {
 			for (int i = 0; i < listeners.size(); i++)
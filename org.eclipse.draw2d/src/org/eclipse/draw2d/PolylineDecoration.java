@@ -50,9 +50,8 @@ public class PolylineDecoration extends Polyline implements RotatableDecoration
 	@Override
 	public PointList getPoints() {
 		if (points == null) {
-			points = new PointList();
-			for (int i = 0; i < template.size(); i++)
-				points.addPoint(transform.getTransformed(template.getPoint(i)));
+			points = template.getCopy();
+			points.transform(transform);
 		}
 		return points;
 	}
@@ -11,6 +11,8 @@
  *******************************************************************************/
 package org.eclipse.draw2d;
 
+import java.util.function.Consumer;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.printing.Printer;
@@ -51,6 +53,7 @@ public class PrintFigureOperation extends PrintOperation {
 	private IFigure printSource;
 	private Color oldBGColor;
 	private int printMode = TILE;
+	private boolean displayListEnabled;
 
 	/**
 	 * Constructor for PrintFigureOperation.
@@ -95,6 +98,18 @@ public class PrintFigureOperation extends PrintOperation {
 		return printMode;
 	}
 
+	/**
+	 * Returns whether the figure is painted only once into a {@link DisplayList},
+	 * which is then played for every page.
+	 * 
+	 * @return <code>true</code> if a display list is used
+	 * @see #setDisplayListEnabled(boolean)
+	 * @since 3.15
+	 */
+	public boolean isDisplayListEnabled() {
+		return displayListEnabled;
+	}
+
 	/**
 	 * Returns the printSource.
 	 * 
@@ -114,7 +129,10 @@ public class PrintFigureOperation extends PrintOperation {
 	}
 
 	/**
-	 * Prints the pages based on the current print mode.
+	 * Prints the pages based on the current print mode. If the
+	 * {@link #setDisplayListEnabled(boolean) display list} is enabled, the figure
+	 * is painted only once into a {@link DisplayList}, which is then played for
+	 * every page.
 	 * 
 	 * @see org.eclipse.draw2d.PrintOperation#printPages()
 	 */
@@ -124,6 +142,25 @@ public class PrintFigureOperation extends PrintOperation {
 		IFigure figure = getPrintSource();
 		setupPrinterGraphicsFor(graphics, figure);
 		Rectangle bounds = figure.getBounds();
+		if (!isDisplayListEnabled()) {
+			printPages(graphics, figure::paint, bounds);
+			return;
+		}
+		RecordingGraphics recorder = new RecordingGraphics(bounds, graphics.getAbsoluteScale());
+		recorder.setForegroundColor(graphics.getForegroundColor());
+		recorder.setBackgroundColor(graphics.getBackgroundColor());
+		recorder.setFont(graphics.getFont());
+		figure.paint(recorder);
+		recorder.dispose();
+		DisplayList displayList = recorder.getDisplayList();
+		try {
+			printPages(graphics, displayList::play, bounds);
+		} finally {
+			displayList.dispose();
+		}
+	}
+
+	private void printPages(Graphics graphics, Consumer<Graphics> painter, Rectangle bounds) {
 		int x = bounds.x, y = bounds.y;
 		Rectangle clipRect = new Rectangle();
 		while (y < bounds.y + bounds.height) {
@@ -134,7 +171,7 @@ public class PrintFigureOperation extends PrintOperation {
 				graphics.getClip(clipRect);
 				clipRect.setLocation(x, y);
 				graphics.clipRect(clipRect);
-				figure.paint(graphics);
+				painter.accept(graphics);
 				getPrinter().endPage();
 				graphics.popState();
 				x += clipRect.width;
@@ -153,6 +190,20 @@ public class PrintFigureOperation extends PrintOperation {
 		oldBGColor = null;
 	}
 
+	/**
+	 * Sets whether the figure is painted only once into a {@link DisplayList},
+	 * which is then played for every page, instead of painting the figure for
+	 * every page. This saves time when the figure spans many pages. Colors and
+	 * patterns used by the figure must remain undisposed until printing has
+	 * finished. The default is <code>false</code>.
+	 * 
+	 * @param enabled whether a display list is used
+	 * @since 3.15
+	 */
+	public void setDisplayListEnabled(boolean enabled) {
+		displayListEnabled = enabled;
+	}
+
 	/**
 	 * Sets the print mode. Possible values are {@link #TILE}, {@link #FIT_HEIGHT},
 	 * {@link #FIT_WIDTH} and {@link #FIT_PAGE}.
@@ -49,6 +49,14 @@ public class PrinterGraphics extends ScaledGraphics {
 		return new Font(printer, data);
 	}
 
+	/**
+	 * Every print job uses a new printer, so its fonts are never shared.
+	 */
+	@Override
+	boolean usesSharedFonts() {
+		return false;
+	}
+
 	private Image printerImage(Image image) {
 		Image result = (Image) imageCache.get(image);
 		if (result != null)
@@ -0,0 +1,907 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontMetrics;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.LineAttributes;
+import org.eclipse.swt.graphics.Path;
+import org.eclipse.swt.graphics.Pattern;
+import org.eclipse.swt.graphics.Resource;
+import org.eclipse.swt.graphics.TextLayout;
+import org.eclipse.swt.graphics.TextStyle;
+
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A Graphics which records all paint operations into a {@link DisplayList}
+ * instead of performing them. The display list can later be replayed onto any
+ * other Graphics, any number of times, without painting the figures again.
+ * <P>
+ * The recording graphics keeps track of its state, so that figures querying the
+ * clip, colors or font while painting behave as they would on a real graphics.
+ * Drawing operations which lie completely outside of the clip are not recorded.
+ * Example:
+ *
+ * <pre>
+ * RecordingGraphics recorder = new RecordingGraphics(figure.getBounds());
+ * figure.paint(recorder);
+ * recorder.dispose();
+ * DisplayList list = recorder.getDisplayList();
+ * list.play(graphics);
+ * </pre>
+ *
+ * @since 3.15
+ */
+public class RecordingGraphics extends Graphics {
+
+	private static class State implements Cloneable {
+		boolean advanced;
+		int alpha = 255;
+		int antialias = SWT.DEFAULT;
+		Color bgColor;
+		Pattern bgPattern;
+		Rectangle clip;
+		Color fgColor;
+		Pattern fgPattern;
+		int fillRule = SWT.FILL_EVEN_ODD;
+		Font font;
+		int interpolation = SWT.DEFAULT;
+		LineAttributes lineAttributes = new LineAttributes(1);
+		int textAntialias = SWT.DEFAULT;
+		boolean transformed;
+		double scaleX = 1, scaleY = 1;
+		double translateX, translateY;
+		boolean xorMode;
+
+		State copy() {
+			try {
+				State copy = (State) clone();
+				copy.clip = clip.getCopy();
+				copy.lineAttributes = SWTGraphics.clone(lineAttributes);
+				return copy;
+			} catch (CloneNotSupportedException e) {
+				throw new AssertionError(e);
+			}
+		}
+	}
+
+	private final DisplayList list = new DisplayList();
+	private final double absoluteScale;
+	private State state = new State();
+	private final List<State> stack = new ArrayList<>();
+	private final Map<Resource, Resource> copies = new IdentityHashMap<>();
+
+	/**
+	 * Constructs a new recording graphics with the given clip.
+	 *
+	 * @param clip the initial clip
+	 */
+	public RecordingGraphics(Rectangle clip) {
+		this(clip, 1.0);
+	}
+
+	/**
+	 * Constructs a new recording graphics with the given clip. The absolute scale
+	 * should be the one of the graphics onto which the display list is going to be
+	 * played, so that figures adapting their painting to the scale record the
+	 * appropriate commands.
+	 *
+	 * @param clip          the initial clip
+	 * @param absoluteScale the absolute scale of the target graphics
+	 */
+	public RecordingGraphics(Rectangle clip, double absoluteScale) {
+		state.clip = clip.getCopy();
+		this.absoluteScale = absoluteScale;
+	}
+
+	private boolean begin(int command, Rectangle area) {
+		Rectangle extent = null;
+		if (state.transformed) {
+			area = null;
+		} else if (area != null) {
+			if (!area.intersects(state.clip))
+				return false;
+			extent = toRoot(area);
+		}
+		list.begin(command, area, extent);
+		return true;
+	}
+
+	private void writeShape(int command, int x, int y, int w, int h, boolean outline, int[] args) {
+		Rectangle area = new Rectangle(x, y, w, h);
+		if (w < 0)
+			area.setX(x + w).setWidth(-w);
+		if (h < 0)
+			area.setY(y + h).setHeight(-h);
+		if (outline)
+			area.expand(getStrokePadding(), getStrokePadding());
+		if (begin(command, area)) {
+			for (int arg : args)
+				list.write(arg);
+			list.end();
+		}
+	}
+
+	private void writeText(int command, String s, int x, int y, Dimension extent, int... args) {
+		Rectangle area = extent == null ? null : new Rectangle(x, y, extent.width, extent.height);
+		if (begin(command, area)) {
+			list.writeObject(s);
+			list.write(x);
+			list.write(y);
+			for (int arg : args)
+				list.write(arg);
+			list.end();
+		}
+	}
+
+	private void beginState(int command) {
+		list.begin(command);
+	}
+
+	private void beginState(int command, int value) {
+		list.begin(command);
+		list.write(value);
+		list.end();
+	}
+
+	private void beginState(int command, float value) {
+		list.begin(command);
+		list.write(value);
+		list.end();
+	}
+
+	private void beginState(int command, Object value) {
+		list.begin(command);
+		list.writeObject(value);
+		list.end();
+	}
+
+	/** @see Graphics#clipPath(Path) */
+	@Override
+	public void clipPath(Path path) {
+		Path copy = copyPath(path);
+		state.clip.intersect(getPathBounds(copy, 0));
+		beginState(DisplayList.CLIP_PATH, copy);
+	}
+
+	/** @see Graphics#clipRect(Rectangle) */
+	@Override
+	public void clipRect(Rectangle r) {
+		state.clip.intersect(r);
+		beginState(DisplayList.CLIP_RECT);
+		writeRectangle(r);
+		list.end();
+	}
+
+	private Font copyFont(Font font) {
+		if (font == null)
+			return null;
+		return (Font) copies.computeIfAbsent(font, f -> {
+			Font copy = new Font(font.getDevice(), font.getFontData());
+			list.addResource(copy);
+			return copy;
+		});
+	}
+
+	private Image copyImage(Image image) {
+		return (Image) copies.computeIfAbsent(image, i -> {
+			Image copy = new Image(image.getDevice(), image, SWT.IMAGE_COPY);
+			list.addResource(copy);
+			return copy;
+		});
+	}
+
+	private Path copyPath(Path path) {
+		Path copy = new Path(path.getDevice(), path.getPathData());
+		list.addResource(copy);
+		return copy;
+	}
+
+	private TextLayout copyTextLayout(TextLayout layout) {
+		TextLayout copy = new TextLayout(layout.getDevice());
+		copy.setText(layout.getText());
+		copy.setFont(copyFont(layout.getFont()));
+		copy.setAlignment(layout.getAlignment());
+		copy.setAscent(layout.getAscent());
+		copy.setDescent(layout.getDescent());
+		copy.setIndent(layout.getIndent());
+		copy.setJustify(layout.getJustify());
+		copy.setOrientation(layout.getOrientation());
+		copy.setSegments(layout.getSegments());
+		copy.setSegmentsChars(layout.getSegmentsChars());
+		copy.setSpacing(layout.getSpacing());
+		copy.setTabs(layout.getTabs());
+		copy.setWidth(layout.getWidth());
+		int[] ranges = layout.getRanges();
+		TextStyle[] styles = layout.getStyles();
+		for (int i = 0; i < styles.length; i++) {
+			TextStyle style = styles[i];
+			if (style != null && style.font != null) {
+				style = new TextStyle(style);
+				style.font = copyFont(style.font);
+			}
+			copy.setStyle(style, ranges[i * 2], ranges[i * 2 + 1]);
+		}
+		list.addResource(copy);
+		return copy;
+	}
+
+	/**
+	 * Finishes the recording. The display list remains valid and is not disposed.
+	 *
+	 * @see Graphics#dispose()
+	 */
+	@Override
+	public void dispose() {
+		stack.clear();
+		list.trim();
+	}
+
+	/** @see Graphics#drawArc(int, int, int, int, int, int) */
+	@Override
+	public void drawArc(int x, int y, int w, int h, int offset, int length) {
+		writeShape(DisplayList.DRAW_ARC, x, y, w + 1, h + 1, true, new int[] { x, y, w, h, offset, length });
+	}
+
+	/**
+	 * Records the given display list as a single command. The commands of the
+	 * given list are played in a separate state, and the list is skipped entirely
+	 * if its bounds lie outside of the clip. The given list is referenced, not
+	 * copied, and must not be disposed while the display list of this graphics is
+	 * used.
+	 *
+	 * @param displayList the display list to record
+	 */
+	public void drawDisplayList(DisplayList displayList) {
+		if (begin(DisplayList.DISPLAY_LIST, displayList.getBounds())) {
+			list.writeObject(displayList);
+			list.end();
+		}
+	}
+
+	/** @see Graphics#drawFocus(int, int, int, int) */
+	@Override
+	public void drawFocus(int x, int y, int w, int h) {
+		writeShape(DisplayList.DRAW_FOCUS, x, y, w + 1, h + 1, false, new int[] { x, y, w, h });
+	}
+
+	/** @see Graphics#drawImage(Image, int, int) */
+	@Override
+	public void drawImage(Image srcImage, int x, int y) {
+		org.eclipse.swt.graphics.Rectangle size = srcImage.getBounds();
+		if (begin(DisplayList.DRAW_IMAGE, new Rectangle(x, y, size.width, size.height))) {
+			list.writeObject(copyImage(srcImage));
+			list.write(x);
+			list.write(y);
+			list.end();
+		}
+	}
+
+	/** @see Graphics#drawImage(Image, int, int, int, int, int, int, int, int) */
+	@Override
+	public void drawImage(Image srcImage, int x1, int y1, int w1, int h1, int x2, int y2, int w2, int h2) {
+		if (begin(DisplayList.DRAW_IMAGE_SCALED, new Rectangle(x2, y2, w2, h2))) {
+			list.writeObject(copyImage(srcImage));
+			list.write(new int[] { x1, y1, w1, h1, x2, y2, w2, h2 });
+			list.end();
+		}
+	}
+
+	/** @see Graphics#drawLine(int, int, int, int) */
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2) {
+		writeShape(DisplayList.DRAW_LINE, Math.min(x1, x2), Math.min(y1, y2), Math.abs(x2 - x1) + 1,
+				Math.abs(y2 - y1) + 1, true, new int[] { x1, y1, x2, y2 });
+	}
+
+	/** @see Graphics#drawOval(int, int, int, int) */
+	@Override
+	public void drawOval(int x, int y, int w, int h) {
+		writeShape(DisplayList.DRAW_OVAL, x, y, w + 1, h + 1, true, new int[] { x, y, w, h });
+	}
+
+	/** @see Graphics#drawPath(Path) */
+	@Override
+	public void drawPath(Path path) {
+		if (begin(DisplayList.DRAW_PATH, getPathBounds(path, getStrokePadding()))) {
+			list.writeObject(copyPath(path));
+			list.end();
+		}
+	}
+
+	/** @see Graphics#drawPoint(int, int) */
+	@Override
+	public void drawPoint(int x, int y) {
+		writeShape(DisplayList.DRAW_POINT, x, y, 1, 1, true, new int[] { x, y });
+	}
+
+	/** @see Graphics#drawPolygon(PointList) */
+	@Override
+	public void drawPolygon(PointList points) {
+		writePoints(DisplayList.DRAW_POLYGON, points, getStrokePadding());
+	}
+
+	/** @see Graphics#drawPolyline(PointList) */
+	@Override
+	public void drawPolyline(PointList points) {
+		writePoints(DisplayList.DRAW_POLYLINE, points, getStrokePadding());
+	}
+
+	/** @see Graphics#drawRectangle(int, int, int, int) */
+	@Override
+	public void drawRectangle(int x, int y, int width, int height) {
+		writeShape(DisplayList.DRAW_RECTANGLE, x, y, width + 1, height + 1, true,
+				new int[] { x, y, width, height });
+	}
+
+	/** @see Graphics#drawRoundRectangle(Rectangle, int, int) */
+	@Override
+	public void drawRoundRectangle(Rectangle r, int arcWidth, int arcHeight) {
+		writeShape(DisplayList.DRAW_ROUND_RECTANGLE, r.x, r.y, r.width + 1, r.height + 1, true,
+				new int[] { r.x, r.y, r.width, r.height, arcWidth, arcHeight });
+	}
+
+	/** @see Graphics#drawString(String, int, int) */
+	@Override
+	public void drawString(String s, int x, int y) {
+		writeText(DisplayList.DRAW_STRING, s, x, y, getStringExtents(s));
+	}
+
+	/** @see Graphics#drawText(String, int, int) */
+	@Override
+	public void drawText(String s, int x, int y) {
+		writeText(DisplayList.DRAW_TEXT, s, x, y, getTextExtents(s));
+	}
+
+	/** @see Graphics#drawText(String, int, int, int) */
+	@Override
+	public void drawText(String s, int x, int y, int style) {
+		writeText(DisplayList.DRAW_TEXT_STYLE, s, x, y, getTextExtents(s), style);
+	}
+
+	/** @see Graphics#drawTextLayout(TextLayout, int, int, int, int, Color, Color) */
+	@Override
+	public void drawTextLayout(TextLayout layout, int x, int y, int selectionStart, int selectionEnd,
+			Color selectionForeground, Color selectionBackground) {
+		org.eclipse.swt.graphics.Rectangle b = layout.getBounds();
+		if (begin(DisplayList.DRAW_TEXT_LAYOUT, new Rectangle(x + b.x, y + b.y, b.width, b.height))) {
+			list.writeObject(copyTextLayout(layout));
+			list.write(x);
+			list.write(y);
+			list.write(selectionStart);
+			list.write(selectionEnd);
+			list.writeObject(selectionForeground);
+			list.writeObject(selectionBackground);
+			list.end();
+		}
+	}
+
+	/** @see Graphics#fillArc(int, int, int, int, int, int) */
+	@Override
+	public void fillArc(int x, int y, int w, int h, int offset, int length) {
+		writeShape(DisplayList.FILL_ARC, x, y, w, h, false, new int[] { x, y, w, h, offset, length });
+	}
+
+	/** @see Graphics#fillGradient(int, int, int, int, boolean) */
+	@Override
+	public void fillGradient(int x, int y, int w, int h, boolean vertical) {
+		writeShape(DisplayList.FILL_GRADIENT, x, y, w, h, false, new int[] { x, y, w, h, vertical ? 1 : 0 });
+	}
+
+	/** @see Graphics#fillOval(int, int, int, int) */
+	@Override
+	public void fillOval(int x, int y, int w, int h) {
+		writeShape(DisplayList.FILL_OVAL, x, y, w, h, false, new int[] { x, y, w, h });
+	}
+
+	/** @see Graphics#fillPath(Path) */
+	@Override
+	public void fillPath(Path path) {
+		if (begin(DisplayList.FILL_PATH, getPathBounds(path, 1))) {
+			list.writeObject(copyPath(path));
+			list.end();
+		}
+	}
+
+	/** @see Graphics#fillPolygon(PointList) */
+	@Override
+	public void fillPolygon(PointList points) {
+		writePoints(DisplayList.FILL_POLYGON, points, 1);
+	}
+
+	/** @see Graphics#fillRectangle(int, int, int, int) */
+	@Override
+	public void fillRectangle(int x, int y, int width, int height) {
+		writeShape(DisplayList.FILL_RECTANGLE, x, y, width, height, false, new int[] { x, y, width, height });
+	}
+
+	/** @see Graphics#fillRoundRectangle(Rectangle, int, int) */
+	@Override
+	public void fillRoundRectangle(Rectangle r, int arcWidth, int arcHeight) {
+		writeShape(DisplayList.FILL_ROUND_RECTANGLE, r.x, r.y, r.width, r.height, false,
+				new int[] { r.x, r.y, r.width, r.height, arcWidth, arcHeight });
+	}
+
+	/** @see Graphics#fillString(String, int, int) */
+	@Override
+	public void fillString(String s, int x, int y) {
+		writeText(DisplayList.FILL_STRING, s, x, y, getStringExtents(s));
+	}
+
+	/** @see Graphics#fillText(String, int, int) */
+	@Override
+	public void fillText(String s, int x, int y) {
+		writeText(DisplayList.FILL_TEXT, s, x, y, getTextExtents(s));
+	}
+
+	/** @see Graphics#getAbsoluteScale() */
+	@Override
+	public double getAbsoluteScale() {
+		return absoluteScale * state.scaleX;
+	}
+
+	/** @see Graphics#getAdvanced() */
+	@Override
+	public boolean getAdvanced() {
+		return state.advanced;
+	}
+
+	/** @see Graphics#getAlpha() */
+	@Override
+	public int getAlpha() {
+		return state.alpha;
+	}
+
+	/** @see Graphics#getAntialias() */
+	@Override
+	public int getAntialias() {
+		return state.antialias;
+	}
+
+	/** @see Graphics#getBackgroundColor() */
+	@Override
+	public Color getBackgroundColor() {
+		return state.bgColor;
+	}
+
+	/** @see Graphics#getClip(Rectangle) */
+	@Override
+	public Rectangle getClip(Rectangle rect) {
+		return rect.setBounds(state.clip);
+	}
+
+	/**
+	 * Returns the display list into which this graphics records.
+	 *
+	 * @return the display list
+	 */
+	public DisplayList getDisplayList() {
+		return list;
+	}
+
+	/** @see Graphics#getFillRule() */
+	@Override
+	public int getFillRule() {
+		return state.fillRule;
+	}
+
+	/** @see Graphics#getFont() */
+	@Override
+	public Font getFont() {
+		return state.font;
+	}
+
+	/** @see Graphics#getFontMetrics() */
+	@Override
+	public FontMetrics getFontMetrics() {
+		return FigureUtilities.getFontMetrics(state.font);
+	}
+
+	/** @see Graphics#getForegroundColor() */
+	@Override
+	public Color getForegroundColor() {
+		return state.fgColor;
+	}
+
+	/** @see Graphics#getInterpolation() */
+	@Override
+	public int getInterpolation() {
+		return state.interpolation;
+	}
+
+	/** @see Graphics#getLineAttributes() */
+	@Override
+	public LineAttributes getLineAttributes() {
+		return SWTGraphics.clone(state.lineAttributes);
+	}
+
+	/** @see Graphics#getLineCap() */
+	@Override
+	public int getLineCap() {
+		return state.lineAttributes.cap;
+	}
+
+	/** @see Graphics#getLineJoin() */
+	@Override
+	public int getLineJoin() {
+		return state.lineAttributes.join;
+	}
+
+	/** @see Graphics#getLineMiterLimit() */
+	@Override
+	public float getLineMiterLimit() {
+		return state.lineAttributes.miterLimit;
+	}
+
+	/** @see Graphics#getLineStyle() */
+	@Override
+	public int getLineStyle() {
+		return state.lineAttributes.style;
+	}
+
+	/** @see Graphics#getLineWidth() */
+	@Override
+	public int getLineWidth() {
+		return (int) state.lineAttributes.width;
+	}
+
+	/** @see Graphics#getLineWidthFloat() */
+	@Override
+	public float getLineWidthFloat() {
+		return state.lineAttributes.width;
+	}
+
+	private static Rectangle getPathBounds(Path path, int padding) {
+		float[] b = new float[4];
+		path.getBounds(b);
+		int x = (int) Math.floor(b[0]), y = (int) Math.floor(b[1]);
+		return new Rectangle(x, y, (int) Math.ceil(b[0] + b[2]) - x + 1, (int) Math.ceil(b[1] + b[3]) - y + 1)
+				.expand(padding, padding);
+	}
+
+	private int getStrokePadding() {
+		return (int) Math.ceil(state.lineAttributes.width / 2) + 1;
+	}
+
+	private Dimension getStringExtents(String s) {
+		return state.font == null ? null : FigureUtilities.getStringExtents(s, state.font);
+	}
+
+	private Dimension getTextExtents(String s) {
+		return state.font == null ? null : FigureUtilities.getTextExtents(s, state.font);
+	}
+
+	/** @see Graphics#getTextAntialias() */
+	@Override
+	public int getTextAntialias() {
+		return state.textAntialias;
+	}
+
+	/** @see Graphics#getXORMode() */
+	@Override
+	public boolean getXORMode() {
+		return state.xorMode;
+	}
+
+	/** @see Graphics#popState() */
+	@Override
+	public void popState() {
+		state = stack.remove(stack.size() - 1);
+		beginState(DisplayList.POP_STATE);
+		list.end();
+	}
+
+	/** @see Graphics#pushState() */
+	@Override
+	public void pushState() {
+		stack.add(state.copy());
+		beginState(DisplayList.PUSH_STATE);
+		list.end();
+	}
+
+	/** @see Graphics#restoreState() */
+	@Override
+	public void restoreState() {
+		state = stack.get(stack.size() - 1).copy();
+		beginState(DisplayList.RESTORE_STATE);
+		list.end();
+	}
+
+	/** @see Graphics#rotate(float) */
+	@Override
+	public void rotate(float degrees) {
+		state.transformed = true;
+		beginState(DisplayList.ROTATE, degrees);
+	}
+
+	/** @see Graphics#scale(double) */
+	@Override
+	public void scale(double amount) {
+		scaleState(amount, amount);
+		beginState(DisplayList.SCALE);
+		list.write(amount);
+		list.end();
+	}
+
+	/** @see Graphics#scale(float, float) */
+	@Override
+	public void scale(float horizontal, float vertical) {
+		scaleState(horizontal, vertical);
+		beginState(DisplayList.SCALE_FLOAT);
+		list.write(horizontal);
+		list.write(vertical);
+		list.end();
+	}
+
+	private void scaleState(double horizontal, double vertical) {
+		Rectangle clip = state.clip;
+		int x = (int) Math.floor(clip.x / horizontal);
+		int y = (int) Math.floor(clip.y / vertical);
+		clip.setBounds(x, y, (int) Math.ceil(clip.right() / horizontal) - x,
+				(int) Math.ceil(clip.bottom() / vertical) - y);
+		state.scaleX *= horizontal;
+		state.scaleY *= vertical;
+	}
+
+	/** @see Graphics#setAdvanced(boolean) */
+	@Override
+	public void setAdvanced(boolean advanced) {
+		state.advanced = advanced;
+		beginState(DisplayList.SET_ADVANCED, advanced ? 1 : 0);
+	}
+
+	/** @see Graphics#setAlpha(int) */
+	@Override
+	public void setAlpha(int alpha) {
+		state.alpha = alpha;
+		beginState(DisplayList.SET_ALPHA, alpha);
+	}
+
+	/** @see Graphics#setAntialias(int) */
+	@Override
+	public void setAntialias(int value) {
+		state.antialias = value;
+		beginState(DisplayList.SET_ANTIALIAS, value);
+	}
+
+	/** @see Graphics#setBackgroundColor(Color) */
+	@Override
+	public void setBackgroundColor(Color rgb) {
+		state.bgColor = rgb;
+		state.bgPattern = null;
+		beginState(DisplayList.SET_BACKGROUND_COLOR, rgb);
+	}
+
+	/** @see Graphics#setBackgroundPattern(Pattern) */
+	@Override
+	public void setBackgroundPattern(Pattern pattern) {
+		state.bgPattern = pattern;
+		beginState(DisplayList.SET_BACKGROUND_PATTERN, pattern);
+	}
+
+	/** @see Graphics#setClip(Path) */
+	@Override
+	public void setClip(Path path) {
+		Path copy = copyPath(path);
+		state.clip = getPathBounds(copy, 0);
+		beginState(DisplayList.SET_CLIP_PATH, copy);
+	}
+
+	/** @see Graphics#setClip(Rectangle) */
+	@Override
+	public void setClip(Rectangle r) {
+		state.clip.setBounds(r);
+		beginState(DisplayList.SET_CLIP);
+		writeRectangle(r);
+		list.end();
+	}
+
+	/** @see Graphics#setFillRule(int) */
+	@Override
+	public void setFillRule(int rule) {
+		state.fillRule = rule;
+		beginState(DisplayList.SET_FILL_RULE, rule);
+	}
+
+	/** @see Graphics#setFont(Font) */
+	@Override
+	public void setFont(Font f) {
+		state.font = f;
+		beginState(DisplayList.SET_FONT, copyFont(f));
+	}
+
+	/** @see Graphics#setForegroundColor(Color) */
+	@Override
+	public void setForegroundColor(Color rgb) {
+		state.fgColor = rgb;
+		state.fgPattern = null;
+		beginState(DisplayList.SET_FOREGROUND_COLOR, rgb);
+	}
+
+	/** @see Graphics#setForegroundPattern(Pattern) */
+	@Override
+	public void setForegroundPattern(Pattern pattern) {
+		state.fgPattern = pattern;
+		beginState(DisplayList.SET_FOREGROUND_PATTERN, pattern);
+	}
+
+	/** @see Graphics#setInterpolation(int) */
+	@Override
+	public void setInterpolation(int interpolation) {
+		state.interpolation = interpolation;
+		beginState(DisplayList.SET_INTERPOLATION, interpolation);
+	}
+
+	/** @see Graphics#setLineAttributes(LineAttributes) */
+	@Override
+	public void setLineAttributes(LineAttributes attributes) {
+		SWTGraphics.copyLineAttributes(state.lineAttributes, attributes);
+		beginState(DisplayList.SET_LINE_ATTRIBUTES, SWTGraphics.clone(attributes));
+	}
+
+	/** @see Graphics#setLineCap(int) */
+	@Override
+	public void setLineCap(int cap) {
+		state.lineAttributes.cap = cap;
+		beginState(DisplayList.SET_LINE_CAP, cap);
+	}
+
+	/** @see Graphics#setLineDash(int[]) */
+	@Override
+	public void setLineDash(int[] dash) {
+		float[] value = null;
+		if (dash != null) {
+			value = new float[dash.length];
+			for (int i = 0; i < dash.length; i++)
+				value[i] = dash[i];
+		}
+		state.lineAttributes.dash = value;
+		state.lineAttributes.style = value == null ? SWT.LINE_SOLID : SWT.LINE_CUSTOM;
+		beginState(DisplayList.SET_LINE_DASH, dash == null ? null : dash.clone());
+	}
+
+	/** @see Graphics#setLineDash(float[]) */
+	@Override
+	public void setLineDash(float[] value) {
+		state.lineAttributes.dash = value == null ? null : value.clone();
+		state.lineAttributes.style = value == null ? SWT.LINE_SOLID : SWT.LINE_CUSTOM;
+		beginState(DisplayList.SET_LINE_DASH_FLOAT, state.lineAttributes.dash);
+	}
+
+	/** @see Graphics#setLineDashOffset(float) */
+	@Override
+	public void setLineDashOffset(float value) {
+		state.lineAttributes.dashOffset = value;
+		beginState(DisplayList.SET_LINE_DASH_OFFSET, value);
+	}
+
+	/** @see Graphics#setLineJoin(int) */
+	@Override
+	public void setLineJoin(int join) {
+		state.lineAttributes.join = join;
+		beginState(DisplayList.SET_LINE_JOIN, join);
+	}
+
+	/** @see Graphics#setLineMiterLimit(float) */
+	@Override
+	public void setLineMiterLimit(float miterLimit) {
+		state.lineAttributes.miterLimit = miterLimit;
+		beginState(DisplayList.SET_LINE_MITER_LIMIT, miterLimit);
+	}
+
+	/** @see Graphics#setLineStyle(int) */
+	@Override
+	public void setLineStyle(int style) {
+		state.lineAttributes.style = style;
+		beginState(DisplayList.SET_LINE_STYLE, style);
+	}
+
+	/** @see Graphics#setLineWidth(int) */
+	@Override
+	public void setLineWidth(int width) {
+		state.lineAttributes.width = width;
+		beginState(DisplayList.SET_LINE_WIDTH, width);
+	}
+
+	/** @see Graphics#setLineWidthFloat(float) */
+	@Override
+	public void setLineWidthFloat(float width) {
+		state.lineAttributes.width = width;
+		beginState(DisplayList.SET_LINE_WIDTH_FLOAT, width);
+	}
+
+	/** @see Graphics#setTextAntialias(int) */
+	@Override
+	public void setTextAntialias(int value) {
+		state.textAntialias = value;
+		beginState(DisplayList.SET_TEXT_ANTIALIAS, value);
+	}
+
+	/** @see Graphics#setXORMode(boolean) */
+	@Override
+	public void setXORMode(boolean b) {
+		state.xorMode = b;
+		beginState(DisplayList.SET_XOR_MODE, b ? 1 : 0);
+	}
+
+	/** @see Graphics#shear(float, float) */
+	@Override
+	public void shear(float horz, float vert) {
+		state.transformed = true;
+		beginState(DisplayList.SHEAR);
+		list.write(horz);
+		list.write(vert);
+		list.end();
+	}
+
+	private Rectangle toRoot(Rectangle r) {
+		State s = state;
+		double x1 = r.x * s.scaleX + s.translateX, x2 = r.right() * s.scaleX + s.translateX;
+		double y1 = r.y * s.scaleY + s.translateY, y2 = r.bottom() * s.scaleY + s.translateY;
+		int x = (int) Math.floor(Math.min(x1, x2)), y = (int) Math.floor(Math.min(y1, y2));
+		return new Rectangle(x, y, (int) Math.ceil(Math.max(x1, x2)) - x, (int) Math.ceil(Math.max(y1, y2)) - y);
+	}
+
+	/** @see Graphics#translate(int, int) */
+	@Override
+	public void translate(int dx, int dy) {
+		state.clip.translate(-dx, -dy);
+		state.translateX += dx * state.scaleX;
+		state.translateY += dy * state.scaleY;
+		beginState(DisplayList.TRANSLATE);
+		list.write(dx);
+		list.write(dy);
+		list.end();
+	}
+
+	/** @see Graphics#translate(float, float) */
+	@Override
+	public void translate(float dx, float dy) {
+		Rectangle clip = state.clip;
+		int x = (int) Math.floor(clip.x - dx), y = (int) Math.floor(clip.y - dy);
+		clip.setBounds(x, y, (int) Math.ceil(clip.right() - dx) - x, (int) Math.ceil(clip.bottom() - dy) - y);
+		state.translateX += dx * state.scaleX;
+		state.translateY += dy * state.scaleY;
+		beginState(DisplayList.TRANSLATE_FLOAT);
+		list.write(dx);
+		list.write(dy);
+		list.end();
+	}
+
+	private void writePoints(int command, PointList points, int padding) {
+		Rectangle area = points.getBounds().getCopy();
+		area.width++;
+		area.height++;
+		if (begin(command, area.expand(padding, padding))) {
+			list.write(points.toIntArray());
+			list.end();
+		}
+	}
+
+	private void writeRectangle(Rectangle r) {
+		list.write(r.x);
+		list.write(r.y);
+		list.write(r.width);
+		list.write(r.height);
+	}
+
+}
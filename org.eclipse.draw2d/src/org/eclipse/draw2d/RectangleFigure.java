@@ -30,6 +30,18 @@ public class RectangleFigure extends Shape {
 		graphics.fillRectangle(getBounds());
 	}
 
+	/**
+	 * Rectangles may be reduced to their bounds. Subclasses which paint more than
+	 * the rectangle should return a more detailed level.
+	 * 
+	 * @see Figure#getSimplestDetailLevel()
+	 * @since 3.15
+	 */
+	@Override
+	protected int getSimplestDetailLevel() {
+		return LevelOfDetail.BOUNDS;
+	}
+
 	/**
 	 * @see Shape#outlineShape(Graphics)
 	 */
@@ -21,6 +21,8 @@ public class ScalableFreeformLayeredPane extends FreeformLayeredPane implements
 
 	private double scale = 1.0;
 
+	private LevelOfDetail levelOfDetail;
+
 	private final boolean useScaledGraphics;
 
 	public ScalableFreeformLayeredPane() {
@@ -42,6 +44,15 @@ public class ScalableFreeformLayeredPane extends FreeformLayeredPane implements
 		return getScaledRect(super.getClientArea(rect));
 	}
 
+	/**
+	 * @see IScalablePane#getLevelOfDetail()
+	 * @since 3.15
+	 */
+	@Override
+	public LevelOfDetail getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
 	/**
 	 * Returns the current zoom scale level.
 	 * 
@@ -66,13 +77,15 @@ public class ScalableFreeformLayeredPane extends FreeformLayeredPane implements
 		if (getChildren().isEmpty())
 			return;
 
-		if (scale == 1.0) {
-			super.paintClientArea(graphics);
-		} else {
-			Graphics graphicsToUse = IScalablePaneHelper.prepareScaledGraphics(graphics, this);
-			paintChildren(graphicsToUse);
-			IScalablePaneHelper.cleanupScaledGraphics(graphics, graphicsToUse);
-		}
+		LevelOfDetail.paintWith(levelOfDetail, graphics.getAbsoluteScale() * scale, () -> {
+			if (scale == 1.0) {
+				super.paintClientArea(graphics);
+			} else {
+				Graphics graphicsToUse = IScalablePaneHelper.prepareScaledGraphics(graphics, this);
+				paintChildren(graphicsToUse);
+				IScalablePaneHelper.cleanupScaledGraphics(graphics, graphicsToUse);
+			}
+		});
 	}
 
 	/**
@@ -85,6 +98,18 @@ public class ScalableFreeformLayeredPane extends FreeformLayeredPane implements
 		return super.optimizeClip();
 	}
 
+	/**
+	 * @see IScalablePane#setLevelOfDetail(LevelOfDetail)
+	 * @since 3.15
+	 */
+	@Override
+	public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+		if (this.levelOfDetail == levelOfDetail)
+			return;
+		this.levelOfDetail = levelOfDetail;
+		repaint();
+	}
+
 	/**
 	 * Sets the zoom level
 	 * 
@@ -26,6 +26,8 @@ public class ScalableLayeredPane extends LayeredPane implements IScalablePane {
 
 	private double scale = 1.0;
 
+	private LevelOfDetail levelOfDetail;
+
 	private final boolean useScaledGraphics;
 
 	public ScalableLayeredPane() {
@@ -67,6 +69,15 @@ public class ScalableLayeredPane extends LayeredPane implements IScalablePane {
 		return d.getExpanded(-w, -h).scale(scale).expand(w, h);
 	}
 
+	/**
+	 * @see IScalablePane#getLevelOfDetail()
+	 * @since 3.15
+	 */
+	@Override
+	public LevelOfDetail getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
 	/**
 	 * Returns the scale level, default is 1.0.
 	 * 
@@ -83,13 +94,15 @@ public class ScalableLayeredPane extends LayeredPane implements IScalablePane {
 		if (getChildren().isEmpty())
 			return;
 
-		if (scale == 1.0) {
-			super.paintClientArea(graphics);
-		} else {
-			Graphics graphicsToUse = IScalablePaneHelper.prepareScaledGraphics(graphics, this);
-			paintChildren(graphicsToUse);
-			IScalablePaneHelper.cleanupScaledGraphics(graphics, graphicsToUse);
-		}
+		LevelOfDetail.paintWith(levelOfDetail, graphics.getAbsoluteScale() * scale, () -> {
+			if (scale == 1.0) {
+				super.paintClientArea(graphics);
+			} else {
+				Graphics graphicsToUse = IScalablePaneHelper.prepareScaledGraphics(graphics, this);
+				paintChildren(graphicsToUse);
+				IScalablePaneHelper.cleanupScaledGraphics(graphics, graphicsToUse);
+			}
+		});
 	}
 
 	/**
@@ -102,6 +115,18 @@ public class ScalableLayeredPane extends LayeredPane implements IScalablePane {
 		return super.optimizeClip();
 	}
 
+	/**
+	 * @see IScalablePane#setLevelOfDetail(LevelOfDetail)
+	 * @since 3.15
+	 */
+	@Override
+	public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+		if (this.levelOfDetail == levelOfDetail)
+			return;
+		this.levelOfDetail = levelOfDetail;
+		repaint();
+	}
+
 	/**
 	 * Sets the zoom level
 	 * 
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.FontMetrics;
+
+/**
+ * The process-wide cache of the scaled fonts and font metrics used by
+ * {@link ScaledGraphics}. A scaled font is shared by all scaled graphics which
+ * zoom the same font to the same height on the same device, and is kept after
+ * the last of them has been disposed, so that repainting or zooming back to a
+ * previous zoom level does not create the font again.
+ * <P>
+ * The cache holds at most {@link #getMaximumSize()} fonts which are not in use.
+ * When the limit is exceeded, the least recently used of them are disposed. A
+ * font is in use from the time a scaled graphics first selects it until that
+ * graphics is disposed; fonts in use are never disposed by the cache, so the
+ * cache may temporarily grow beyond its limit.
+ * <P>
+ * The hit, miss and eviction counters allow clients to monitor the
+ * effectiveness of the cache in long-running sessions. They are cumulative
+ * until {@link #resetStatistics()} is called.
+ *
+ * @since 3.15
+ */
+public final class ScaledFontCache {
+
+	private static final class FontEntry {
+		final Font font;
+		int references;
+
+		FontEntry(Font font) {
+			this.font = font;
+		}
+	}
+
+	private static final class FontInfo {
+		FontData data;
+		int ascent = -1;
+	}
+
+	private static final Object LOCK = new Object();
+	private static final FontKeyedCache<FontEntry> fonts = new FontKeyedCache<>();
+	private static final FontKeyedCache<FontInfo> infos = new FontKeyedCache<>();
+
+	private static int maximumSize = 64;
+
+	private ScaledFontCache() {
+	}
+
+	/**
+	 * Returns the font for the given device with the given font's data and
+	 * height, creating it using the factory if it is not cached. The font is in
+	 * use until it is released using {@link #release(Device, Font, int)}.
+	 */
+	static Font acquire(Device device, Font font, int height, Function<FontData, Font> factory) {
+		synchronized (LOCK) {
+			FontEntry entry = fonts.get(font, device, height);
+			if (entry == null) {
+				FontData data = font.getFontData()[0];
+				data.setHeight(height);
+				entry = new FontEntry(factory.apply(data));
+				fonts.put(font, device, height, entry);
+			}
+			entry.references++;
+			return entry.font;
+		}
+	}
+
+	/**
+	 * Releases a font obtained from {@link #acquire(Device, Font, int, Function)}.
+	 * Once no longer in use, the font may be disposed to keep the cache within
+	 * its limit.
+	 */
+	static void release(Device device, Font font, int height) {
+		synchronized (LOCK) {
+			FontEntry entry = fonts.find(font, device, height);
+			if (entry != null && entry.references > 0)
+				entry.references--;
+			evict(maximumSize);
+		}
+	}
+
+	/**
+	 * Returns the data of the given font.
+	 */
+	static FontData getFontData(Font font) {
+		synchronized (LOCK) {
+			FontInfo info = getInfo(font);
+			if (info.data == null)
+				info.data = font.getFontData()[0];
+			return info.data;
+		}
+	}
+
+	/**
+	 * Returns the distance from the top of the given font to its baseline, which
+	 * is obtained from the given metrics if it is not cached.
+	 */
+	static int getAscent(Font font, Supplier<FontMetrics> metrics) {
+		synchronized (LOCK) {
+			FontInfo info = getInfo(font);
+			if (info.ascent == -1) {
+				FontMetrics metric = metrics.get();
+				info.ascent = metric.getHeight() - metric.getDescent();
+			}
+			return info.ascent;
+		}
+	}
+
+	private static FontInfo getInfo(Font font) {
+		FontInfo info = infos.find(font, null, 0);
+		if (info == null) {
+			info = new FontInfo();
+			infos.put(font, null, 0, info);
+			infos.evict(4 * maximumSize, any -> true, any -> {
+			});
+		}
+		return info;
+	}
+
+	private static void evict(int size) {
+		fonts.evict(size, entry -> entry.references == 0, entry -> entry.font.dispose());
+	}
+
+	/**
+	 * Disposes all cached fonts which are not in use and clears the cached font
+	 * metrics.
+	 */
+	public static void flush() {
+		synchronized (LOCK) {
+			evict(0);
+			infos.clear();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of fonts kept while they are not in use.
+	 *
+	 * @return the maximum size
+	 */
+	public static int getMaximumSize() {
+		synchronized (LOCK) {
+			return maximumSize;
+		}
+	}
+
+	/**
+	 * Sets the maximum number of fonts kept while they are not in use. The
+	 * default is 64.
+	 *
+	 * @param size the maximum size
+	 */
+	public static void setMaximumSize(int size) {
+		if (size < 0)
+			throw new IllegalArgumentException("Size must not be negative"); //$NON-NLS-1$
+		synchronized (LOCK) {
+			maximumSize = size;
+			evict(size);
+		}
+	}
+
+	/**
+	 * Returns the number of cached fonts, including the fonts in use.
+	 *
+	 * @return the number of fonts
+	 */
+	public static int getSize() {
+		synchronized (LOCK) {
+			return fonts.size();
+		}
+	}
+
+	/**
+	 * Returns the number of requests for a scaled font which were served from the
+	 * cache.
+	 *
+	 * @return the hit count
+	 */
+	public static long getHitCount() {
+		synchronized (LOCK) {
+			return fonts.getHitCount();
+		}
+	}
+
+	/**
+	 * Returns the number of requests for a scaled font which created a new font.
+	 *
+	 * @return the miss count
+	 */
+	public static long getMissCount() {
+		synchronized (LOCK) {
+			return fonts.getMissCount();
+		}
+	}
+
+	/**
+	 * Returns the number of fonts which were disposed to keep the cache within its
+	 * limit.
+	 *
+	 * @return the eviction count
+	 */
+	public static long getEvictionCount() {
+		synchronized (LOCK) {
+			return fonts.getEvictionCount();
+		}
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters to zero.
+	 */
+	public static void resetStatistics() {
+		synchronized (LOCK) {
+			fonts.resetStatistics();
+		}
+	}
+
+}
@@ -12,7 +12,6 @@ package org.eclipse.draw2d;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -167,8 +166,7 @@ public class ScaledGraphics extends Graphics {
 
 	private boolean allowText = true;
 	// private static final Point PT = new Point();
-	private Map fontCache = new HashMap();
-	private Map fontDataCache = new HashMap();
+	private Map<FontKey, Font> fontCache = new HashMap<>();
 	private FontKey fontKey = new FontKey();
 	private double fractionalX;
 	private double fractionalY;
@@ -253,13 +251,15 @@ public class ScaledGraphics extends Graphics {
 			popState();
 		}
 
-		// Dispose fonts
-		Iterator iter = fontCache.values().iterator();
-		while (iter.hasNext()) {
-			Font font = ((Font) iter.next());
-			font.dispose();
+		// Release fonts
+		for (Map.Entry<FontKey, Font> entry : fontCache.entrySet()) {
+			if (usesSharedFonts()) {
+				ScaledFontCache.release(Display.getCurrent(), entry.getKey().font, entry.getKey().height);
+			} else {
+				entry.getValue().dispose();
+			}
 		}
-
+		fontCache.clear();
 	}
 
 	/** @see Graphics#drawArc(int, int, int, int, int, int) */
@@ -513,25 +513,25 @@ public class ScaledGraphics extends Graphics {
 	}
 
 	Font getCachedFont(FontKey key) {
-		Font font = (Font) fontCache.get(key);
+		Font font = fontCache.get(key);
 		if (font != null) {
 			return font;
 		}
 		key = new FontKey(key.font, key.height);
-		FontData data = key.font.getFontData()[0];
-		data.setHeight(key.height);
-		Font zoomedFont = createFont(data);
+		Font zoomedFont;
+		if (usesSharedFonts()) {
+			zoomedFont = ScaledFontCache.acquire(Display.getCurrent(), key.font, key.height, this::createFont);
+		} else {
+			FontData data = key.font.getFontData()[0];
+			data.setHeight(key.height);
+			zoomedFont = createFont(data);
+		}
 		fontCache.put(key, zoomedFont);
 		return zoomedFont;
 	}
 
 	FontData getCachedFontData(Font f) {
-		FontData data = (FontData) fontDataCache.get(f);
-		if (data == null) {
-			data = f.getFontData()[0];
-			fontDataCache.put(f, data);
-		}
-		return data;
+		return ScaledFontCache.getFontData(f);
 	}
 
 	/** @see Graphics#getClip(Rectangle) */
@@ -569,6 +569,13 @@ public class ScaledGraphics extends Graphics {
 		return graphics.getFillRule();
 	}
 
+	/**
+	 * Returns the graphics on which this graphics paints.
+	 */
+	Graphics getDelegate() {
+		return graphics;
+	}
+
 	/** @see Graphics#getFont() */
 	@Override
 	public Font getFont() {
@@ -1064,17 +1071,30 @@ public class ScaledGraphics extends Graphics {
 		return zoomed;
 	}
 
+	/**
+	 * Returns whether the scaled fonts are shared with other scaled graphics
+	 * through the {@link ScaledFontCache}. Otherwise they are created for this
+	 * graphics only and disposed with it.
+	 */
+	boolean usesSharedFonts() {
+		return true;
+	}
+
 	private Point zoomTextPoint(int x, int y) {
 		if (localCache.font != localFont) {
 			// Font is different, re-calculate its height
-			FontMetrics metric = FigureUtilities.getFontMetrics(localFont);
-			localCache.height = metric.getHeight() - metric.getDescent();
+			Font font = localFont;
+			localCache.height = ScaledFontCache.getAscent(font, () -> FigureUtilities.getFontMetrics(font));
 			localCache.font = localFont;
 		}
 		if (targetCache.font != graphics.getFont()) {
-			FontMetrics metric = graphics.getFontMetrics();
 			targetCache.font = graphics.getFont();
-			targetCache.height = metric.getHeight() - metric.getDescent();
+			if (usesSharedFonts()) {
+				targetCache.height = ScaledFontCache.getAscent(targetCache.font, graphics::getFontMetrics);
+			} else {
+				FontMetrics metric = graphics.getFontMetrics();
+				targetCache.height = metric.getHeight() - metric.getDescent();
+			}
 		}
 		return new Point(((int) (Math.floor((x * zoom) + fractionalX))),
 				(int) (Math.floor((y + localCache.height - 1) * zoom - targetCache.height + 1 + fractionalY)));
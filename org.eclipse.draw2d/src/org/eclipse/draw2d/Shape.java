@@ -145,6 +145,32 @@ public abstract class Shape extends Figure {
 		}
 	}
 
+	/**
+	 * Shapes may omit their borders. Subclasses whose outline is their bounds may
+	 * return {@link LevelOfDetail#BOUNDS}.
+	 * 
+	 * @see Figure#getSimplestDetailLevel()
+	 * @since 3.15
+	 */
+	@Override
+	protected int getSimplestDetailLevel() {
+		return LevelOfDetail.NO_DECORATIONS;
+	}
+
+	/**
+	 * Fills the bounds if this shape is filled, and draws them otherwise.
+	 * 
+	 * @see Figure#paintBounds(Graphics)
+	 * @since 3.15
+	 */
+	@Override
+	protected void paintBounds(Graphics graphics) {
+		if (fill)
+			graphics.fillRectangle(getBounds());
+		else if (outline)
+			graphics.drawRectangle(getBounds().getResized(-1, -1));
+	}
+
 	private void paintOutline(Graphics graphics) {
 		// synchronize the line width and style attributes to the
 		// public fields which may have been assigned
@@ -57,7 +57,7 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 	private boolean isDirty;
 	private ShortestPathRouter algorithm = new ShortestPathRouter();
 	private final IFigure container;
-	private final Set staleConnections = new HashSet();
+	private final Set<Connection> staleConnections = new HashSet<>();
 	private final LayoutListener listener = new LayoutTracker();
 
 	private final FigureListener figureListener = source -> {
@@ -159,7 +159,7 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 		if (staleConnections.isEmpty()) {
 			return;
 		}
-		((Connection) staleConnections.iterator().next()).revalidate();
+		staleConnections.iterator().next().revalidate();
 	}
 
 	private void processStaleConnections() {
@@ -265,13 +265,19 @@ public final class ShortestPathConnectionRouter extends AbstractRouter {
 	public void route(Connection conn) {
 		if (isDirty) {
 			ignoreInvalidate = true;
+			// The anchors of stale connections may have moved along their owners'
+			// outlines, even if their paths are unchanged
+			Set<Connection> stale = new HashSet<>(staleConnections);
 			processStaleConnections();
 			isDirty = false;
 			List updated = algorithm.solve();
+			Set<Path> changed = new HashSet<>(algorithm.getChangedPaths());
 			Connection current;
 			for (Object element : updated) {
 				Path path = (Path) element;
 				current = (Connection) path.data;
+				if (!changed.contains(path) && !stale.contains(current))
+					continue;
 				current.revalidate();
 
 				PointList points = path.getPoints().getCopy();
@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import org.eclipse.swt.graphics.Font;
+
+/**
+ * The process-wide cache of the text and string extents measured by
+ * {@link FigureUtilities}. Validating a diagram measures the same strings in
+ * the same fonts over and over, for example while labels compute their
+ * preferred size. The cache keeps the extents of the most recently measured
+ * strings, up to {@link #getMaximumSize()} of them, and discards the least
+ * recently used ones beyond that.
+ * <P>
+ * The hit, miss and eviction counters allow clients to monitor the
+ * effectiveness of the cache. They are cumulative until
+ * {@link #resetStatistics()} is called.
+ *
+ * @since 3.15
+ */
+public final class TextExtentCache {
+
+	/**
+	 * Indicates a string which is not in the cache.
+	 */
+	static final long MISSING = -1;
+
+	private static final Object LOCK = new Object();
+	private static final FontKeyedCache<Long> extents = new FontKeyedCache<>();
+
+	private static int maximumSize = 8192;
+
+	private TextExtentCache() {
+	}
+
+	/**
+	 * Returns the extent of the given string, packed by
+	 * {@link #pack(int, int)}, or {@link #MISSING}.
+	 *
+	 * @param text <code>true</code> for the extent with tab expansion and
+	 *             carriage return processing
+	 */
+	static long get(String string, Font font, boolean text) {
+		synchronized (LOCK) {
+			Long extent = extents.get(font, string, text ? 1 : 0);
+			return extent == null ? MISSING : extent.longValue();
+		}
+	}
+
+	/**
+	 * Stores the extents of the given strings in <code>result</code>, packed by
+	 * {@link #pack(int, int)}, or {@link #MISSING}, and returns the number of
+	 * missing extents.
+	 */
+	static int get(String[] strings, Font font, boolean text, long[] result) {
+		int missing = 0;
+		synchronized (LOCK) {
+			for (int i = 0; i < strings.length; i++) {
+				Long extent = extents.get(font, strings[i], text ? 1 : 0);
+				if (extent == null) {
+					result[i] = MISSING;
+					missing++;
+				} else {
+					result[i] = extent.longValue();
+				}
+			}
+		}
+		return missing;
+	}
+
+	/**
+	 * Caches the extent of the given string, packed by {@link #pack(int, int)}.
+	 */
+	static void put(String string, Font font, boolean text, long extent) {
+		synchronized (LOCK) {
+			if (maximumSize > 0) {
+				extents.put(font, string, text ? 1 : 0, Long.valueOf(extent));
+				evict(maximumSize);
+			}
+		}
+	}
+
+	/**
+	 * Caches the extents of the given strings, packed by {@link #pack(int, int)}.
+	 * The strings and extents at the same index belong together.
+	 */
+	static void put(String[] strings, Font font, boolean text, long[] values) {
+		synchronized (LOCK) {
+			if (maximumSize > 0) {
+				for (int i = 0; i < strings.length; i++)
+					extents.put(font, strings[i], text ? 1 : 0, Long.valueOf(values[i]));
+				evict(maximumSize);
+			}
+		}
+	}
+
+	private static void evict(int size) {
+		extents.evict(size, extent -> true, extent -> {
+		});
+	}
+
+	static long pack(int width, int height) {
+		return ((long) width << 32) | (height & 0xFFFFFFFFL);
+	}
+
+	static int width(long extent) {
+		return (int) (extent >> 32);
+	}
+
+	static int height(long extent) {
+		return (int) extent;
+	}
+
+	/**
+	 * Discards all cached extents, for example after fonts have been disposed.
+	 */
+	public static void flush() {
+		synchronized (LOCK) {
+			extents.clear();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of cached extents.
+	 *
+	 * @return the maximum size
+	 */
+	public static int getMaximumSize() {
+		synchronized (LOCK) {
+			return maximumSize;
+		}
+	}
+
+	/**
+	 * Sets the maximum number of cached extents. The default is 8192. A size of 0
+	 * disables the cache.
+	 *
+	 * @param size the maximum size
+	 */
+	public static void setMaximumSize(int size) {
+		if (size < 0)
+			throw new IllegalArgumentException("Size must not be negative"); //$NON-NLS-1$
+		synchronized (LOCK) {
+			maximumSize = size;
+			evict(size);
+		}
+	}
+
+	/**
+	 * Returns the number of cached extents.
+	 *
+	 * @return the number of extents
+	 */
+	public static int getSize() {
+		synchronized (LOCK) {
+			return extents.size();
+		}
+	}
+
+	/**
+	 * Returns the number of measurements which were served from the cache.
+	 *
+	 * @return the hit count
+	 */
+	public static long getHitCount() {
+		synchronized (LOCK) {
+			return extents.getHitCount();
+		}
+	}
+
+	/**
+	 * Returns the number of measurements which had to be performed.
+	 *
+	 * @return the miss count
+	 */
+	public static long getMissCount() {
+		synchronized (LOCK) {
+			return extents.getMissCount();
+		}
+	}
+
+	/**
+	 * Returns the fraction of the measurements which were served from the cache,
+	 * or 0 if nothing has been measured.
+	 *
+	 * @return the hit rate between 0 and 1
+	 */
+	public static double getHitRate() {
+		synchronized (LOCK) {
+			long hits = extents.getHitCount();
+			long total = hits + extents.getMissCount();
+			return total == 0 ? 0 : (double) hits / total;
+		}
+	}
+
+	/**
+	 * Returns the number of extents which were discarded to keep the cache within
+	 * its limit.
+	 *
+	 * @return the eviction count
+	 */
+	public static long getEvictionCount() {
+		synchronized (LOCK) {
+			return extents.getEvictionCount();
+		}
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters to zero.
+	 */
+	public static void resetStatistics() {
+		synchronized (LOCK) {
+			extents.resetStatistics();
+		}
+	}
+
+}
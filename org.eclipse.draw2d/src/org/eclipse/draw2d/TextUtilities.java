@@ -53,6 +53,33 @@ public class TextUtilities {
 		return FigureUtilities.getTextExtents(s, f);
 	}
 
+	/**
+	 * Returns the Dimensions of each of the given strings in Font <i>f</i>.
+	 * 
+	 * @param strings the strings
+	 * @param f       the font
+	 * @return the dimensions of the given strings, in the same order
+	 * @see FigureUtilities#getStringExtents(String[], Font)
+	 * @since 3.15
+	 */
+	public Dimension[] getStringExtents(String[] strings, Font f) {
+		return FigureUtilities.getStringExtents(strings, f);
+	}
+
+	/**
+	 * Returns the Dimensions of each of the given texts, converting newlines and
+	 * tabs appropriately.
+	 * 
+	 * @param texts the texts
+	 * @param f     the font
+	 * @return the dimensions of the given texts, in the same order
+	 * @see FigureUtilities#getTextExtents(String[], Font)
+	 * @since 3.15
+	 */
+	public Dimension[] getTextExtents(String[] texts, Font f) {
+		return FigureUtilities.getTextExtents(texts, f);
+	}
+
 	/**
 	 * Gets the font's ascent.
 	 * 
@@ -43,6 +43,7 @@ public abstract class UpdateManager {
 
 	private UpdateListener listeners[] = new UpdateListener[0];
 	private boolean disposed;
+	private UpdateMetrics metrics;
 
 	/**
 	 * Adds the dirty region defined by the coordinates on the IFigure
@@ -132,6 +133,18 @@ public abstract class UpdateManager {
 			localListeners[i].notifyValidating();
 	}
 
+	/**
+	 * Returns the metrics collected by this update manager, or <code>null</code>
+	 * if no metrics are being collected.
+	 * 
+	 * @return the metrics or <code>null</code>
+	 * @see #setMetrics(UpdateMetrics)
+	 * @since 3.15
+	 */
+	public UpdateMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * @return whether this update manager has been disposed.
 	 */
@@ -198,6 +211,19 @@ public abstract class UpdateManager {
 	 */
 	public abstract void setGraphicsSource(GraphicsSource gs);
 
+	/**
+	 * Sets the metrics into which this update manager records the time spent
+	 * validating and repairing damage. Passing <code>null</code> disables the
+	 * collection of metrics, which is the default. Update managers which don't
+	 * support metrics ignore them.
+	 * 
+	 * @param metrics the metrics or <code>null</code>
+	 * @since 3.15
+	 */
+	public void setMetrics(UpdateMetrics metrics) {
+		this.metrics = metrics;
+	}
+
 	/**
 	 * Sets the root figure.
 	 * 
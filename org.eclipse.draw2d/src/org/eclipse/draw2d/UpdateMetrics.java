@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * Collects timings and counters of the work performed by an
+ * {@link UpdateManager}. Metrics are only collected while an instance is
+ * installed using {@link UpdateManager#setMetrics(UpdateMetrics)}; without
+ * one, the update manager performs no measurements at all.
+ * <P>
+ * The values are cumulative until {@link #reset()} is called. Clients typically
+ * sample them periodically, or from an {@link UpdateListener} which obtains the
+ * metrics from {@link UpdateManager#getMetrics()}. All times are in
+ * nanoseconds.
+ * <P>
+ * Optionally, the time spent painting each figure can be attributed to the
+ * figure's class, see {@link #setFigurePaintProfiling(boolean)}. This exclusive
+ * time does not include the time spent painting the figure's children.
+ * 
+ * @since 3.15
+ */
+public class UpdateMetrics {
+
+	/**
+	 * A histogram of durations using exponentially growing buckets. Bucket
+	 * <i>i</i> counts the durations of at least 2<sup><i>i</i></sup> and less
+	 * than 2<sup><i>i</i>+1</sup> microseconds. The first bucket also counts all
+	 * durations below one microsecond.
+	 */
+	public static final class Histogram {
+
+		/**
+		 * The number of buckets.
+		 */
+		public static final int BUCKET_COUNT = 32;
+
+		private final long[] buckets = new long[BUCKET_COUNT];
+		private long count;
+		private long total;
+		private long max;
+
+		void record(long nanos) {
+			long micros = nanos / 1000;
+			int bucket = micros <= 1 ? 0 : Math.min(63 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+			buckets[bucket]++;
+			count++;
+			total += nanos;
+			max = Math.max(max, nanos);
+		}
+
+		void reset() {
+			Arrays.fill(buckets, 0);
+			count = 0;
+			total = 0;
+			max = 0;
+		}
+
+		/**
+		 * Returns the number of durations in the given bucket.
+		 * 
+		 * @param bucket the bucket index
+		 * @return the number of recorded durations in the bucket
+		 */
+		public long getBucketCount(int bucket) {
+			return buckets[bucket];
+		}
+
+		/**
+		 * Returns the number of recorded durations.
+		 * 
+		 * @return the number of durations
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Returns the longest recorded duration.
+		 * 
+		 * @return the maximum in nanoseconds
+		 */
+		public long getMax() {
+			return max;
+		}
+
+		/**
+		 * Returns an estimate of the given percentile, based on the upper bound of the
+		 * bucket containing it.
+		 * 
+		 * @param percentile the percentile, between 0 and 100
+		 * @return the estimated duration in nanoseconds, or 0 if nothing was recorded
+		 */
+		public long getPercentile(double percentile) {
+			long threshold = (long) Math.ceil(count * percentile / 100.0);
+			long seen = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				seen += buckets[i];
+				if (seen >= threshold && seen > 0)
+					return Math.min((2L << i) * 1000, max);
+			}
+			return max;
+		}
+
+		/**
+		 * Returns the sum of all recorded durations.
+		 * 
+		 * @return the total in nanoseconds
+		 */
+		public long getTotal() {
+			return total;
+		}
+	}
+
+	/**
+	 * The number of repairs in progress with figure paint profiling enabled. While
+	 * there are none, {@link #getPaintProfiling(IFigure)} does not look up the
+	 * update manager of the figure.
+	 */
+	private static int profilingRepairs;
+
+	private final Histogram validationTimes = new Histogram();
+	private final Histogram repairTimes = new Histogram();
+	private long validatedFigures;
+	private long damagedArea;
+	private boolean figurePaintProfiling;
+	private final Map<Class<?>, long[]> paintTimes = new HashMap<>();
+	private long[] childTimes = new long[16];
+	private int depth;
+	private boolean profilingRepair;
+
+	/**
+	 * Returns the metrics which record the painting of the given figure, or
+	 * <code>null</code>. These are the metrics of the figure's own update manager,
+	 * while it repairs damage with figure paint profiling enabled, so that painting
+	 * figures of another update manager during a repair is not attributed to it.
+	 */
+	static UpdateMetrics getPaintProfiling(IFigure figure) {
+		if (profilingRepairs == 0)
+			return null;
+		UpdateMetrics metrics = figure.getUpdateManager().getMetrics();
+		return metrics != null && metrics.profilingRepair ? metrics : null;
+	}
+
+	/**
+	 * Returns the histogram of the durations of damage repairs, including
+	 * painting.
+	 * 
+	 * @return the repair histogram
+	 */
+	public Histogram getRepairTimes() {
+		return repairTimes;
+	}
+
+	/**
+	 * Returns the total number of pixels of all repaired regions.
+	 * 
+	 * @return the damaged area
+	 */
+	public long getDamagedArea() {
+		return damagedArea;
+	}
+
+	/**
+	 * Returns the exclusive paint times per figure class, collected while
+	 * {@link #setFigurePaintProfiling(boolean) figure paint profiling} is enabled.
+	 * Each value holds the number of paints at index 0 and the total time at index
+	 * 1.
+	 * 
+	 * @return an unmodifiable map from figure classes to paint counts and times
+	 */
+	public Map<Class<?>, long[]> getFigurePaintTimes() {
+		return Collections.unmodifiableMap(paintTimes);
+	}
+
+	/**
+	 * Returns the total number of invalid figures which have been validated.
+	 * 
+	 * @return the number of validated figures
+	 */
+	public long getValidatedFigures() {
+		return validatedFigures;
+	}
+
+	/**
+	 * Returns the histogram of the durations of validations.
+	 * 
+	 * @return the validation histogram
+	 */
+	public Histogram getValidationTimes() {
+		return validationTimes;
+	}
+
+	/**
+	 * Returns whether paint times are recorded per figure class.
+	 * 
+	 * @return <code>true</code> if figure paint profiling is enabled
+	 */
+	public boolean isFigurePaintProfiling() {
+		return figurePaintProfiling;
+	}
+
+	/**
+	 * Called before a figure is painted.
+	 */
+	void paintStarted() {
+		if (++depth == childTimes.length)
+			childTimes = Arrays.copyOf(childTimes, depth * 2);
+		childTimes[depth] = 0;
+	}
+
+	/**
+	 * Called after a figure has been painted.
+	 * 
+	 * @param figure  the painted figure
+	 * @param elapsed the time spent painting the figure and its children
+	 */
+	void paintFinished(IFigure figure, long elapsed) {
+		long exclusive = elapsed - childTimes[depth--];
+		childTimes[depth] += elapsed;
+		long[] times = paintTimes.computeIfAbsent(figure.getClass(), c -> new long[2]);
+		times[0]++;
+		times[1] += exclusive;
+	}
+
+	/**
+	 * Called before damage is repaired. Painting is profiled until the repair is
+	 * recorded, if figure paint profiling is enabled.
+	 */
+	void repairStarted() {
+		if (figurePaintProfiling && !profilingRepair) {
+			profilingRepair = true;
+			profilingRepairs++;
+		}
+	}
+
+	void recordDamage(Rectangle region) {
+		damagedArea += (long) region.width * region.height;
+	}
+
+	void recordRepair(long nanos) {
+		repairTimes.record(nanos);
+		depth = 0;
+		childTimes[0] = 0;
+		if (profilingRepair) {
+			profilingRepair = false;
+			profilingRepairs--;
+		}
+	}
+
+	void recordValidation(long nanos, int figures) {
+		validationTimes.record(nanos);
+		validatedFigures += figures;
+	}
+
+	/**
+	 * Resets all metrics to zero.
+	 */
+	public void reset() {
+		validationTimes.reset();
+		repairTimes.reset();
+		validatedFigures = 0;
+		damagedArea = 0;
+		paintTimes.clear();
+	}
+
+	/**
+	 * Enables or disables recording the exclusive paint time of every figure by
+	 * class. This adds two calls to {@link System#nanoTime()} to the painting of
+	 * every figure, and should therefore only be enabled while investigating
+	 * painting performance.
+	 * 
+	 * @param enabled whether figure paint profiling is enabled
+	 */
+	public void setFigurePaintProfiling(boolean enabled) {
+		figurePaintProfiling = enabled;
+	}
+
+}
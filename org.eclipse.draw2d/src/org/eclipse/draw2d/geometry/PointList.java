@@ -113,9 +113,20 @@ public class PointList implements java.io.Serializable, Translatable {
 			return bounds;
 		bounds = new Rectangle();
 		if (size > 0) {
-			bounds.setLocation(getPoint(0));
-			for (int i = 0; i < size; i++)
-				bounds.union(getPoint(i));
+			int minX = points[0], minY = points[1], maxX = minX, maxY = minY;
+			for (int i = 2; i < size * 2; i += 2) {
+				int x = points[i], y = points[i + 1];
+				if (x < minX)
+					minX = x;
+				else if (x > maxX)
+					maxX = x;
+				if (y < minY)
+					minY = y;
+				else if (y > maxY)
+					maxY = y;
+			}
+			// Rectangle#union(int, int) includes the right and bottom coordinates
+			bounds.setBounds(minX, minY, maxX - minX + 1, maxY - minY + 1);
 		}
 		return bounds;
 	}
@@ -169,6 +180,31 @@ public class PointList implements java.io.Serializable, Translatable {
 		return getPoint(size() / 2);
 	}
 
+	/**
+	 * Returns the index of the segment which is closest to the given point. The
+	 * segment at index <i>i</i> connects the points at <i>i</i> and <i>i</i>+1.
+	 * 
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return the index of the nearest segment, or -1 if the list has less than
+	 *         two points
+	 * @since 3.15
+	 */
+	public int getNearestSegment(int x, int y) {
+		int nearest = -1;
+		double minDistance = Double.MAX_VALUE;
+		for (int i = 0; i < size - 1; i++) {
+			int index = i * 2;
+			double distance = getSquaredDistance(points[index], points[index + 1], points[index + 2],
+					points[index + 3], x, y);
+			if (distance < minDistance) {
+				minDistance = distance;
+				nearest = i;
+			}
+		}
+		return nearest;
+	}
+
 	/**
 	 * Returns the Point in the list at the specified index.
 	 * 
@@ -205,6 +241,24 @@ public class PointList implements java.io.Serializable, Translatable {
 		return p;
 	}
 
+	private static double getSquaredDistance(int x1, int y1, int x2, int y2, int px, int py) {
+		long vx = (long) x2 - x1;
+		long vy = (long) y2 - y1;
+		long wx = (long) px - x1;
+		long wy = (long) py - y1;
+		long dot = vx * wx + vy * wy;
+		long lengthSquared = vx * vx + vy * vy;
+		if (dot <= 0 || lengthSquared == 0)
+			return (double) wx * wx + (double) wy * wy;
+		if (dot >= lengthSquared) {
+			wx = (long) px - x2;
+			wy = (long) py - y2;
+			return (double) wx * wx + (double) wy * wy;
+		}
+		double cross = (double) vx * wy - (double) vy * wx;
+		return cross * cross / lengthSquared;
+	}
+
 	/**
 	 * Inserts a given point at a specified index.
 	 * 
@@ -262,14 +316,39 @@ public class PointList implements java.io.Serializable, Translatable {
 		return false;
 	}
 
+	/**
+	 * Determines whether any of the line segments represented by this PointList
+	 * intersects the line segment between the two given points. Touching is
+	 * considered intersection.
+	 * 
+	 * @param x1 the x coordinate of the start of the segment
+	 * @param y1 the y coordinate of the start of the segment
+	 * @param x2 the x coordinate of the end of the segment
+	 * @param y2 the y coordinate of the end of the segment
+	 * @return <code>true</code> if the segment intersects this PointList
+	 * @see Geometry#linesIntersect(int, int, int, int, int, int, int, int)
+	 * @since 3.15
+	 */
+	public boolean intersects(int x1, int y1, int x2, int y2) {
+		if (size < 2)
+			return false;
+		Rectangle r = getBounds();
+		if (Math.max(x1, x2) < r.x || Math.min(x1, x2) >= r.x + r.width || Math.max(y1, y2) < r.y
+				|| Math.min(y1, y2) >= r.y + r.height)
+			return false;
+		for (int i = 0; i < (size - 1) * 2; i += 2) {
+			if (Geometry.linesIntersect(x1, y1, x2, y2, points[i], points[i + 1], points[i + 2], points[i + 3]))
+				return true;
+		}
+		return false;
+	}
+
 	/**
 	 * @see org.eclipse.draw2d.geometry.Translatable#performScale(double)
 	 */
 	@Override
 	public void performScale(double factor) {
-		for (int i = 0; i < points.length; i++)
-			points[i] = (int) Math.floor(points[i] * factor);
-		bounds = null;
+		scale(factor, factor);
 	}
 
 	/**
@@ -353,6 +432,22 @@ public class PointList implements java.io.Serializable, Translatable {
 		points[index * 2 + 1] = pt.y;
 	}
 
+	/**
+	 * Scales all points by the given factors in place. The coordinates are rounded
+	 * down like in {@link #performScale(double)}.
+	 * 
+	 * @param xFactor the horizontal scale factor
+	 * @param yFactor the vertical scale factor
+	 * @since 3.15
+	 */
+	public void scale(double xFactor, double yFactor) {
+		for (int i = 0; i < size * 2; i += 2) {
+			points[i] = (int) Math.floor(points[i] * xFactor);
+			points[i + 1] = (int) Math.floor(points[i + 1] * yFactor);
+		}
+		bounds = null;
+	}
+
 	/**
 	 * Sets the size of this PointList.
 	 * 
@@ -429,6 +524,18 @@ public class PointList implements java.io.Serializable, Translatable {
 		}
 	}
 
+	/**
+	 * Applies the given transformation to all points in place. The coordinates are
+	 * rounded like in {@link Transform#getTransformed(Point)}.
+	 * 
+	 * @param transform the transformation
+	 * @since 3.15
+	 */
+	public void transform(Transform transform) {
+		transform.transform(points, size * 2);
+		bounds = null;
+	}
+
 	/**
 	 * Transposes all x and y values. Useful for orientation changes.
 	 * 
@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.geometry;
+
+import java.util.Arrays;
+
+/**
+ * The double precision counterpart of {@link PointList}. The coordinates are
+ * stored in a <code>double[]</code>, and all bulk operations work directly on
+ * that array without creating intermediate {@link PrecisionPoint
+ * PrecisionPoints}.
+ * 
+ * @since 3.15
+ */
+public class PrecisionPointList implements java.io.Serializable, Translatable {
+
+	private static final long serialVersionUID = 1L;
+
+	private double[] points;
+	private PrecisionRectangle bounds;
+	private int size;
+
+	/**
+	 * Constructs an empty PrecisionPointList.
+	 */
+	public PrecisionPointList() {
+		this(0);
+	}
+
+	/**
+	 * Constructs a PrecisionPointList with initial capacity <i>size</i>, but no
+	 * points.
+	 * 
+	 * @param size Number of points to hold.
+	 */
+	public PrecisionPointList(int size) {
+		points = new double[size * 2];
+	}
+
+	/**
+	 * Constructs a PrecisionPointList with the points of the given PointList.
+	 * 
+	 * @param source the integer point list
+	 */
+	public PrecisionPointList(PointList source) {
+		int[] coordinates = source.toIntArray();
+		size = source.size();
+		points = new double[size * 2];
+		for (int i = 0; i < size * 2; i++)
+			points[i] = coordinates[i];
+	}
+
+	/**
+	 * Adds the given point to this list.
+	 * 
+	 * @param p the point to be added
+	 */
+	public void addPoint(Point p) {
+		addPoint(p.preciseX(), p.preciseY());
+	}
+
+	/**
+	 * Adds the input point values to this list.
+	 * 
+	 * @param x X value of a point to add
+	 * @param y Y value of a point to add
+	 */
+	public void addPoint(double x, double y) {
+		bounds = null;
+		ensureCapacity(size + 1);
+		points[size * 2] = x;
+		points[size * 2 + 1] = y;
+		size++;
+	}
+
+	private void ensureCapacity(int newSize) {
+		if (points.length < newSize * 2)
+			points = Arrays.copyOf(points, Math.max(newSize * 2, size * 4));
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + //$NON-NLS-1$
+					", Size: " + size); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the smallest rectangle which contains all points. Unlike
+	 * {@link PointList#getBounds()}, the right and bottom edges of the rectangle
+	 * pass through the outermost points.
+	 * 
+	 * @return the bounds of all points
+	 */
+	public PrecisionRectangle getBounds() {
+		if (bounds != null)
+			return bounds;
+		bounds = new PrecisionRectangle();
+		if (size > 0) {
+			double minX = points[0], minY = points[1], maxX = minX, maxY = minY;
+			for (int i = 2; i < size * 2; i += 2) {
+				minX = Math.min(minX, points[i]);
+				maxX = Math.max(maxX, points[i]);
+				minY = Math.min(minY, points[i + 1]);
+				maxY = Math.max(maxY, points[i + 1]);
+			}
+			bounds.setPreciseBounds(minX, minY, maxX - minX, maxY - minY);
+		}
+		return bounds;
+	}
+
+	/**
+	 * Creates a copy.
+	 * 
+	 * @return a copy of this list
+	 */
+	public PrecisionPointList getCopy() {
+		PrecisionPointList result = new PrecisionPointList(size);
+		System.arraycopy(points, 0, result.points, 0, size * 2);
+		result.size = size;
+		return result;
+	}
+
+	/**
+	 * Returns the index of the segment which is closest to the given point. The
+	 * segment at index <i>i</i> connects the points at <i>i</i> and <i>i</i>+1.
+	 * 
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return the index of the nearest segment, or -1 if the list has less than
+	 *         two points
+	 */
+	public int getNearestSegment(double x, double y) {
+		int nearest = -1;
+		double minDistance = Double.MAX_VALUE;
+		for (int i = 0; i < size - 1; i++) {
+			int index = i * 2;
+			double distance = getSquaredDistance(points[index], points[index + 1], points[index + 2],
+					points[index + 3], x, y);
+			if (distance < minDistance) {
+				minDistance = distance;
+				nearest = i;
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * Returns the point at the given index.
+	 * 
+	 * @param index Index of the desired point
+	 * @return a new PrecisionPoint
+	 * @throws IndexOutOfBoundsException If the specified index is out of range
+	 */
+	public PrecisionPoint getPoint(int index) {
+		return getPoint(new PrecisionPoint(), index);
+	}
+
+	/**
+	 * Copies the x and y values at given index into a specified point. This method
+	 * exists to avoid the creation of a new <code>PrecisionPoint</code>.
+	 * 
+	 * @param p     The point which will be set with the &lt;x, y&gt; values
+	 * @param index The index being requested
+	 * @return The parameter <code>p</code> is returned for convenience
+	 * @throws IndexOutOfBoundsException If the specified index is out of range
+	 */
+	public PrecisionPoint getPoint(PrecisionPoint p, int index) {
+		checkIndex(index);
+		return p.setPreciseLocation(points[index * 2], points[index * 2 + 1]);
+	}
+
+	private static double getSquaredDistance(double x1, double y1, double x2, double y2, double px, double py) {
+		double vx = x2 - x1;
+		double vy = y2 - y1;
+		double wx = px - x1;
+		double wy = py - y1;
+		double dot = vx * wx + vy * wy;
+		double lengthSquared = vx * vx + vy * vy;
+		if (dot <= 0 || lengthSquared == 0)
+			return wx * wx + wy * wy;
+		if (dot >= lengthSquared) {
+			wx = px - x2;
+			wy = py - y2;
+			return wx * wx + wy * wy;
+		}
+		double cross = vx * wy - vy * wx;
+		return cross * cross / lengthSquared;
+	}
+
+	/**
+	 * Determines whether any of the line segments represented by this list
+	 * intersects the line segment between the two given points. Touching is
+	 * considered intersection.
+	 * 
+	 * @param x1 the x coordinate of the start of the segment
+	 * @param y1 the y coordinate of the start of the segment
+	 * @param x2 the x coordinate of the end of the segment
+	 * @param y2 the y coordinate of the end of the segment
+	 * @return <code>true</code> if the segment intersects this list
+	 */
+	public boolean intersects(double x1, double y1, double x2, double y2) {
+		if (size < 2)
+			return false;
+		PrecisionRectangle r = getBounds();
+		if (Math.max(x1, x2) < r.preciseX() || Math.min(x1, x2) > r.preciseX() + r.preciseWidth()
+				|| Math.max(y1, y2) < r.preciseY() || Math.min(y1, y2) > r.preciseY() + r.preciseHeight())
+			return false;
+		for (int i = 0; i < (size - 1) * 2; i += 2) {
+			if (linesIntersect(x1, y1, x2, y2, points[i], points[i + 1], points[i + 2], points[i + 3]))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean linesIntersect(double x1, double y1, double x2, double y2, double x3, double y3,
+			double x4, double y4) {
+		if (Math.max(x1, x2) < Math.min(x3, x4) || Math.max(x3, x4) < Math.min(x1, x2)
+				|| Math.max(y1, y2) < Math.min(y3, y4) || Math.max(y3, y4) < Math.min(y1, y2))
+			return false;
+		double d1 = orientation(x3, y3, x4, y4, x1, y1);
+		double d2 = orientation(x3, y3, x4, y4, x2, y2);
+		double d3 = orientation(x1, y1, x2, y2, x3, y3);
+		double d4 = orientation(x1, y1, x2, y2, x4, y4);
+		// Collinear segments with overlapping bounds touch each other
+		return d1 * d2 <= 0 && d3 * d4 <= 0;
+	}
+
+	private static double orientation(double ax, double ay, double bx, double by, double cx, double cy) {
+		return Math.signum((bx - ax) * (cy - ay) - (by - ay) * (cx - ax));
+	}
+
+	/**
+	 * @see Translatable#performScale(double)
+	 */
+	@Override
+	public void performScale(double factor) {
+		scale(factor, factor);
+	}
+
+	/**
+	 * @see Translatable#performTranslate(int, int)
+	 */
+	@Override
+	public void performTranslate(int dx, int dy) {
+		translate(dx, dy);
+	}
+
+	/**
+	 * Removes all points.
+	 */
+	public void removeAllPoints() {
+		bounds = null;
+		size = 0;
+	}
+
+	/**
+	 * Scales all points by the given factors in place.
+	 * 
+	 * @param xFactor the horizontal scale factor
+	 * @param yFactor the vertical scale factor
+	 */
+	public void scale(double xFactor, double yFactor) {
+		for (int i = 0; i < size * 2; i += 2) {
+			points[i] *= xFactor;
+			points[i + 1] *= yFactor;
+		}
+		bounds = null;
+	}
+
+	/**
+	 * Overwrites the point at the given index.
+	 * 
+	 * @param x     the new x coordinate
+	 * @param y     the new y coordinate
+	 * @param index Index of the point
+	 * @throws IndexOutOfBoundsException If the specified index is out of range
+	 */
+	public void setPoint(double x, double y, int index) {
+		checkIndex(index);
+		bounds = null;
+		points[index * 2] = x;
+		points[index * 2 + 1] = y;
+	}
+
+	/**
+	 * Returns the number of points in this list.
+	 * 
+	 * @return The number of points
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the contents of this list as a double array. The returned array is
+	 * by reference. Any changes made to the array will also be changing this list.
+	 * 
+	 * @return the double array of points by reference
+	 */
+	public double[] toDoubleArray() {
+		if (points.length != size * 2)
+			points = Arrays.copyOf(points, size * 2);
+		bounds = null;
+		return points;
+	}
+
+	/**
+	 * Returns a new PointList with the coordinates of this list rounded like
+	 * {@link PrecisionPoint#x()}.
+	 * 
+	 * @return a new integer point list
+	 */
+	public PointList toPointList() {
+		int[] coordinates = new int[size * 2];
+		for (int i = 0; i < coordinates.length; i++)
+			coordinates[i] = PrecisionGeometry.doubleToInteger(points[i]);
+		return new PointList(coordinates);
+	}
+
+	/**
+	 * Applies the given transformation to all points in place.
+	 * 
+	 * @param transform the transformation
+	 */
+	public void transform(Transform transform) {
+		transform.transform(points, size * 2);
+		bounds = null;
+	}
+
+	/**
+	 * Moves all points by the given amounts.
+	 * 
+	 * @param dx Amount by which all the points will be shifted on the X axis.
+	 * @param dy Amount by which all the points will be shifted on the Y axis.
+	 */
+	public void translate(double dx, double dy) {
+		if (dx == 0 && dy == 0)
+			return;
+		for (int i = 0; i < size * 2; i += 2) {
+			points[i] += dx;
+			points[i + 1] += dy;
+		}
+		bounds = null;
+	}
+
+}
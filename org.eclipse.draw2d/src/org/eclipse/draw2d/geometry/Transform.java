@@ -84,4 +84,35 @@ public class Transform {
 		return new Point(Math.round(x + dx), Math.round(y + dy));
 	}
 
+	/**
+	 * Transforms the first <i>length</i> coordinates of the given array in place,
+	 * rounding like {@link #getTransformed(Point)}.
+	 * 
+	 * @param coordinates the x and y coordinates of consecutive points
+	 * @param length      the number of coordinates to transform
+	 */
+	void transform(int[] coordinates, int length) {
+		for (int i = 0; i < length; i += 2) {
+			double x = coordinates[i] * scaleX;
+			double y = coordinates[i + 1] * scaleY;
+			coordinates[i] = (int) Math.round(x * cos - y * sin + dx);
+			coordinates[i + 1] = (int) Math.round(x * sin + y * cos + dy);
+		}
+	}
+
+	/**
+	 * Transforms the first <i>length</i> coordinates of the given array in place.
+	 * 
+	 * @param coordinates the x and y coordinates of consecutive points
+	 * @param length      the number of coordinates to transform
+	 */
+	void transform(double[] coordinates, int length) {
+		for (int i = 0; i < length; i += 2) {
+			double x = coordinates[i] * scaleX;
+			double y = coordinates[i + 1] * scaleY;
+			coordinates[i] = x * cos - y * sin + dx;
+			coordinates[i + 1] = x * sin + y * cos + dy;
+		}
+	}
+
 }
@@ -248,11 +248,15 @@ class BreakCycles extends GraphVisitor {
 	@Override
 	public void visit(DirectedGraph g) {
 		// put all nodes in list, initialize index
-		graphNodes.resetFlags();
+		graphNodes.clear();
+		for (Edge e : g.edges) {
+			e.isFeedback = false;
+		}
 		for (Node n : g.nodes) {
 			setIncomingCount(n, n.incoming.size());
 			graphNodes.add(n);
 		}
+		graphNodes.resetFlags();
 		if (containsCycles(g)) {
 			breakCycles(g);
 		}
@@ -60,6 +60,14 @@ public class DirectedGraph {
 	int tensorSize;
 	Dimension size = new Dimension();
 
+	/**
+	 * The monitor and the time budget of the layout in progress, which are
+	 * observed by its iterative steps.
+	 */
+	GraphLayoutMonitor monitor;
+	long budgetStart;
+	long budget;
+
 	/**
 	 * Returns the default padding for nodes.
 	 *
@@ -107,6 +115,32 @@ public class DirectedGraph {
 		return pad;
 	}
 
+	/**
+	 * Copies the monitor and the time budget of the given graph, for auxiliary
+	 * graphs laid out as part of a step.
+	 */
+	void copyLimits(DirectedGraph g) {
+		monitor = g.monitor;
+		budgetStart = g.budgetStart;
+		budget = g.budget;
+	}
+
+	/**
+	 * Returns whether the layout has been cancelled.
+	 */
+	boolean isCanceled() {
+		return monitor != null && monitor.isCanceled();
+	}
+
+	/**
+	 * Returns whether the iterative steps of the layout should stop improving
+	 * their result, because the layout has been cancelled or its time budget is
+	 * exhausted.
+	 */
+	boolean shouldStop() {
+		return (budget > 0 && System.nanoTime() - budgetStart >= budget) || isCanceled();
+	}
+
 	int[] getCellLocations(int rank) {
 		return cellLocations[rank];
 	}
@@ -11,7 +11,9 @@
 package org.eclipse.draw2d.graph;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 
 /**
  * Performs a graph layout of a <code>DirectedGraph</code>. The directed graph
@@ -63,14 +65,31 @@ import java.util.Deque;
  * set, and if it has virtual nodes, they will be in reverse order (bottom-up).
  * </UL>
  * <P>
+ * The progress of a layout can be observed and the layout cancelled using a
+ * {@link GraphLayoutMonitor}. A {@link #setTimeBudget(long) time budget} lets
+ * the iterative steps stop early with a valid, but less optimal layout.
+ * <P>
  * This class is not guaranteed to produce the same results for each invocation.
+ * An {@link #setIncremental(boolean) incremental} layout uses the result of the
+ * previous layout to keep the drawing stable across small changes.
  * 
  * @author Randy Hudson
  * @since 2.1.2
  */
 public class DirectedGraphLayout {
 
+	/**
+	 * The default number of crossing minimization runs.
+	 */
+	static final int DEFAULT_CROSSING_MINIMIZATION_RUNS = 1;
+
 	Deque<GraphVisitor> steps = new ArrayDeque<>();
+	private int crossingMinimizationRuns = DEFAULT_CROSSING_MINIMIZATION_RUNS;
+	private boolean fastHorizontalPlacement;
+	private boolean incremental;
+	private int incrementalRadius = 1;
+	private LayoutHints hints;
+	private long timeBudget;
 
 	/**
 	 * @since 3.1
@@ -79,6 +98,65 @@ public class DirectedGraphLayout {
 		init();
 	}
 
+	/**
+	 * Returns the number of independent runs used to order the nodes within their
+	 * ranks.
+	 * 
+	 * @return the number of runs
+	 * @see #setCrossingMinimizationRuns(int)
+	 * @since 3.15
+	 */
+	public int getCrossingMinimizationRuns() {
+		return crossingMinimizationRuns;
+	}
+
+	/**
+	 * Returns the number of ranks around the changes of the graph which are
+	 * reordered by an incremental layout.
+	 * 
+	 * @return the radius of the reordered region
+	 * @see #setIncrementalRadius(int)
+	 * @since 3.15
+	 */
+	public int getIncrementalRadius() {
+		return incrementalRadius;
+	}
+
+	/**
+	 * Returns the time budget of a layout in milliseconds, or 0 if the layout is
+	 * not limited.
+	 * 
+	 * @return the time budget
+	 * @see #setTimeBudget(long)
+	 * @since 3.15
+	 */
+	public long getTimeBudget() {
+		return timeBudget;
+	}
+
+	/**
+	 * Returns whether the nodes are placed horizontally using the fast, linear
+	 * time placement.
+	 * 
+	 * @return <code>true</code> if the fast placement is used
+	 * @see #setFastHorizontalPlacement(boolean)
+	 * @since 3.15
+	 */
+	public boolean isFastHorizontalPlacement() {
+		return fastHorizontalPlacement;
+	}
+
+	/**
+	 * Returns whether the layout is incremental.
+	 * 
+	 * @return <code>true</code> if the layout is incremental
+	 * @see #setIncremental(boolean)
+	 * @since 3.15
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
 	void init() {
 		steps.add(new TransposeMetrics());
 		steps.add(new BreakCycles());
@@ -93,16 +171,191 @@ public class DirectedGraphLayout {
 		steps.add(new HorizontalPlacement());
 	}
 
+	/**
+	 * Sets the number of independent runs used to order the nodes within their
+	 * ranks so as to reduce edge crossings. The result of a run depends on the
+	 * initial orderings and the way ties are broken. Additional runs start with
+	 * differently shuffled orderings and are performed in parallel on the common
+	 * fork-join pool, and the ordering with the fewest crossings is kept. The
+	 * default is 1, which performs a single run on the calling thread, as in
+	 * previous releases.
+	 * <P>
+	 * Compound graphs are always ordered in a single run.
+	 * 
+	 * @param runs the number of runs, at least 1
+	 * @since 3.15
+	 */
+	public void setCrossingMinimizationRuns(int runs) {
+		if (runs < 1)
+			throw new IllegalArgumentException("At least one run is required"); //$NON-NLS-1$
+		crossingMinimizationRuns = runs;
+	}
+
+	/**
+	 * Sets whether the nodes are placed horizontally using the coordinate
+	 * assignment of Brandes and K&ouml;pf. By default, the x coordinates are
+	 * assigned by solving an auxiliary graph with the network simplex, which
+	 * minimizes the weighted horizontal lengths of the edges. The fast placement
+	 * takes linear time and keeps long edges straight, but the resulting layouts
+	 * are less compact and do not favor edges with higher weights. As the other
+	 * steps are unchanged, the complete layout is only moderately faster: on random
+	 * graphs of 30 to 1,000 nodes it was about 1.4 to 1.7 times as fast. The
+	 * additional width grows with the size of the graph: on the same graphs, the
+	 * layouts were about 1.4 times as wide for 30 nodes, 2.6 times for 100 nodes and
+	 * 13 times for 1,000 nodes. Both placements honor the padding of the nodes, the
+	 * margin of the graph and the attachment points of the edges.
+	 * <P>
+	 * This setting is ignored by {@link CompoundDirectedGraphLayout}, which always
+	 * uses the default placement so that the nodes remain within their subgraphs.
+	 * 
+	 * @param fast <code>true</code> to use the fast placement
+	 * @since 3.15
+	 */
+	public void setFastHorizontalPlacement(boolean fast) {
+		fastHorizontalPlacement = fast;
+		List<GraphVisitor> list = new ArrayList<>(steps);
+		list.replaceAll(visitor -> {
+			if (fast && visitor.getClass() == HorizontalPlacement.class)
+				return new BrandesKoepfPlacement();
+			if (!fast && visitor instanceof BrandesKoepfPlacement)
+				return new HorizontalPlacement();
+			return visitor;
+		});
+		steps.clear();
+		steps.addAll(list);
+	}
+
+	/**
+	 * Sets whether the layout is incremental. An incremental layout remembers the
+	 * ranks and coordinates of the nodes it has laid out. When the same graph is
+	 * laid out again after small changes, such as adding or removing a few nodes
+	 * and edges, these are used as hints: the nodes keep their ranks unless an
+	 * edge requires them to move down, the ranks keep their orderings except near
+	 * the changes, and the nodes and the bendpoints of long edges stay as close as
+	 * possible to their previous coordinates. This is much faster than a complete
+	 * layout and keeps the drawing stable, but the layout becomes less optimal as
+	 * the changes accumulate. Turning the incremental layout off discards the
+	 * hints.
+	 * <P>
+	 * The first layout of a graph, and compound graphs, are always complete
+	 * layouts.
+	 * 
+	 * @param incremental <code>true</code> to lay out incrementally
+	 * @see #setIncrementalRadius(int)
+	 * @since 3.15
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+		if (!incremental)
+			hints = null;
+	}
+
+	/**
+	 * Sets the number of ranks around the changes of the graph which are reordered
+	 * by an incremental layout so as to reduce edge crossings. The ranks
+	 * containing new nodes, nodes whose rank has changed and nodes whose edges
+	 * have changed are always reordered, together with the given number of ranks
+	 * above and below them. The default is 1.
+	 * 
+	 * @param ranks the radius of the reordered region, at least 0
+	 * @since 3.15
+	 */
+	public void setIncrementalRadius(int ranks) {
+		if (ranks < 0)
+			throw new IllegalArgumentException("The radius must not be negative"); //$NON-NLS-1$
+		incrementalRadius = ranks;
+	}
+
+	/**
+	 * Sets the time budget of a layout in milliseconds. Once the budget is
+	 * exhausted, the iterative steps, which minimize crossings and optimize the
+	 * ranks and the horizontal placement, stop improving their result. The
+	 * remaining steps are still performed, so the layout takes somewhat longer
+	 * than the budget, and the result is valid but may be less optimal. A budget
+	 * of 0, which is the default, does not limit the layout.
+	 * 
+	 * @param millis the time budget, or 0
+	 * @since 3.15
+	 */
+	public void setTimeBudget(long millis) {
+		if (millis < 0)
+			throw new IllegalArgumentException("The time budget must not be negative"); //$NON-NLS-1$
+		timeBudget = millis;
+	}
+
+	/**
+	 * Returns the steps of an incremental layout using the given hints.
+	 */
+	Deque<GraphVisitor> createIncrementalSteps(LayoutHints hints) {
+		Deque<GraphVisitor> visitors = new ArrayDeque<>();
+		visitors.add(new TransposeMetrics());
+		visitors.add(new BreakCycles());
+		visitors.add(new RouteEdges());
+		visitors.add(new IncrementalRankAssignment(hints));
+		visitors.add(new PopulateRanks());
+		visitors.add(new VerticalPlacement());
+		visitors.add(new IncrementalOrdering(hints, incrementalRadius));
+		visitors.add(new IncrementalPlacement(hints));
+		return visitors;
+	}
+
 	/**
 	 * Lays out the given graph
 	 * 
 	 * @param graph the graph to layout
 	 */
 	public void visit(DirectedGraph graph) {
+		visit(graph, null);
+	}
+
+	/**
+	 * Lays out the given graph, reporting the progress to the given monitor. If
+	 * the monitor cancels the layout, the steps performed so far are reverted and
+	 * a {@link GraphLayoutCanceledException} is thrown.
+	 * 
+	 * @param graph   the graph to layout
+	 * @param monitor the monitor, or <code>null</code>
+	 * @throws GraphLayoutCanceledException if the layout was cancelled
+	 * @since 3.15
+	 */
+	public void visit(DirectedGraph graph, GraphLayoutMonitor monitor) {
 		if (graph.nodes.isEmpty())
 			return;
-		steps.iterator().forEachRemaining(visitor -> visitor.visit(graph));
-		steps.descendingIterator().forEachRemaining(visitor -> visitor.revisit(graph));
+		steps.forEach(visitor -> {
+			if (visitor instanceof MinCross minCross)
+				minCross.setRuns(crossingMinimizationRuns);
+		});
+		boolean compound = graph instanceof CompoundDirectedGraph;
+		Deque<GraphVisitor> visitors = steps;
+		if (incremental && !compound && hints != null && hints.appliesTo(graph))
+			visitors = createIncrementalSteps(hints);
+		graph.monitor = monitor;
+		graph.budgetStart = System.nanoTime();
+		graph.budget = timeBudget * 1000000;
+		try {
+			Deque<GraphVisitor> performed = new ArrayDeque<>();
+			int index = 0;
+			for (GraphVisitor visitor : visitors) {
+				if (graph.isCanceled()) {
+					performed.forEach(step -> step.revisit(graph));
+					throw new GraphLayoutCanceledException();
+				}
+				String name = visitor.getClass().getSimpleName();
+				if (monitor != null)
+					monitor.stepStarted(name, index++, visitors.size());
+				long start = System.nanoTime();
+				visitor.visit(graph);
+				performed.push(visitor);
+				if (monitor != null)
+					monitor.stepFinished(name, System.nanoTime() - start);
+			}
+			visitors.descendingIterator().forEachRemaining(visitor -> visitor.revisit(graph));
+			if (incremental && !compound)
+				hints = new LayoutHints(graph);
+		} finally {
+			graph.monitor = null;
+			graph.budget = 0;
+		}
 	}
 
 }
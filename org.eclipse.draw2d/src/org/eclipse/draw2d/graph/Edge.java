@@ -69,6 +69,9 @@ public class Edge {
 
 	boolean flag;
 
+	// The number of this edge in the NetworkSimplex
+	int index;
+
 	/**
 	 * @deprecated INTERNAL field, use accessor method Indicates an edge was
 	 *             inverted during the layout
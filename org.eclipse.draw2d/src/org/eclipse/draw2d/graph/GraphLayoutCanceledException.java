@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+/**
+ * Thrown by a {@link DirectedGraphLayout} which was cancelled by its
+ * {@link GraphLayoutMonitor}. The edges and nodes of the graph are restored, but
+ * the positions of its nodes are undefined.
+ *
+ * @since 3.15
+ */
+public class GraphLayoutCanceledException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructs a new exception.
+	 */
+	public GraphLayoutCanceledException() {
+		super("The graph layout was cancelled"); //$NON-NLS-1$
+	}
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+/**
+ * Receives the progress of a {@link DirectedGraphLayout} and allows it to be
+ * cancelled. A layout consists of a number of steps, such as breaking cycles,
+ * assigning ranks, minimizing crossings and placing the nodes horizontally. The
+ * monitor is informed before and after each step, together with the time the
+ * step took.
+ * <P>
+ * {@link #isCanceled()} is polled between the steps and during the iterative
+ * steps, possibly from several threads.
+ *
+ * @see DirectedGraphLayout#visit(DirectedGraph, GraphLayoutMonitor)
+ * @since 3.15
+ */
+public interface GraphLayoutMonitor {
+
+	/**
+	 * Called before a step of the layout is performed.
+	 *
+	 * @param step  the name of the step, for diagnostic purposes
+	 * @param index the index of the step, starting at 0
+	 * @param count the number of steps of the layout
+	 */
+	default void stepStarted(String step, int index, int count) {
+	}
+
+	/**
+	 * Called after a step of the layout has been performed.
+	 *
+	 * @param step  the name of the step, for diagnostic purposes
+	 * @param nanos the time taken by the step, in nanoseconds
+	 */
+	default void stepFinished(String step, long nanos) {
+	}
+
+	/**
+	 * Returns whether the layout should be cancelled. A cancelled layout throws a
+	 * {@link GraphLayoutCanceledException}.
+	 *
+	 * @return <code>true</code> to cancel the layout
+	 */
+	default boolean isCanceled() {
+		return false;
+	}
+
+}
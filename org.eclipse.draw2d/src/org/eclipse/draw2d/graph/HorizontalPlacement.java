@@ -291,7 +291,7 @@ class HorizontalPlacement extends SpanningTreeVisitor {
 		}
 	}
 
-	private void calculateCellLocations() {
+	static void calculateCellLocations(DirectedGraph graph) {
 		graph.cellLocations = new int[graph.ranks.size() + 1][];
 		for (int row = 0; row < graph.ranks.size(); row++) {
 			Rank rank = graph.ranks.getRank(row);
@@ -383,6 +383,7 @@ class HorizontalPlacement extends SpanningTreeVisitor {
 	public void visit(DirectedGraph g) {
 		graph = g;
 		prime = new DirectedGraph();
+		prime.copyLimits(g);
 		prime.nodes.add(graphLeft = new Node(null));
 		prime.nodes.add(graphRight = new Node(null));
 		if (g.tensorStrength != 0) {
@@ -399,7 +400,7 @@ class HorizontalPlacement extends SpanningTreeVisitor {
 
 		prime.nodes.adjustRank(-graphLeft.rank);
 		applyGPrime();
-		calculateCellLocations();
+		calculateCellLocations(graph);
 	}
 
 }
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Orders the ranks during an incremental layout. The nodes are first sorted by
+ * their previous x coordinates, with new nodes and virtual nodes placed near
+ * their neighbors. The sweeps of {@link MinCross} are then performed on the
+ * ranks near the affected nodes only, and their result is kept if it has fewer
+ * crossings than the previous ordering.
+ *
+ * @since 3.15
+ */
+class IncrementalOrdering extends GraphVisitor {
+
+	private final LayoutHints hints;
+	private final int radius;
+	private final RankSorter sorter = new RankSorter();
+
+	IncrementalOrdering(LayoutHints hints, int radius) {
+		this.hints = hints;
+		this.radius = radius;
+	}
+
+	@Override
+	void visit(DirectedGraph g) {
+		hints.matchBends(g);
+		Map<Node, Integer> positions = hints.estimatePositions(g);
+		for (Rank rank : g.ranks)
+			rank.sort(Comparator.comparing(positions::get));
+		sorter.init(g);
+
+		boolean[] affected = hints.getAffectedRanks(g, radius);
+		RankOrdering previous = new RankOrdering(g);
+		previous.countCrossings();
+		for (int loop = 0; loop < MinCross.MAX; loop++) {
+			if (loop > 0 && g.shouldStop())
+				break;
+			for (int row = 1; row < g.ranks.size(); row++)
+				if (affected[row])
+					sorter.sortRankIncoming(g, g.ranks.getRank(row), row, (double) loop / MinCross.MAX);
+			if (loop == MinCross.MAX - 1)
+				continue;
+			for (int row = g.ranks.size() - 2; row >= 0; row--)
+				if (affected[row])
+					sorter.sortRankOutgoing(g, g.ranks.getRank(row), row, (double) loop / MinCross.MAX);
+		}
+		RankOrdering sorted = new RankOrdering(g);
+		RankOrdering best = sorted.countCrossings() < previous.crossings ? sorted : previous;
+		best.apply(g);
+	}
+
+}
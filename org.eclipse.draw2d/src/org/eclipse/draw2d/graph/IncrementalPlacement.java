@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Insets;
+
+/**
+ * Assigns the X values for nodes during an incremental layout. Each node is
+ * placed as close as possible to its previous x coordinate, or to its
+ * neighbors if it is new. Where the nodes of a rank overlap, they are packed
+ * once to the right and once to the left, and the average of both packings is
+ * used, so that the nodes on both sides of an inserted node move apart evenly.
+ * The nodes of the other ranks keep their coordinates, except for a common
+ * shift which keeps the leftmost node at the margin of the graph.
+ *
+ * @since 3.15
+ */
+class IncrementalPlacement extends GraphVisitor {
+
+	private final LayoutHints hints;
+
+	IncrementalPlacement(LayoutHints hints) {
+		this.hints = hints;
+	}
+
+	@Override
+	void visit(DirectedGraph g) {
+		Map<Node, Integer> positions = hints.estimatePositions(g);
+		int min = Integer.MAX_VALUE;
+		for (Rank rank : g.ranks) {
+			int size = rank.size();
+			int[] separation = new int[size];
+			for (int i = 1; i < size; i++) {
+				Node left = rank.get(i - 1);
+				separation[i] = left.width + g.getPadding(left).right + g.getPadding(rank.get(i)).left;
+			}
+			int[] right = new int[size];
+			int[] left = new int[size];
+			for (int i = 0; i < size; i++) {
+				right[i] = positions.get(rank.get(i)).intValue();
+				if (i > 0)
+					right[i] = Math.max(right[i], right[i - 1] + separation[i]);
+			}
+			for (int i = size - 1; i >= 0; i--) {
+				left[i] = positions.get(rank.get(i)).intValue();
+				if (i < size - 1)
+					left[i] = Math.min(left[i], left[i + 1] - separation[i + 1]);
+			}
+			for (int i = 0; i < size; i++) {
+				Node node = rank.get(i);
+				node.x = Math.floorDiv(left[i] + right[i], 2);
+				min = Math.min(min, node.x - g.getPadding(node).left);
+			}
+		}
+
+		Insets margin = g.getMargin();
+		int offset = margin.left - min;
+		int width = 0;
+		for (Rank rank : g.ranks) {
+			for (Node node : rank) {
+				node.x += offset;
+				width = Math.max(width, node.x + node.width + g.getPadding(node).right);
+			}
+		}
+		g.size.width = width + margin.right;
+		HorizontalPlacement.calculateCellLocations(g);
+	}
+
+}
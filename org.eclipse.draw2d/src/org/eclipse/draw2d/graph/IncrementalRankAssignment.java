@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns ranks during an incremental layout. The nodes keep their previous
+ * ranks unless an edge requires them to move down. New nodes are placed
+ * directly below their predecessors, or directly above their successors if
+ * they have no predecessors. Ranks which have become empty are removed. Unlike
+ * {@link RankAssignmentSolver}, this does not minimize the lengths of the
+ * edges, but it takes linear time and leaves the unaffected nodes in place.
+ *
+ * @since 3.15
+ */
+class IncrementalRankAssignment extends GraphVisitor {
+
+	private static final int UNRANKED = Integer.MIN_VALUE;
+
+	private final LayoutHints hints;
+
+	IncrementalRankAssignment(LayoutHints hints) {
+		this.hints = hints;
+	}
+
+	/**
+	 * Returns the nodes in topological order. The feedback edges have been
+	 * inverted, so the graph is acyclic.
+	 */
+	private static List<Node> sort(DirectedGraph g) {
+		Map<Node, Integer> indegrees = new HashMap<>();
+		Deque<Node> sources = new ArrayDeque<>();
+		for (Node node : g.nodes) {
+			indegrees.put(node, Integer.valueOf(node.incoming.size()));
+			if (node.incoming.isEmpty())
+				sources.add(node);
+		}
+		List<Node> sorted = new ArrayList<>(g.nodes.size());
+		while (!sources.isEmpty()) {
+			Node node = sources.poll();
+			sorted.add(node);
+			for (Edge edge : node.outgoing) {
+				int indegree = indegrees.get(edge.target).intValue() - 1;
+				indegrees.put(edge.target, Integer.valueOf(indegree));
+				if (indegree == 0)
+					sources.add(edge.target);
+			}
+		}
+		if (sorted.size() != g.nodes.size())
+			throw new RuntimeException("Cycle detected in graph"); //$NON-NLS-1$
+		return sorted;
+	}
+
+	@Override
+	void visit(DirectedGraph g) {
+		g.forestRoot = null;
+		hints.findChanges(g);
+		List<Node> sorted = sort(g);
+
+		for (Node node : sorted) {
+			int rank = hints.getRank(node);
+			if (rank == -1)
+				rank = UNRANKED;
+			for (Edge edge : node.incoming)
+				if (edge.source.rank != UNRANKED)
+					rank = Math.max(rank, edge.source.rank + edge.delta);
+			node.rank = rank;
+		}
+		for (int i = sorted.size() - 1; i >= 0; i--) {
+			Node node = sorted.get(i);
+			if (node.rank != UNRANKED)
+				continue;
+			int rank = Integer.MAX_VALUE;
+			for (Edge edge : node.outgoing)
+				rank = Math.min(rank, edge.target.rank - edge.delta);
+			node.rank = rank == Integer.MAX_VALUE ? 0 : rank;
+		}
+
+		for (Node node : g.nodes)
+			if (node.rank != hints.getRank(node))
+				hints.affected.add(node);
+		removeEmptyRanks(g);
+	}
+
+	/**
+	 * Normalizes the ranks and removes the ranks which contain neither a node nor
+	 * a virtual node. No edge spans such a rank, so the ranks remain valid.
+	 */
+	private static void removeEmptyRanks(DirectedGraph g) {
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (Node node : g.nodes) {
+			min = Math.min(min, node.rank);
+			max = Math.max(max, node.rank);
+		}
+		boolean[] occupied = new boolean[max - min + 1];
+		for (Node node : g.nodes)
+			occupied[node.rank - min] = true;
+		for (Edge edge : g.edges)
+			for (int r = edge.source.rank + 1; r < edge.target.rank; r++)
+				occupied[r - min] = true;
+		int[] ranks = new int[occupied.length];
+		int rank = 0;
+		for (int r = 0; r < occupied.length; r++) {
+			ranks[r] = rank;
+			if (occupied[r])
+				rank++;
+		}
+		for (Node node : g.nodes)
+			node.rank = ranks[node.rank - min];
+	}
+
+}
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.PositionConstants;
+
+/**
+ * The result of a previous layout of a graph, which is used as a hint by the
+ * steps of an incremental layout. The ranks and the x coordinates of the nodes
+ * and of the bendpoints of long edges are recorded in the coordinates used
+ * during the layout, that is before the graph is transposed.
+ * <P>
+ * During an incremental layout, the hints also hold the nodes affected by the
+ * changes made to the graph since the previous layout.
+ *
+ * @since 3.15
+ */
+class LayoutHints {
+
+	private final Map<Node, int[]> nodes = new HashMap<>();
+	private final Map<Edge, int[]> bends = new HashMap<>();
+	private final Set<Edge> edges;
+	private final Map<Node, Integer> virtualX = new HashMap<>();
+
+	/**
+	 * The nodes which are new, whose rank has changed or which are incident to a
+	 * new or removed edge.
+	 */
+	final Set<Node> affected = new HashSet<>();
+
+	/**
+	 * Records the result of the layout of the given graph.
+	 */
+	LayoutHints(DirectedGraph g) {
+		boolean transposed = g.getDirection() != PositionConstants.SOUTH;
+		for (Node node : g.nodes)
+			nodes.put(node, new int[] { node.rank, transposed ? node.y : node.x });
+		edges = new HashSet<>(g.edges);
+		for (Edge edge : g.edges) {
+			NodeList vNodes = edge.vNodes;
+			if (vNodes == null || vNodes.size() != Math.abs(edge.target.rank - edge.source.rank) - 1)
+				continue;
+			int first = Math.min(edge.source.rank, edge.target.rank) + 1;
+			int[] bend = new int[vNodes.size() + 1];
+			bend[0] = first;
+			for (Node node : vNodes)
+				bend[node.rank - first + 1] = transposed ? node.y : node.x;
+			bends.put(edge, bend);
+		}
+	}
+
+	/**
+	 * Returns whether the hints can be used for the layout of the given graph,
+	 * that is whether they contain at least one of its nodes.
+	 */
+	boolean appliesTo(DirectedGraph g) {
+		return g.nodes.stream().anyMatch(nodes::containsKey);
+	}
+
+	/**
+	 * Determines the nodes affected by the changes made to the given graph since
+	 * the hints were recorded.
+	 */
+	void findChanges(DirectedGraph g) {
+		affected.clear();
+		Set<Node> current = new HashSet<>(g.nodes);
+		for (Node node : g.nodes)
+			if (!nodes.containsKey(node))
+				affected.add(node);
+		for (Edge edge : g.edges) {
+			if (!edges.contains(edge)) {
+				affected.add(edge.source);
+				affected.add(edge.target);
+			}
+		}
+		Set<Edge> remaining = new HashSet<>(g.edges);
+		for (Edge edge : edges) {
+			if (remaining.contains(edge))
+				continue;
+			if (current.contains(edge.source))
+				affected.add(edge.source);
+			if (current.contains(edge.target))
+				affected.add(edge.target);
+		}
+	}
+
+	/**
+	 * Returns the previous rank of the given node, or -1 if the node is new.
+	 */
+	int getRank(Node node) {
+		int[] hint = nodes.get(node);
+		return hint == null ? -1 : hint[0];
+	}
+
+	/**
+	 * Returns the previous x coordinate of the given node or virtual node, or
+	 * <code>null</code> if it has none.
+	 */
+	Integer getX(Node node) {
+		if (node instanceof VirtualNode)
+			return virtualX.get(node);
+		int[] hint = nodes.get(node);
+		return hint == null ? null : Integer.valueOf(hint[1]);
+	}
+
+	/**
+	 * Assigns the previous bendpoints of the long edges to the virtual nodes which
+	 * have been created for them. The virtual nodes do not refer to their edge, so
+	 * the chains of virtual nodes are matched with the previous edges connecting
+	 * the same nodes.
+	 */
+	void matchBends(DirectedGraph g) {
+		virtualX.clear();
+		Map<Node, List<Edge>> bySource = new HashMap<>();
+		for (Edge edge : bends.keySet())
+			bySource.computeIfAbsent(edge.source, key -> new ArrayList<>()).add(edge);
+		List<Node> chain = new ArrayList<>();
+		for (Node node : g.nodes) {
+			List<Edge> candidates = bySource.get(node);
+			if (candidates == null || node instanceof VirtualNode)
+				continue;
+			for (Edge edge : node.outgoing) {
+				if (!(edge.target instanceof VirtualNode))
+					continue;
+				chain.clear();
+				Node target = edge.target;
+				while (target instanceof VirtualNode) {
+					chain.add(target);
+					target = target.outgoing.get(0).target;
+				}
+				for (Edge candidate : candidates) {
+					int[] bend = bends.get(candidate);
+					if (candidate.target != target || bend == null)
+						continue;
+					for (Node vNode : chain) {
+						int i = vNode.rank - bend[0] + 1;
+						if (i > 0 && i < bend.length)
+							virtualX.put(vNode, Integer.valueOf(bend[i]));
+					}
+					// Parallel edges are matched in turn
+					candidates.remove(candidate);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the desired x coordinate of each node of the given graph's ranks.
+	 * This is the previous x coordinate if there is one. Otherwise, it is the
+	 * median of the desired coordinates of the neighbors in the adjacent ranks,
+	 * or the right side of the previous node in the rank.
+	 */
+	Map<Node, Integer> estimatePositions(DirectedGraph g) {
+		Map<Node, Integer> positions = new HashMap<>();
+		for (Rank rank : g.ranks) {
+			for (Node node : rank) {
+				Integer x = getX(node);
+				if (x != null)
+					positions.put(node, x);
+			}
+		}
+		for (int r = 0; r < g.ranks.size(); r++)
+			for (Node node : g.ranks.getRank(r))
+				estimate(positions, node, node.incoming, true);
+		for (int r = g.ranks.size() - 1; r >= 0; r--)
+			for (Node node : g.ranks.getRank(r))
+				estimate(positions, node, node.outgoing, false);
+		for (Rank rank : g.ranks) {
+			int x = 0;
+			for (Node node : rank) {
+				Integer position = positions.get(node);
+				if (position == null)
+					positions.put(node, Integer.valueOf(x));
+				else
+					x = position.intValue();
+				x += node.width + g.getPadding(node).getWidth();
+			}
+		}
+		return positions;
+	}
+
+	private static void estimate(Map<Node, Integer> positions, Node node, EdgeList edges, boolean incoming) {
+		if (positions.containsKey(node))
+			return;
+		int[] neighbors = new int[edges.size()];
+		int count = 0;
+		for (Edge edge : edges) {
+			Node neighbor = incoming ? edge.source : edge.target;
+			Integer x = positions.get(neighbor);
+			if (x != null && Math.abs(neighbor.rank - node.rank) == 1)
+				neighbors[count++] = x.intValue() + (incoming ? edge.getSourceOffset() : edge.getTargetOffset())
+						- (incoming ? edge.getTargetOffset() : edge.getSourceOffset());
+		}
+		if (count == 0)
+			return;
+		Arrays.sort(neighbors, 0, count);
+		positions.put(node, Integer.valueOf((neighbors[(count - 1) / 2] + neighbors[count / 2]) / 2));
+	}
+
+	/**
+	 * Returns the ranks within the given distance of the ranks of the affected
+	 * nodes.
+	 */
+	boolean[] getAffectedRanks(DirectedGraph g, int radius) {
+		boolean[] result = new boolean[g.ranks.size()];
+		for (Node node : affected) {
+			int from = Math.max(0, node.rank - radius);
+			int to = Math.min(result.length - 1, node.rank + radius);
+			for (int r = from; r <= to; r++)
+				result[r] = true;
+		}
+		return result;
+	}
+
+}
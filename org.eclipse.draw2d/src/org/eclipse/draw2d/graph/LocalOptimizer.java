@@ -101,7 +101,7 @@ class LocalOptimizer extends GraphVisitor {
 					}
 				}
 			}
-		} while (flag);
+		} while (flag && !g.shouldStop());
 	}
 
 }
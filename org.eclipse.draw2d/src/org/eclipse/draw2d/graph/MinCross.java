@@ -10,8 +10,20 @@
  *******************************************************************************/
 package org.eclipse.draw2d.graph;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 /**
  * Sweeps up and down the ranks rearranging them so as to reduce edge crossings.
+ * <P>
+ * The result of the sweeps depends on the initial orderings and on the way the
+ * {@link RankSorter} breaks ties. When several runs are requested, additional
+ * sweeps starting with differently shuffled orderings are performed in
+ * parallel on {@link RankOrdering copies} of the ranks, and the ordering with
+ * the fewest crossings is kept. Compound graphs are always sorted in a single
+ * run, as their subgraphs must remain contiguous.
  * 
  * @author Randy Hudson
  * @since 2.1.2
@@ -22,6 +34,7 @@ class MinCross extends GraphVisitor {
 
 	private DirectedGraph g;
 	private RankSorter sorter = new RankSorter();
+	private int runs = 1;
 
 	public MinCross() {
 	}
@@ -37,9 +50,20 @@ class MinCross extends GraphVisitor {
 		this.sorter = sorter;
 	}
 
+	/**
+	 * Sets the number of independent runs, including the run of the rank sorter.
+	 * 
+	 * @since 3.15
+	 */
+	void setRuns(int runs) {
+		this.runs = runs;
+	}
+
 	void solve() {
 		Rank rank;
 		for (int loop = 0; loop < MAX; loop++) {
+			if (loop > 0 && g.shouldStop())
+				break;
 			for (int row = 1; row < g.ranks.size(); row++) {
 				rank = g.ranks.getRank(row);
 				sorter.sortRankIncoming(g, rank, row, (double) loop / MAX);
@@ -53,6 +77,37 @@ class MinCross extends GraphVisitor {
 		}
 	}
 
+	/**
+	 * Performs the sweeps of the rank sorter and the additional runs, and keeps the
+	 * ordering with the fewest crossings. The rank sorter's ordering wins ties, so
+	 * that the result does not depend on the scheduling of the runs.
+	 */
+	void solveRuns() {
+		RankOrdering initial = new RankOrdering(g);
+		List<ForkJoinTask<RankOrdering>> tasks = new ArrayList<>();
+		for (int run = 1; run < runs; run++) {
+			long seed = run;
+			tasks.add(ForkJoinPool.commonPool().submit(() -> {
+				RankOrdering ordering = new RankOrdering(initial);
+				ordering.solve(seed, g::shouldStop);
+				ordering.countCrossings();
+				return ordering;
+			}));
+		}
+
+		solve();
+		RankOrdering sorted = new RankOrdering(g);
+		RankOrdering best = sorted;
+		best.countCrossings();
+		for (ForkJoinTask<RankOrdering> task : tasks) {
+			RankOrdering ordering = task.join();
+			if (ordering.crossings < best.crossings)
+				best = ordering;
+		}
+		if (best != sorted)
+			best.apply(g);
+	}
+
 	/**
 	 * @see GraphVisitor#visit(org.eclipse.draw2d.graph.DirectedGraph)
 	 */
@@ -60,7 +115,10 @@ class MinCross extends GraphVisitor {
 	public void visit(DirectedGraph g) {
 		sorter.init(g);
 		this.g = g;
-		solve();
+		if (runs > 1 && !(g instanceof CompoundDirectedGraph))
+			solveRuns();
+		else
+			solve();
 		sorter.optimize(g);
 	}
 
@@ -0,0 +1,615 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The network simplex used by {@link TightSpanningTreeSolver} and
+ * {@link RankAssignmentSolver}, performed on arrays instead of the graph's nodes
+ * and edges. The nodes and edges are identified by their number, and the
+ * incoming and outgoing edges of each node are kept in compressed adjacency
+ * arrays in the order of the node's edge lists. The spanning tree is numbered
+ * in postorder, so that the nodes of a subtree form a contiguous range, and the
+ * cut values are repaired incrementally along the paths affected by a pivot.
+ * <P>
+ * The pivots are chosen in the same order as by the previous object based
+ * implementation, so the resulting ranks are the same. The results are copied
+ * back to the graph, including the spanning tree and the cut values, which are
+ * used by {@link HorizontalPlacement}.
+ *
+ * @since 3.15
+ */
+class NetworkSimplex {
+
+	private static final int MAX_ITERATIONS = 900;
+
+	private final Node[] nodes;
+	private final Edge[] edges;
+
+	private final int[] source;
+	private final int[] target;
+	private final int[] delta;
+	private final int[] weight;
+	private final int[] outStart;
+	private final int[] outEdges;
+	private final int[] inStart;
+	private final int[] inEdges;
+	private final int[] rank;
+
+	private final boolean[] tree;
+	private final int[] cut;
+	private final int[] parent;
+	private final int[][] children;
+	private final int[] childCount;
+	private final int[] min;
+	private final int[] max;
+	private final int[] order;
+
+	// The edges with a negative cut value, in the order they were found
+	private final int[] next;
+	private final int[] previous;
+	private final boolean[] negative;
+	private int first = -1;
+	private int last = -1;
+
+	private int[] stack;
+	private int[] stackPosition;
+
+	/**
+	 * Copies the nodes, edges and ranks of the given graph.
+	 */
+	NetworkSimplex(DirectedGraph graph) {
+		int n = graph.nodes.size();
+		nodes = graph.nodes.toArray(new Node[n]);
+		int m = 0;
+		for (int v = 0; v < n; v++) {
+			nodes[v].workingInts[0] = v;
+			m += nodes[v].outgoing.size();
+		}
+
+		edges = new Edge[m];
+		source = new int[m];
+		target = new int[m];
+		delta = new int[m];
+		weight = new int[m];
+		cut = new int[m];
+		outStart = new int[n + 1];
+		outEdges = new int[m];
+		int e = 0;
+		for (int v = 0; v < n; v++) {
+			outStart[v] = e;
+			for (Edge edge : nodes[v].outgoing) {
+				edges[e] = edge;
+				edge.index = e;
+				source[e] = v;
+				target[e] = edge.target.workingInts[0];
+				delta[e] = edge.delta;
+				weight[e] = edge.weight;
+				cut[e] = edge.cut;
+				outEdges[e] = e;
+				e++;
+			}
+		}
+		outStart[n] = e;
+
+		inStart = new int[n + 1];
+		inEdges = new int[m];
+		int i = 0;
+		for (int v = 0; v < n; v++) {
+			inStart[v] = i;
+			for (Edge edge : nodes[v].incoming)
+				inEdges[i++] = edge.index;
+		}
+		inStart[n] = i;
+
+		rank = new int[n];
+		for (int v = 0; v < n; v++)
+			rank[v] = nodes[v].rank;
+
+		tree = new boolean[m];
+		parent = new int[n];
+		children = new int[n][];
+		childCount = new int[n];
+		min = new int[n];
+		max = new int[n];
+		order = new int[n + 1];
+		next = new int[m];
+		previous = new int[m];
+		negative = new boolean[m];
+	}
+
+	private void addChild(int node, int edge) {
+		int[] list = children[node];
+		if (list == null)
+			list = children[node] = new int[4];
+		else if (childCount[node] == list.length)
+			list = children[node] = Arrays.copyOf(list, list.length * 2);
+		list[childCount[node]++] = edge;
+	}
+
+	private void removeChild(int node, int edge) {
+		int[] list = children[node];
+		int count = childCount[node];
+		for (int i = 0; i < count; i++) {
+			if (list[i] == edge) {
+				System.arraycopy(list, i + 1, list, i, count - i - 1);
+				childCount[node]--;
+				return;
+			}
+		}
+	}
+
+	private int getSlack(int edge) {
+		return rank[target[edge]] - rank[source[edge]] - delta[edge];
+	}
+
+	private int getTreeTail(int edge) {
+		return parent[source[edge]] == edge ? source[edge] : target[edge];
+	}
+
+	private int getTreeHead(int edge) {
+		return parent[source[edge]] == edge ? target[edge] : source[edge];
+	}
+
+	private int getTreeParent(int node) {
+		int edge = parent[node];
+		if (edge == -1)
+			return -1;
+		return source[edge] == node ? target[edge] : source[edge];
+	}
+
+	private boolean subtreeContains(int root, int node) {
+		return min[root] <= max[node] && max[node] <= max[root];
+	}
+
+	/*
+	 * Finding a feasible tree
+	 */
+
+	/**
+	 * Finds a tight spanning tree, starting at the first node and adding the
+	 * candidate edge with the least slack until all nodes are reached. The ranks
+	 * of the nodes in the tree are shifted to make that edge tight, which is done
+	 * lazily by keeping their ranks relative to a common offset.
+	 */
+	void findTightTree() {
+		int n = nodes.length;
+		if (n == 0)
+			return;
+		boolean[] reachable = new boolean[n];
+		boolean[] candidate = new boolean[edges.length];
+		int[] candidates = new int[edges.length];
+		int[] slot = new int[edges.length];
+		Arrays.fill(slot, -1);
+		int size = 0;
+		int shift = 0;
+		int members = 0;
+
+		Arrays.fill(parent, -1);
+		int node = 0;
+		while (true) {
+			// Add the node to the tree
+			reachable[node] = true;
+			rank[node] -= shift;
+			for (int i = inStart[node]; i < inStart[node + 1]; i++) {
+				int e = inEdges[i];
+				if (!reachable[source[e]]) {
+					if (!candidate[e]) {
+						candidate[e] = true;
+						slot[e] = size;
+						candidates[size++] = e;
+					}
+				} else {
+					size = removeCandidate(candidates, slot, size, e);
+				}
+			}
+			for (int i = outStart[node]; i < outStart[node + 1]; i++) {
+				int e = outEdges[i];
+				if (!reachable[target[e]]) {
+					if (!candidate[e]) {
+						candidate[e] = true;
+						slot[e] = size;
+						candidates[size++] = e;
+					}
+				} else {
+					size = removeCandidate(candidates, slot, size, e);
+				}
+			}
+			if (++members == n)
+				break;
+
+			if (size == 0)
+				throw new RuntimeException("graph is not fully connected");//$NON-NLS-1$
+			int minSlack = Integer.MAX_VALUE;
+			int minEdge = -1;
+			for (int i = 0; i < size && minSlack > 0; i++) {
+				int e = candidates[i];
+				int slack = (reachable[target[e]] ? rank[target[e]] + shift : rank[target[e]])
+						- (reachable[source[e]] ? rank[source[e]] + shift : rank[source[e]]) - delta[e];
+				if (slack < minSlack) {
+					minSlack = slack;
+					minEdge = i;
+				}
+			}
+
+			int e = candidates[minEdge];
+			tree[e] = true;
+			if (reachable[target[e]]) {
+				node = source[e];
+				addChild(target[e], e);
+				shift -= minSlack;
+			} else {
+				node = target[e];
+				addChild(source[e], e);
+				shift += minSlack;
+			}
+			parent[node] = e;
+		}
+
+		int minRank = Integer.MAX_VALUE;
+		for (int v = 0; v < n; v++) {
+			rank[v] += shift;
+			minRank = Math.min(minRank, rank[v]);
+		}
+		for (int v = 0; v < n; v++)
+			rank[v] -= minRank;
+		for (int e = 0; e < edges.length; e++)
+			edges[e].flag = candidate[e];
+		for (Node reached : nodes)
+			reached.flag = true;
+	}
+
+	private static int removeCandidate(int[] candidates, int[] slot, int size, int edge) {
+		int i = slot[edge];
+		if (i == -1)
+			throw new RuntimeException("Remove called on invalid Edge"); //$NON-NLS-1$
+		int moved = candidates[size - 1];
+		candidates[i] = moved;
+		slot[moved] = i;
+		slot[edge] = -1;
+		return size - 1;
+	}
+
+	/*
+	 * Optimizing the tree
+	 */
+
+	/**
+	 * Copies the spanning tree found by {@link TightSpanningTreeSolver} from the
+	 * graph.
+	 */
+	void loadTree() {
+		for (int e = 0; e < edges.length; e++)
+			tree[e] = edges[e].tree;
+		for (int v = 0; v < nodes.length; v++) {
+			Node node = nodes[v];
+			Edge edge = (Edge) node.workingData[1];
+			parent[v] = edge == null ? -1 : edge.index;
+			childCount[v] = 0;
+			if (node.workingData[0] instanceof EdgeList list)
+				for (Edge child : list)
+					addChild(v, child.index);
+		}
+	}
+
+	private void addNegative(int edge) {
+		negative[edge] = true;
+		next[edge] = -1;
+		previous[edge] = last;
+		if (last == -1)
+			first = edge;
+		else
+			next[last] = edge;
+		last = edge;
+	}
+
+	private void removeNegative(int edge) {
+		if (!negative[edge])
+			return;
+		negative[edge] = false;
+		if (previous[edge] == -1)
+			first = next[edge];
+		else
+			next[previous[edge]] = next[edge];
+		if (next[edge] == -1)
+			last = previous[edge];
+		else
+			previous[next[edge]] = previous[edge];
+	}
+
+	private void ensureStack() {
+		if (stack == null) {
+			stack = new int[nodes.length + 1];
+			stackPosition = new int[nodes.length + 1];
+		}
+	}
+
+	/**
+	 * Computes the cut values of all tree edges and numbers the tree in postorder.
+	 */
+	void initCutValues() {
+		ensureStack();
+		int root = 0;
+		min[root] = 1;
+		int count = 1;
+		for (int i = outStart[root]; i < outStart[root + 1]; i++)
+			if (tree[outEdges[i]])
+				count = depthFirstCutValue(outEdges[i], count);
+		for (int i = inStart[root]; i < inStart[root + 1]; i++)
+			if (tree[inEdges[i]])
+				count = depthFirstCutValue(inEdges[i], count);
+		max[root] = count;
+		order[count] = root;
+	}
+
+	/**
+	 * Visits the subtree below the given edge, computing the cut values of its
+	 * edges bottom up. Returns the next free postorder number.
+	 */
+	private int depthFirstCutValue(int edge, int count) {
+		int depth = 0;
+		stack[0] = edge;
+		stackPosition[0] = 0;
+		min[getTreeTail(edge)] = count;
+		while (depth >= 0) {
+			int current = stack[depth];
+			int n = getTreeTail(current);
+			int outDegree = outStart[n + 1] - outStart[n];
+			int degree = outDegree + inStart[n + 1] - inStart[n];
+			int position = stackPosition[depth];
+			if (position < degree) {
+				stackPosition[depth]++;
+				int e = position < outDegree ? outEdges[outStart[n] + position]
+						: inEdges[inStart[n] + position - outDegree];
+				if (tree[e] && e != current) {
+					depth++;
+					stack[depth] = e;
+					stackPosition[depth] = 0;
+					min[getTreeTail(e)] = count;
+				}
+				continue;
+			}
+			cut[current] = computeCutValue(current, n);
+			if (cut[current] < 0)
+				addNegative(current);
+			max[n] = count;
+			order[count] = n;
+			count++;
+			depth--;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the cut value of the given tree edge, whose tail is the given node,
+	 * from the cut values of the node's other tree edges.
+	 */
+	private int computeCutValue(int edge, int n) {
+		int value = 0;
+		int multiplier = (target[edge] == n) ? 1 : -1;
+		for (int i = outStart[n]; i < outStart[n + 1]; i++) {
+			int e = outEdges[i];
+			if (tree[e] && e != edge)
+				value += (cut[e] - weight[e]) * multiplier;
+			else
+				value -= weight[e] * multiplier;
+		}
+		for (int i = inStart[n]; i < inStart[n + 1]; i++) {
+			int e = inEdges[i];
+			if (tree[e] && e != edge)
+				value -= (cut[e] - weight[e]) * multiplier;
+			else
+				value += weight[e] * multiplier;
+		}
+		return value;
+	}
+
+	private void repairCutValues(int edge) {
+		removeNegative(edge);
+		cut[edge] = computeCutValue(edge, getTreeTail(edge));
+		if (cut[edge] < 0)
+			addNegative(edge);
+	}
+
+	private int leave() {
+		int result = -1;
+		int minCut = 0;
+		int maxWeight = -1;
+		for (int e = first; e != -1; e = next[e]) {
+			if (cut[e] < minCut) {
+				result = e;
+				minCut = cut[e];
+				maxWeight = weight[e];
+			} else if (cut[e] == minCut && weight[e] > maxWeight) {
+				result = e;
+				maxWeight = weight[e];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the non-tree edge with the least slack which connects the subtree
+	 * of the given node to the rest of the tree in the direction of its parent
+	 * edge. Ties are broken in favour of the node which comes last in the graph.
+	 */
+	private int enter(int branch) {
+		int result = -1;
+		int resultNode = -1;
+		int minSlack = Integer.MAX_VALUE;
+		boolean incoming = target[parent[branch]] != branch;
+		for (int number = min[branch]; number <= max[branch]; number++) {
+			int n = order[number];
+			int start = incoming ? inStart[n] : outStart[n];
+			int end = incoming ? inStart[n + 1] : outStart[n + 1];
+			for (int i = start; i < end; i++) {
+				int e = incoming ? inEdges[i] : outEdges[i];
+				if (tree[e] || subtreeContains(branch, incoming ? source[e] : target[e]))
+					continue;
+				int slack = getSlack(e);
+				if (slack < minSlack || (slack == minSlack && n > resultNode)) {
+					result = e;
+					resultNode = n;
+					minSlack = slack;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Performs pivots until no tree edge has a negative cut value, the maximum
+	 * number of iterations is reached or the given condition indicates that the
+	 * loop should stop early. Every pivot leaves a feasible ranking.
+	 */
+	void networkSimplexLoop(BooleanSupplier stop) {
+		int count = 0;
+		int leave;
+		while ((leave = leave()) != -1 && count < MAX_ITERATIONS && !stop.getAsBoolean()) {
+			count++;
+
+			int leaveTail = getTreeTail(leave);
+			int leaveHead = getTreeHead(leave);
+
+			int enter = enter(leaveTail);
+			if (enter == -1)
+				break;
+
+			// Break the "leave" edge from the spanning tree
+			removeChild(leaveHead, leave);
+			parent[leaveTail] = -1;
+			tree[leave] = false;
+			removeNegative(leave);
+
+			int enterTail = source[enter];
+			if (!subtreeContains(leaveTail, enterTail))
+				enterTail = target[enter];
+			int enterHead = enterTail == source[enter] ? target[enter] : source[enter];
+
+			// Prepare enterTail by making it the root of its sub-tree
+			updateSubgraph(enterTail);
+
+			// Add "enter" edge to the spanning tree
+			addChild(enterHead, enter);
+			parent[enterTail] = enter;
+			tree[enter] = true;
+
+			repairCutValues(enter);
+
+			int commonAncestor = enterHead;
+			while (!subtreeContains(commonAncestor, leaveHead)) {
+				repairCutValues(parent[commonAncestor]);
+				commonAncestor = getTreeParent(commonAncestor);
+			}
+			while (leaveHead != commonAncestor) {
+				repairCutValues(parent[leaveHead]);
+				leaveHead = getTreeParent(leaveHead);
+			}
+			updateMinMax(commonAncestor, min[commonAncestor]);
+			tightenEdge(enter);
+		}
+	}
+
+	/**
+	 * Makes the given node the root of its subtree by reversing the parent edges
+	 * on the path to the current root.
+	 */
+	private void updateSubgraph(int root) {
+		ensureStack();
+		int length = 0;
+		int node = root;
+		while (parent[node] != -1) {
+			int rootParent = getTreeParent(node);
+			removeChild(rootParent, parent[node]);
+			stack[length] = node;
+			stackPosition[length++] = parent[node];
+			node = rootParent;
+		}
+		for (int i = length - 1; i >= 0; i--) {
+			node = stack[i];
+			int flip = stackPosition[i];
+			int rootParent = source[flip] == node ? target[flip] : source[flip];
+			parent[node] = -1;
+			parent[rootParent] = flip;
+			repairCutValues(flip);
+			addChild(node, flip);
+		}
+	}
+
+	/**
+	 * Renumbers the subtree of the given node in postorder, starting at the given
+	 * number.
+	 */
+	private void updateMinMax(int root, int count) {
+		int depth = 0;
+		stack[0] = root;
+		stackPosition[0] = 0;
+		min[root] = count;
+		while (depth >= 0) {
+			int n = stack[depth];
+			int position = stackPosition[depth];
+			if (position < childCount[n]) {
+				stackPosition[depth]++;
+				int child = getTreeTail(children[n][position]);
+				depth++;
+				stack[depth] = child;
+				stackPosition[depth] = 0;
+				min[child] = count;
+				continue;
+			}
+			max[n] = count;
+			order[count] = n;
+			count++;
+			depth--;
+		}
+	}
+
+	private void tightenEdge(int edge) {
+		int tail = getTreeTail(edge);
+		int slack = getSlack(edge);
+		if (tail == target[edge])
+			slack = -slack;
+		for (int number = min[tail]; number <= max[tail]; number++)
+			rank[order[number]] += slack;
+	}
+
+	/*
+	 * Results
+	 */
+
+	/**
+	 * Copies the ranks, the spanning tree and the cut values back to the graph.
+	 */
+	void store() {
+		for (int v = 0; v < nodes.length; v++) {
+			Node node = nodes[v];
+			node.rank = rank[v];
+			node.workingData[1] = parent[v] == -1 ? null : edges[parent[v]];
+			EdgeList list;
+			if (node.workingData[0] instanceof EdgeList edgeList)
+				list = edgeList;
+			else
+				node.workingData[0] = list = new EdgeList();
+			list.clear();
+			for (int i = 0; i < childCount[v]; i++)
+				list.add(edges[children[v][i]]);
+			node.workingInts[0] = min[v];
+			node.workingInts[1] = max[v];
+		}
+		for (int e = 0; e < edges.length; e++) {
+			edges[e].tree = tree[e];
+			edges[e].cut = cut[e];
+		}
+	}
+
+}
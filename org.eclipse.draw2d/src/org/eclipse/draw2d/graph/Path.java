@@ -11,10 +11,13 @@
 package org.eclipse.draw2d.graph;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.draw2d.PositionConstants;
@@ -52,6 +55,18 @@ public class Path {
 
 	}
 
+	/**
+	 * The state of a vertex while searching the shortest path of this path. It is
+	 * kept by the path rather than by the shared vertex, so that the shortest
+	 * paths of several paths can be searched concurrently.
+	 */
+	private static class Label {
+		List neighbors;
+		boolean isPermanent;
+		Vertex label;
+		double cost;
+	}
+
 	private static final Point CURRENT = new Point();
 	private static final double EPSILON = 1.04;
 	private static final Point NEXT = new Point();
@@ -78,6 +93,12 @@ public class Path {
 	boolean isMarked = false;
 	PointList points;
 
+	/**
+	 * The points of the previous solution, used to detect whether a solve has
+	 * changed this path.
+	 */
+	private int[] previousPoints;
+
 	/**
 	 * The previous cost ratio of the path. The cost ratio is the actual path length
 	 * divided by the length from the start to the end.
@@ -91,6 +112,12 @@ public class Path {
 	double threshold;
 	Set visibleObstacles;
 	Set visibleVertices;
+	/**
+	 * The search state of the vertices in the visibility graph, by identity.
+	 * Vertices are equal by location, so distinct vertices may collapse in
+	 * visibleVertices.
+	 */
+	private final Map<Vertex, Label> labels = new IdentityHashMap<>();
 
 	/**
 	 * Constructs a new path.
@@ -267,7 +294,7 @@ public class Path {
 		for (int i = 0; i < allObstacles.size(); i++) {
 			Obstacle obs = (Obstacle) allObstacles.get(i);
 
-			if (obs == exclude1 || obs == exclude2 || obs.exclude)
+			if (obs == exclude1 || obs == exclude2 || excludedObstacles.contains(obs))
 				continue;
 
 			if (segment.intersects(obs.x, obs.y, obs.right() - 1, obs.bottom() - 1)
@@ -467,6 +494,7 @@ public class Path {
 	void cleanup() {
 		// segments.clear();
 		visibleVertices.clear();
+		labels.clear();
 	}
 
 	/**
@@ -493,11 +521,11 @@ public class Path {
 		if (!labelGraph())
 			return false;
 		Vertex vertex = end;
-		prevCostRatio = end.cost / start.getDistance(end);
+		prevCostRatio = getCost() / start.getDistance(end);
 
 		Vertex nextVertex;
 		while (!vertex.equals(start)) {
-			nextVertex = vertex.label;
+			nextVertex = getLabel(vertex).label;
 			if (nextVertex == null)
 				return false;
 			Segment s = new Segment(nextVertex, vertex);
@@ -514,6 +542,7 @@ public class Path {
 	 */
 	void fullReset() {
 		visibleVertices.clear();
+		labels.clear();
 		segments.clear();
 		if (prevCostRatio == 0) {
 			double distance = start.getDistance(end);
@@ -524,6 +553,36 @@ public class Path {
 		resetPartial();
 	}
 
+	/**
+	 * Returns the cost of the shortest path found by the last search, which is its
+	 * length.
+	 * 
+	 * @return the cost of the end vertex
+	 */
+	double getCost() {
+		Label label = labels.get(end);
+		return label == null ? 0 : label.cost;
+	}
+
+	private Label getLabel(Vertex vertex) {
+		Label label = labels.get(vertex);
+		if (label == null) {
+			label = new Label();
+			labels.put(vertex, label);
+		}
+		return label;
+	}
+
+	/**
+	 * Returns <code>true</code> if the points of this path differ from the points
+	 * saved by {@link #savePoints()}.
+	 * 
+	 * @return whether the last solve has changed this path
+	 */
+	boolean hasChangedPoints() {
+		return !Arrays.equals(previousPoints, points.toIntArray());
+	}
+
 	/**
 	 * Creates the visibility graph and returns whether or not a shortest path could
 	 * be determined.
@@ -634,24 +693,26 @@ public class Path {
 	private boolean labelGraph() {
 		int numPermanentNodes = 1;
 		Vertex vertex = start;
+		Label current = getLabel(vertex);
 		Vertex neighborVertex = null;
-		vertex.isPermanent = true;
+		current.isPermanent = true;
 		double newCost;
 		while (numPermanentNodes != visibleVertices.size()) {
-			List neighbors = vertex.neighbors;
+			List neighbors = current.neighbors;
 			if (neighbors == null)
 				return false;
 			// label neighbors if they have a new shortest path
 			for (int i = 0; i < neighbors.size(); i++) {
 				neighborVertex = (Vertex) neighbors.get(i);
-				if (!neighborVertex.isPermanent) {
-					newCost = vertex.cost + vertex.getDistance(neighborVertex);
-					if (neighborVertex.label == null) {
-						neighborVertex.label = vertex;
-						neighborVertex.cost = newCost;
-					} else if (neighborVertex.cost > newCost) {
-						neighborVertex.label = vertex;
-						neighborVertex.cost = newCost;
+				Label neighbor = getLabel(neighborVertex);
+				if (!neighbor.isPermanent) {
+					newCost = current.cost + vertex.getDistance(neighborVertex);
+					if (neighbor.label == null) {
+						neighbor.label = vertex;
+						neighbor.cost = newCost;
+					} else if (neighbor.cost > newCost) {
+						neighbor.label = vertex;
+						neighbor.cost = newCost;
 					}
 				}
 			}
@@ -661,14 +722,15 @@ public class Path {
 			Iterator v = visibleVertices.iterator();
 			while (v.hasNext()) {
 				tempVertex = (Vertex) v.next();
-				if (!tempVertex.isPermanent && tempVertex.label != null
-						&& (tempVertex.cost < smallestCost || smallestCost == 0)) {
-					smallestCost = tempVertex.cost;
+				Label temp = getLabel(tempVertex);
+				if (!temp.isPermanent && temp.label != null && (temp.cost < smallestCost || smallestCost == 0)) {
+					smallestCost = temp.cost;
 					vertex = tempVertex;
+					current = temp;
 				}
 			}
 			// set the new vertex to permanent.
-			vertex.isPermanent = true;
+			current.isPermanent = true;
 			numPermanentNodes++;
 		}
 		return true;
@@ -680,14 +742,16 @@ public class Path {
 	 * @param segment the segment to add
 	 */
 	private void linkVertices(Segment segment) {
-		if (segment.start.neighbors == null)
-			segment.start.neighbors = new ArrayList();
-		if (segment.end.neighbors == null)
-			segment.end.neighbors = new ArrayList();
-
-		if (!segment.start.neighbors.contains(segment.end)) {
-			segment.start.neighbors.add(segment.end);
-			segment.end.neighbors.add(segment.start);
+		Label startLabel = getLabel(segment.start);
+		Label endLabel = getLabel(segment.end);
+		if (startLabel.neighbors == null)
+			startLabel.neighbors = new ArrayList();
+		if (endLabel.neighbors == null)
+			endLabel.neighbors = new ArrayList();
+
+		if (!startLabel.neighbors.contains(segment.end)) {
+			startLabel.neighbors.add(segment.end);
+			endLabel.neighbors.add(segment.start);
 		}
 
 		visibleVertices.add(segment.start);
@@ -772,6 +836,13 @@ public class Path {
 		points.removeAllPoints();
 	}
 
+	/**
+	 * Saves a copy of the current points, before they are recomputed by a solve.
+	 */
+	void savePoints() {
+		previousPoints = points.toIntArray().clone();
+	}
+
 	/**
 	 * Sets the list of bend points to the given list and dirties the path.
 	 * 
@@ -42,6 +42,10 @@ class PopulateRanks extends GraphVisitor {
 			g.removeNode(g.forestRoot);
 		}
 		g.ranks = new RankList();
+		// Discard the virtual nodes of a previous layout
+		for (Edge e : g.edges) {
+			e.vNodes = null;
+		}
 		for (Node node : g.nodes) {
 			g.ranks.getRank(node.rank).add(node);
 		}
@@ -77,6 +81,7 @@ class PopulateRanks extends GraphVisitor {
 			}
 		}
 		changes.forEach(RevertableChange::revert);
+		changes.clear();
 	}
 
 }
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A copy of the orderings of the ranks of a graph, on which {@link MinCross}
+ * performs additional sweeps independently of the graph's nodes. The nodes are
+ * identified by their number, and only the edges between adjacent ranks are
+ * considered. The sweeps sort each rank by the median of its neighbors in the
+ * same way as {@link RankSorter}, using the given seed for shuffling the
+ * initial orderings and breaking ties.
+ *
+ * @since 3.15
+ */
+class RankOrdering {
+
+	private final Node[] nodes;
+	private final int[][] up;
+	private final int[][] down;
+	private final int[] rowOrder;
+	private final int[] magnitude;
+	private final int[][] ranks;
+	private final int[] index;
+	private final int[] total;
+	private double[] sortValues;
+	private int[] buffer;
+	private Random random;
+
+	long crossings = -1;
+
+	/**
+	 * Copies the current orderings of the given graph's ranks.
+	 */
+	RankOrdering(DirectedGraph g) {
+		Map<Node, Integer> ids = new HashMap<>();
+		int count = 0;
+		ranks = new int[g.ranks.size()][];
+		for (int r = 0; r < ranks.length; r++)
+			count += g.ranks.getRank(r).size();
+		nodes = new Node[count];
+		int[] rankOf = new int[count];
+		count = 0;
+		for (int r = 0; r < ranks.length; r++) {
+			Rank rank = g.ranks.getRank(r);
+			ranks[r] = new int[rank.size()];
+			for (int i = 0; i < rank.size(); i++) {
+				nodes[count] = rank.get(i);
+				rankOf[count] = r;
+				ids.put(nodes[count], Integer.valueOf(count));
+				ranks[r][i] = count++;
+			}
+		}
+
+		up = new int[count][];
+		down = new int[count][];
+		rowOrder = new int[count];
+		magnitude = new int[count];
+		for (int id = 0; id < count; id++) {
+			Node node = nodes[id];
+			up[id] = getNeighbors(node.incoming, ids, rankOf, rankOf[id] - 1, true);
+			down[id] = getNeighbors(node.outgoing, ids, rankOf, rankOf[id] + 1, false);
+			rowOrder[id] = node.rowOrder;
+			if (node instanceof SubgraphBoundary)
+				magnitude[id] = 4;
+			else
+				magnitude[id] = Math.min(5, Math.max(1, node.incoming.size() + node.outgoing.size()));
+		}
+		index = new int[count];
+		total = new int[ranks.length];
+	}
+
+	/**
+	 * Creates a copy of the given ordering which can be solved independently.
+	 */
+	RankOrdering(RankOrdering ordering) {
+		nodes = ordering.nodes;
+		up = ordering.up;
+		down = ordering.down;
+		rowOrder = ordering.rowOrder;
+		magnitude = ordering.magnitude;
+		ranks = new int[ordering.ranks.length][];
+		for (int r = 0; r < ranks.length; r++)
+			ranks[r] = ordering.ranks[r].clone();
+		index = new int[nodes.length];
+		total = new int[ranks.length];
+	}
+
+	private static int[] getNeighbors(EdgeList edges, Map<Node, Integer> ids, int[] rankOf, int rank, boolean source) {
+		int[] neighbors = new int[edges.size()];
+		int count = 0;
+		for (Edge edge : edges) {
+			Integer id = ids.get(source ? edge.source : edge.target);
+			if (id != null && rankOf[id.intValue()] == rank)
+				neighbors[count++] = id.intValue();
+		}
+		return count == neighbors.length ? neighbors : Arrays.copyOf(neighbors, count);
+	}
+
+	/**
+	 * Applies this ordering to the ranks of the given graph, which must be the
+	 * graph it was copied from.
+	 */
+	void apply(DirectedGraph g) {
+		for (int r = 0; r < ranks.length; r++) {
+			Rank rank = g.ranks.getRank(r);
+			for (int i = 0; i < ranks[r].length; i++)
+				rank.set(i, nodes[ranks[r][i]]);
+			rank.assignIndices();
+		}
+		// The rank sorter leaves the edges sorted by the index of the opposite node
+		for (Node node : nodes) {
+			node.incoming.sort((left, right) -> left.source.index - right.source.index);
+			node.outgoing.sort((left, right) -> left.target.index - right.target.index);
+		}
+	}
+
+	private void assignIndices(int r) {
+		int sum = 0;
+		for (int node : ranks[r]) {
+			sum += magnitude[node];
+			index[node] = sum;
+			sum += magnitude[node];
+		}
+		total[r] = sum;
+	}
+
+	/**
+	 * Returns the number of crossings between all adjacent ranks, which is also
+	 * stored in {@link #crossings}.
+	 */
+	long countCrossings() {
+		int[] position = new int[nodes.length];
+		for (int[] rank : ranks)
+			for (int i = 0; i < rank.length; i++)
+				position[rank[i]] = i;
+		CrossingCounter counter = new CrossingCounter();
+		crossings = 0;
+		for (int r = 0; r < ranks.length - 1; r++)
+			crossings += counter.count(ranks[r], down, position, ranks[r + 1].length);
+		return crossings;
+	}
+
+	private double evaluate(int[] neighbors, int node, double defaultScale, double progress) {
+		int n = neighbors.length;
+		if (n == 0)
+			return index[node] * defaultScale;
+		for (int i = 0; i < n; i++)
+			buffer[i] = index[neighbors[i]];
+		Arrays.sort(buffer, 0, n);
+		if (n % 2 == 1)
+			return buffer[n / 2];
+
+		int l = buffer[n / 2 - 1];
+		int r = buffer[n / 2];
+		if (progress >= 0.8 && n > 2) {
+			int dl = l - buffer[0];
+			int dr = buffer[n - 1] - r;
+			if (dl < dr)
+				return l;
+			if (dl > dr)
+				return r;
+		}
+		if (progress > 0.25 && progress < 0.75) {
+			if (random.nextBoolean())
+				return (l + l + r) / 3.0;
+			return (r + r + l) / 3.0;
+		}
+		return (l + r) / 2.0;
+	}
+
+	private void shuffle(int[] rank) {
+		for (int i = rank.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int node = rank[i];
+			rank[i] = rank[j];
+			rank[j] = node;
+		}
+		// Restore the order of the constrained nodes
+		for (int i = 1; i < rank.length; i++) {
+			int node = rank[i];
+			int j = i;
+			for (; j > 0 && rowOrder[rank[j - 1]] > rowOrder[node]; j--)
+				rank[j] = rank[j - 1];
+			rank[j] = node;
+		}
+	}
+
+	/**
+	 * Sweeps up and down the ranks as {@link MinCross#solve()} does, starting with
+	 * shuffled orderings, until the given condition indicates that the sweeps
+	 * should stop early.
+	 */
+	void solve(long seed, BooleanSupplier stop) {
+		random = new Random(seed);
+		sortValues = new double[nodes.length];
+		int maxDegree = 0;
+		for (int node = 0; node < nodes.length; node++)
+			maxDegree = Math.max(maxDegree, Math.max(up[node].length, down[node].length));
+		buffer = new int[maxDegree];
+
+		for (int r = 0; r < ranks.length; r++) {
+			shuffle(ranks[r]);
+			assignIndices(r);
+		}
+		for (int loop = 0; loop < MinCross.MAX; loop++) {
+			if (loop > 0 && stop.getAsBoolean())
+				break;
+			double progress = (double) loop / MinCross.MAX;
+			for (int r = 1; r < ranks.length; r++)
+				sortRank(r, up, down, r - 1, r + 1, progress);
+			if (loop == MinCross.MAX - 1)
+				continue;
+			for (int r = ranks.length - 2; r >= 0; r--)
+				sortRank(r, down, up, r + 1, r - 1, progress);
+		}
+		sortValues = null;
+		buffer = null;
+		random = null;
+	}
+
+	private void sortRank(int r, int[][] primary, int[][] secondary, int previous, int next, double progress) {
+		double rankSize = total[r];
+		double previousScale = total[previous] / rankSize;
+		double nextScale = next >= 0 && next < ranks.length ? total[next] / rankSize : 1;
+		int[] rank = ranks[r];
+		for (int node : rank)
+			sortValues[node] = evaluate(primary[node], node, previousScale, progress)
+					+ evaluate(secondary[node], node, nextScale, progress) * progress;
+
+		boolean change;
+		do {
+			change = false;
+			for (int i = 0; i < rank.length - 1; i++)
+				change |= swap(rank, i);
+			if (!change)
+				break;
+			change = false;
+			for (int i = rank.length - 2; i >= 0; i--)
+				change |= swap(rank, i);
+		} while (change);
+		assignIndices(r);
+	}
+
+	private boolean swap(int[] rank, int i) {
+		int left = rank[i];
+		int right = rank[i + 1];
+		if (rowOrder[left] != -1 && rowOrder[right] != -1 && rowOrder[left] != rowOrder[right])
+			return false;
+		if (sortValues[left] <= sortValues[right])
+			return false;
+		rank[i] = right;
+		rank[i + 1] = left;
+		return true;
+	}
+
+}
@@ -16,6 +16,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.geometry.Point;
@@ -58,6 +60,34 @@ public class ShortestPathRouter {
 		}
 	}
 
+	/**
+	 * Searches the shortest paths of a range of dirty paths, splitting the range
+	 * until a single path remains.
+	 */
+	private class SearchTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<Path> paths;
+		private final int from, to;
+
+		SearchTask(List<Path> paths, int from, int to) {
+			this.paths = paths;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				searchShortestPath(paths.get(from));
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new SearchTask(paths, from, middle), new SearchTask(paths, middle, to));
+		}
+	}
+
 	/**
 	 * The number of times to grow obstacles and test for intersections. This is a
 	 * tradeoff between performance and quality of output.
@@ -65,9 +95,11 @@ public class ShortestPathRouter {
 	private static final int NUM_GROW_PASSES = 2;
 
 	private int spacing = 4;
+	private List<Path> changedPaths = Collections.emptyList();
 	private boolean growPassChangedObstacles;
 	private List orderedPaths;
 	private Map pathsToChildPaths;
+	private ForkJoinPool pool;
 
 	private PathStack stack;
 	private List subPaths;
@@ -259,6 +291,32 @@ public class ShortestPathRouter {
 	 * workingPaths.add(path); } //End FOR }
 	 */
 
+	/**
+	 * Returns the paths whose points have been changed by the last invocation of
+	 * {@link #solve()}. Paths which were not affected by the changes made since the
+	 * previous solve keep their points and are not part of this list, so clients
+	 * only need to apply the points of these paths.
+	 * 
+	 * @return the paths changed by the last solve
+	 * @since 3.15
+	 */
+	public List<Path> getChangedPaths() {
+		return changedPaths;
+	}
+
+	/**
+	 * Returns the pool used to search the shortest paths of dirty paths
+	 * concurrently, or <code>null</code> if they are searched on the calling
+	 * thread.
+	 * 
+	 * @return the pool or <code>null</code>
+	 * @see #setForkJoinPool(ForkJoinPool)
+	 * @since 3.15
+	 */
+	public ForkJoinPool getForkJoinPool() {
+		return pool;
+	}
+
 	/**
 	 * Returns the closest vertex to the given segment.
 	 * 
@@ -634,6 +692,38 @@ public class ShortestPathRouter {
 		}
 	}
 
+	/**
+	 * Searches the shortest path of the given dirty path. If no path is found
+	 * within the path's threshold, the search is repeated without a threshold. The
+	 * search only modifies the given path, so that several paths can be searched
+	 * concurrently.
+	 * 
+	 * @param path the path
+	 */
+	private void searchShortestPath(Path path) {
+		boolean pathFoundCheck = path.generateShortestPath(userObstacles);
+		if (!pathFoundCheck || path.getCost() > path.threshold) {
+			// path not found, or path found was too long
+			path.fullReset();
+			path.threshold = 0;
+			path.generateShortestPath(userObstacles);
+		}
+	}
+
+	/**
+	 * Sets the pool used to search the shortest paths of several dirty paths
+	 * concurrently. The remaining passes of {@link #solve()} always run on the
+	 * calling thread, and the solution does not depend on whether a pool is used.
+	 * The default value is <code>null</code>, which searches all paths on the
+	 * calling thread.
+	 * 
+	 * @param pool the pool, or <code>null</code>
+	 * @since 3.15
+	 */
+	public void setForkJoinPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
 	/**
 	 * Sets the default spacing between paths. The spacing is the minimum distance
 	 * that path should be offset from other paths or obstacles. The default value
@@ -654,6 +744,8 @@ public class ShortestPathRouter {
 	 * @return returns the list of paths which were updated.
 	 */
 	public List solve() {
+		for (int i = 0; i < userPaths.size(); i++)
+			((Path) userPaths.get(i)).savePoints();
 
 		solveDirtyPaths();
 
@@ -677,6 +769,14 @@ public class ShortestPathRouter {
 		recombineChildrenPaths();
 		cleanup();
 
+		changedPaths = new ArrayList<>();
+		for (int i = 0; i < userPaths.size(); i++) {
+			Path path = (Path) userPaths.get(i);
+			if (path.hasChangedPoints())
+				changedPaths.add(path);
+		}
+		changedPaths = Collections.unmodifiableList(changedPaths);
+
 		return Collections.unmodifiableList(userPaths);
 	}
 
@@ -686,8 +786,6 @@ public class ShortestPathRouter {
 	 * @return number of dirty paths
 	 */
 	private int solveDirtyPaths() {
-		int numSolved = 0;
-
 		for (int i = 0; i < userPaths.size(); i++) {
 			Path path = (Path) userPaths.get(i);
 			if (!path.isDirty)
@@ -707,6 +805,7 @@ public class ShortestPathRouter {
 			refreshChildrenEndpoints(path, children);
 		}
 
+		List<Path> dirtyPaths = new ArrayList<>();
 		for (int i = 0; i < workingPaths.size(); i++) {
 			Path path = (Path) workingPaths.get(i);
 			path.refreshExcludedObstacles(userObstacles);
@@ -714,28 +813,20 @@ public class ShortestPathRouter {
 				path.resetPartial();
 				continue;
 			}
-
-			numSolved++;
 			path.fullReset();
-
-			boolean pathFoundCheck = path.generateShortestPath(userObstacles);
-			if (!pathFoundCheck || path.end.cost > path.threshold) {
-				// path not found, or path found was too long
-				resetVertices();
-				path.fullReset();
-				path.threshold = 0;
-				pathFoundCheck = path.generateShortestPath(userObstacles);
-			}
-
-			resetVertices();
+			dirtyPaths.add(path);
 		}
 
-		resetObstacleExclusions();
+		if (pool != null && dirtyPaths.size() > 1)
+			pool.invoke(new SearchTask(dirtyPaths, 0, dirtyPaths.size()));
+		else
+			for (int i = 0; i < dirtyPaths.size(); i++)
+				searchShortestPath(dirtyPaths.get(i));
 
-		if (numSolved == 0)
-			resetVertices();
+		resetObstacleExclusions();
+		resetVertices();
 
-		return numSolved;
+		return dirtyPaths.size();
 	}
 
 	/**
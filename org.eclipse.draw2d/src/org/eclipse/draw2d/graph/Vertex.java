@@ -36,12 +36,6 @@ class Vertex extends Point {
 	static final int INNIE = 1;
 	static final int OUTIE = 2;
 
-	// for shortest path
-	List neighbors;
-	boolean isPermanent = false;
-	Vertex label;
-	double cost = 0;
-
 	// for routing
 	int nearestObstacle = 0;
 	double offset = 0;
@@ -125,14 +119,9 @@ class Vertex extends Point {
 		totalCount = 0;
 		type = NOT_SET;
 		count = 0;
-		cost = 0;
 		offset = getSpacing();
 		nearestObstacle = 0;
-		label = null;
 		nearestObstacleChecked = false;
-		isPermanent = false;
-		if (neighbors != null)
-			neighbors.clear();
 		if (cachedCosines != null)
 			cachedCosines.clear();
 		if (paths != null)
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Contributors to the Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.draw2d.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A uniform grid which maps rectangular areas to the items occupying them.
+ * Items are compared by identity. Each item is registered in every cell its
+ * bounds overlap; items spanning too many cells are kept in a separate list
+ * which is consulted by every query.
+ * <P>
+ * Queries only return items whose bounds contain the given point or intersect
+ * the given rectangle. The order of the returned items is unspecified.
+ */
+public class SpatialGrid<T> {
+
+	/**
+	 * Items covering more cells than this are not registered in the cells.
+	 */
+	private static final int MAX_CELLS_PER_ITEM = 64;
+
+	private final int cellSize;
+	private final Map<Long, List<T>> cells = new HashMap<>();
+	private final Map<T, Rectangle> bounds = new IdentityHashMap<>();
+	private final List<T> oversized = new ArrayList<>();
+
+	/**
+	 * Creates a new grid with square cells of the given size.
+	 * 
+	 * @param cellSize the width and height of a cell, greater than zero
+	 */
+	public SpatialGrid(int cellSize) {
+		if (cellSize <= 0)
+			throw new IllegalArgumentException();
+		this.cellSize = cellSize;
+	}
+
+	private static long cellKey(int col, int row) {
+		return ((long) col << 32) | (row & 0xFFFFFFFFL);
+	}
+
+	private int cellIndex(int coordinate) {
+		return Math.floorDiv(coordinate, cellSize);
+	}
+
+	/**
+	 * Removes all items.
+	 */
+	public void clear() {
+		cells.clear();
+		bounds.clear();
+		oversized.clear();
+	}
+
+	/**
+	 * Returns whether the given item is registered.
+	 * 
+	 * @param item the item
+	 * @return <code>true</code> if the item is contained in this grid
+	 */
+	public boolean contains(T item) {
+		return bounds.containsKey(item);
+	}
+
+	/**
+	 * Returns the bounds with which the given item is registered.
+	 * 
+	 * @param item the item
+	 * @return the bounds of the item, or <code>null</code>
+	 */
+	public Rectangle getBounds(T item) {
+		return bounds.get(item);
+	}
+
+	private boolean isOversized(Rectangle r) {
+		long cols = (long) cellIndex(r.x + Math.max(r.width - 1, 0)) - cellIndex(r.x) + 1;
+		long rows = (long) cellIndex(r.y + Math.max(r.height - 1, 0)) - cellIndex(r.y) + 1;
+		return cols * rows > MAX_CELLS_PER_ITEM;
+	}
+
+	/**
+	 * Registers the item with the given bounds. If the item is already registered,
+	 * its bounds are updated.
+	 * 
+	 * @param item the item
+	 * @param r    the bounds of the item, which are copied
+	 */
+	public void put(T item, Rectangle r) {
+		Rectangle old = bounds.get(item);
+		if (old != null) {
+			if (old.equals(r))
+				return;
+			remove(item);
+		}
+		Rectangle copy = new Rectangle(r);
+		bounds.put(item, copy);
+		if (isOversized(copy)) {
+			oversized.add(item);
+			return;
+		}
+		int right = cellIndex(copy.x + Math.max(copy.width - 1, 0));
+		int bottom = cellIndex(copy.y + Math.max(copy.height - 1, 0));
+		for (int col = cellIndex(copy.x); col <= right; col++)
+			for (int row = cellIndex(copy.y); row <= bottom; row++)
+				cells.computeIfAbsent(Long.valueOf(cellKey(col, row)), k -> new ArrayList<>(4)).add(item);
+	}
+
+	/**
+	 * Adds all items whose bounds contain the given point to the result.
+	 * 
+	 * @param x      the x coordinate
+	 * @param y      the y coordinate
+	 * @param result the collection to which the items are added
+	 */
+	public void query(int x, int y, Collection<T> result) {
+		List<T> cell = cells.get(Long.valueOf(cellKey(cellIndex(x), cellIndex(y))));
+		if (cell != null)
+			for (T item : cell)
+				if (bounds.get(item).contains(x, y))
+					result.add(item);
+		for (T item : oversized)
+			if (bounds.get(item).contains(x, y))
+				result.add(item);
+	}
+
+	/**
+	 * Adds all items whose bounds intersect the given rectangle to the result.
+	 * Every item is added at most once.
+	 * 
+	 * @param r      the rectangle
+	 * @param result the collection to which the items are added
+	 */
+	public void query(Rectangle r, Collection<T> result) {
+		if (r.isEmpty())
+			return;
+		Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+		int right = cellIndex(r.right() - 1);
+		int bottom = cellIndex(r.bottom() - 1);
+		long cellCount = ((long) right - cellIndex(r.x) + 1) * ((long) bottom - cellIndex(r.y) + 1);
+		if (cellCount > cells.size()) {
+			// Cheaper to visit the occupied cells than the ones covered by r
+			for (List<T> cell : cells.values())
+				collect(cell, r, found, result);
+		} else {
+			for (int col = cellIndex(r.x); col <= right; col++)
+				for (int row = cellIndex(r.y); row <= bottom; row++) {
+					List<T> cell = cells.get(Long.valueOf(cellKey(col, row)));
+					if (cell != null)
+						collect(cell, r, found, result);
+				}
+		}
+		collect(oversized, r, found, result);
+	}
+
+	private void collect(List<T> items, Rectangle r, Set<T> found, Collection<T> result) {
+		for (T item : items)
+			if (bounds.get(item).intersects(r) && found.add(item))
+				result.add(item);
+	}
+
+	/**
+	 * Removes the given item.
+	 * 
+	 * @param item the item
+	 */
+	public void remove(T item) {
+		Rectangle r = bounds.remove(item);
+		if (r == null)
+			return;
+		if (oversized.remove(item))
+			return;
+		int right = cellIndex(r.x + Math.max(r.width - 1, 0));
+		int bottom = cellIndex(r.y + Math.max(r.height - 1, 0));
+		for (int col = cellIndex(r.x); col <= right; col++)
+			for (int row = cellIndex(r.y); row <= bottom; row++) {
+				Long key = Long.valueOf(cellKey(col, row));
+				List<T> cell = cells.get(key);
+				if (cell != null) {
+					for (int i = cell.size() - 1; i >= 0; i--)
+						if (cell.get(i) == item) {
+							cell.remove(i);
+							break;
+						}
+					if (cell.isEmpty())
+						cells.remove(key);
+				}
+			}
+	}
+
+	/**
+	 * Returns the number of registered items.
+	 * 
+	 * @return the number of items
+	 */
+	public int size() {
+		return bounds.size();
+	}
+
+}
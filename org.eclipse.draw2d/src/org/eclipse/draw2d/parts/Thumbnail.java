@@ -18,9 +18,11 @@ import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 
+import org.eclipse.draw2d.DisplayList;
 import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.RecordingGraphics;
 import org.eclipse.draw2d.SWTGraphics;
 import org.eclipse.draw2d.UpdateListener;
 import org.eclipse.draw2d.geometry.Dimension;
@@ -44,7 +46,12 @@ public class Thumbnail extends Figure implements UpdateListener {
 
 	/**
 	 * This updates the Thumbnail by breaking the thumbnail {@link Image} into
-	 * several tiles and updating each tile individually.
+	 * several tiles and updating each tile individually. Only the tiles which have
+	 * been invalidated since they were last updated are painted again. If the
+	 * {@link Thumbnail#setDisplayListEnabled(boolean) display list} is enabled,
+	 * the source figure is painted once into a {@link DisplayList} covering all
+	 * dirty tiles, which is then played for each tile. The display list is
+	 * discarded when further tiles are invalidated or the updater stops.
 	 */
 	class ThumbnailUpdater implements Runnable {
 		private static final int MIN_TILE_SIZE = 256;
@@ -54,6 +61,10 @@ public class Thumbnail extends Figure implements UpdateListener {
 		private Dimension tileSize;
 		private Dimension sourceSize; // the source size that was used for the
 										// tileSize computation
+		private Rectangle sourceBounds;
+		private boolean[] dirtyTiles;
+		private int dirtyTileCount;
+		private Rectangle updatedArea;
 		private boolean isActive = true;
 
 		private boolean isRunning = false;
@@ -64,6 +75,16 @@ public class Thumbnail extends Figure implements UpdateListener {
 		private SWTGraphics tileGraphics;
 		// GC used to copy from the tile image into the thumbnail image
 		private GC thumbnailGC;
+		// The paint commands of the source figure for the dirty tiles
+		private DisplayList displayList;
+
+		/** Disposes of the recorded paint commands of the source figure. */
+		private void disposeDisplayList() {
+			if (displayList != null) {
+				displayList.dispose();
+				displayList = null;
+			}
+		}
 
 		/** Stops the updater and disposes of any resources. */
 		public void deactivate() {
@@ -94,6 +115,75 @@ public class Thumbnail extends Figure implements UpdateListener {
 			return currentVTile;
 		}
 
+		/**
+		 * Returns <code>true</code> if any tile needs to be updated.
+		 *
+		 * @return <code>true</code> if there are dirty tiles
+		 * @since 3.15
+		 */
+		public boolean hasDirtyTiles() {
+			return dirtyTileCount > 0;
+		}
+
+		/**
+		 * Marks all tiles which are visible in the thumbnail {@link Image} as dirty.
+		 *
+		 * @since 3.15
+		 */
+		public void invalidateTiles() {
+			invalidateTiles(new Rectangle(0, 0, targetSize.width, targetSize.height));
+		}
+
+		/**
+		 * Marks the tiles intersecting the given area as dirty.
+		 *
+		 * @param area the area in the coordinates of the thumbnail {@link Image}
+		 */
+		private void invalidateTiles(Rectangle area) {
+			if (dirtyTiles == null || tileSize.isEmpty())
+				return;
+			area = area.getIntersection(new Rectangle(0, 0, targetSize.width, targetSize.height));
+			if (area.isEmpty())
+				return;
+			// The source figure has changed since it was recorded
+			disposeDisplayList();
+			int h1 = area.x / tileSize.width;
+			int h2 = Math.min((area.right() - 1) / tileSize.width, hTiles - 1);
+			int v1 = area.y / tileSize.height;
+			int v2 = Math.min((area.bottom() - 1) / tileSize.height, vTiles - 1);
+			for (int v = v1; v <= v2; v++) {
+				for (int h = h1; h <= h2; h++) {
+					if (!dirtyTiles[v * hTiles + h]) {
+						dirtyTiles[v * hTiles + h] = true;
+						dirtyTileCount++;
+					}
+				}
+			}
+		}
+
+		/**
+		 * Marks the tiles showing the given region of the source figure as dirty.
+		 *
+		 * @param region the region relative to the source figure, in the coordinates
+		 *               of {@link #getSourceRectangle()}
+		 * @since 3.15
+		 */
+		public void invalidateSourceRegion(Rectangle region) {
+			if (sourceBounds == null)
+				return;
+			if (!sourceBounds.equals(getSourceRectangle())) {
+				// The tiles have to be recomputed
+				setDirty(true);
+				return;
+			}
+			int x1 = (int) Math.floor((region.x - sourceBounds.x) * getScaleX());
+			int y1 = (int) Math.floor((region.y - sourceBounds.y) * getScaleY());
+			int x2 = (int) Math.ceil((region.right() - sourceBounds.x) * getScaleX());
+			int y2 = (int) Math.ceil((region.bottom() - sourceBounds.y) * getScaleY());
+			// Account for antialiasing when scaling down
+			invalidateTiles(new Rectangle(x1 - 1, y1 - 1, x2 - x1 + 2, y2 - y1 + 2));
+		}
+
 		/**
 		 * Returns <code>true</code> if this ThumbnailUpdater is active. An inactive
 		 * updater has disposed of its {@link Image}. The updater may be active and not
@@ -115,13 +205,35 @@ public class Thumbnail extends Figure implements UpdateListener {
 			return isRunning;
 		}
 
+		/**
+		 * Advances the current tile indices to the next dirty tile, continuing with the
+		 * first tile after the last one.
+		 *
+		 * @return <code>false</code> if there is no dirty tile
+		 */
+		private boolean nextDirtyTile() {
+			if (!hasDirtyTiles())
+				return false;
+			int count = hTiles * vTiles;
+			int index = getCurrentVTile() * hTiles + getCurrentHTile();
+			while (!dirtyTiles[index])
+				index = (index + 1) % count;
+			setCurrentHTile(index % hTiles);
+			setCurrentVTile(index / hTiles);
+			return true;
+		}
+
 		/**
 		 * Resets the number of vertical and horizontal tiles, as well as the tile size
-		 * and current tile index.
+		 * and current tile index. If the source rectangle has changed, all tiles are
+		 * marked as dirty.
 		 */
 		public void resetTileValues() {
 			// Keep track of source size that matches the computed tile size.
-			sourceSize = getSourceRectangle().getSize();
+			Rectangle sourceRectangle = getSourceRectangle();
+			boolean changed = !sourceRectangle.equals(sourceBounds);
+			sourceBounds = sourceRectangle.getCopy();
+			sourceSize = sourceRectangle.getSize();
 
 			// Compute number of horizontal and vertical tiles and the size of
 			// each tile (while the last tile in horizontal and vertical
@@ -138,6 +250,43 @@ public class Thumbnail extends Figure implements UpdateListener {
 			// the first tile in horizontal and vertical direction
 			currentHTile = 0;
 			currentVTile = 0;
+
+			if (changed || dirtyTiles == null || dirtyTiles.length != hTiles * vTiles) {
+				dirtyTiles = new boolean[hTiles * vTiles];
+				dirtyTileCount = 0;
+				invalidateTiles();
+			}
+		}
+
+		/**
+		 * Paints the source figure into a new {@link DisplayList}, recording only the
+		 * area shown by the dirty tiles.
+		 */
+		private void recordDisplayList() {
+			Rectangle dirtyArea = null;
+			for (int v = 0; v < vTiles; v++) {
+				for (int h = 0; h < hTiles; h++) {
+					if (dirtyTiles[v * hTiles + h]) {
+						Rectangle tile = new Rectangle(h * tileSize.width, v * tileSize.height, tileSize.width,
+								tileSize.height);
+						dirtyArea = dirtyArea == null ? tile : dirtyArea.union(tile);
+					}
+				}
+			}
+			org.eclipse.draw2d.geometry.Point p = getSourceRectangle().getLocation();
+			int x1 = p.x + (int) Math.floor(dirtyArea.x / getScaleX());
+			int y1 = p.y + (int) Math.floor(dirtyArea.y / getScaleY());
+			int x2 = p.x + (int) Math.ceil(dirtyArea.right() / getScaleX());
+			int y2 = p.y + (int) Math.ceil(dirtyArea.bottom() / getScaleY());
+			Rectangle clip = new Rectangle(x1, y1, x2 - x1, y2 - y1).expand(1, 1);
+
+			RecordingGraphics recorder = new RecordingGraphics(clip, getScaleX());
+			recorder.setForegroundColor(tileGraphics.getForegroundColor());
+			recorder.setBackgroundColor(tileGraphics.getBackgroundColor());
+			recorder.setFont(tileGraphics.getFont());
+			sourceFigure.paint(recorder);
+			recorder.dispose();
+			displayList = recorder.getDisplayList();
 		}
 
 		/** Restarts the updater. */
@@ -147,14 +296,15 @@ public class Thumbnail extends Figure implements UpdateListener {
 		}
 
 		/**
-		 * Updates the current tile on the Thumbnail. An area of the source Figure is
+		 * Updates the dirty tiles on the Thumbnail. An area of the source Figure is
 		 * painted to an {@link Image}. That Image is then drawn on the Thumbnail.
 		 * Scaling of the source Image is done inside
 		 * {@link GC#drawImage(Image, int, int, int, int, int, int, int, int)} since the
-		 * source and target sizes are different. The current tile indexes are
-		 * incremented and if more updating is necesary, this {@link Runnable} is called
-		 * again in a {@link Display#timerExec(int, Runnable)}. If no more updating is
-		 * required, {@link #stop()} is called.
+		 * source and target sizes are different. Tiles are updated until the
+		 * {@link Thumbnail#getTimeBudget() time budget} is used up, but at least one
+		 * tile is updated. If more updating is necessary, this {@link Runnable} is
+		 * called again in a {@link Display#asyncExec(Runnable)}. If no more updating
+		 * is required, {@link #stop()} is called.
 		 */
 		@Override
 		public void run() {
@@ -162,6 +312,43 @@ public class Thumbnail extends Figure implements UpdateListener {
 				return;
 			}
 
+			long deadline = System.nanoTime() + getTimeBudget() * 1000000L;
+			do {
+				if (!nextDirtyTile()) {
+					break;
+				}
+				Rectangle tile = updateTile();
+				if (updatedArea == null) {
+					updatedArea = tile;
+				} else {
+					updatedArea.union(tile);
+				}
+			} while (System.nanoTime() < deadline);
+
+			if (isDirty()) {
+				repaintUpdatedArea();
+				restart();
+			} else if (hasDirtyTiles()) {
+				Display.getCurrent().asyncExec(this);
+			} else {
+				stop();
+				repaintUpdatedArea();
+			}
+		}
+
+		private void repaintUpdatedArea() {
+			if (updatedArea != null) {
+				repaint(updatedArea.translate(getClientArea().getLocation()));
+				updatedArea = null;
+			}
+		}
+
+		/**
+		 * Paints the current tile and advances the tile indices.
+		 *
+		 * @return the area of the tile in the thumbnail {@link Image}
+		 */
+		private Rectangle updateTile() {
 			int v = getCurrentVTile();
 			int sy1 = v * tileSize.height;
 			int sy2 = Math.min((v + 1) * tileSize.height, sourceSize.height);
@@ -170,6 +357,12 @@ public class Thumbnail extends Figure implements UpdateListener {
 			int sx1 = h * tileSize.width;
 			int sx2 = Math.min((h + 1) * tileSize.width, sourceSize.width);
 
+			if (isDisplayListEnabled() && displayList == null) {
+				recordDisplayList();
+			}
+			dirtyTiles[v * hTiles + h] = false;
+			dirtyTileCount--;
+
 			// Mac fix - create new Tile Graphics instances
 			if (isMac) {
 				createTileGraphics();
@@ -190,7 +383,11 @@ public class Thumbnail extends Figure implements UpdateListener {
 			org.eclipse.draw2d.geometry.Point p = getSourceRectangle().getLocation();
 			tileGraphics.translate(-p.x * getScaleX() - sx1, -p.y * getScaleY() - sy1);
 			tileGraphics.scale(getScaleX());
-			sourceFigure.paint(tileGraphics);
+			if (displayList != null) {
+				displayList.play(tileGraphics);
+			} else {
+				sourceFigure.paint(tileGraphics);
+			}
 			tileGraphics.popState();
 
 			// Copy the painted tile image into the thumbnail image.
@@ -206,17 +403,7 @@ public class Thumbnail extends Figure implements UpdateListener {
 					setCurrentVTile(0);
 				}
 			}
-
-			if (getCurrentHTile() != 0 || getCurrentVTile() != 0) {
-				Display.getCurrent().asyncExec(this);
-			} else if (isDirty()) {
-				setDirty(false);
-				Display.getCurrent().asyncExec(this);
-				repaint();
-			} else {
-				stop();
-				repaint();
-			}
+			return rect.setLocation(sx1, sy1);
 		}
 
 		/**
@@ -257,18 +444,24 @@ public class Thumbnail extends Figure implements UpdateListener {
 			}
 
 			isRunning = true;
+			boolean refresh = isDirty();
 			setDirty(false);
 
 			resetTileValues();
 
 			if (!targetSize.equals(thumbnailImageSize)) {
 				resetThumbnailImage();
+				refresh = true;
 			}
 
 			if (targetSize.isEmpty()) {
 				return;
 			}
 
+			if (refresh) {
+				invalidateTiles();
+			}
+
 			thumbnailGC = new GC(thumbnailImage, SWT.NONE);
 
 			if (!tileSize.equals(tileImageSize)) {
@@ -342,6 +535,7 @@ public class Thumbnail extends Figure implements UpdateListener {
 		 */
 		public void stop() {
 			isRunning = false;
+			disposeDisplayList();
 			if (tileGraphics != null) {
 				tileGraphics.dispose();
 				tileGraphics = null;
@@ -365,6 +559,7 @@ public class Thumbnail extends Figure implements UpdateListener {
 		}
 	}
 
+	private boolean displayListEnabled;
 	private boolean isDirty;
 	private float scaleX;
 	private float scaleY;
@@ -374,6 +569,7 @@ public class Thumbnail extends Figure implements UpdateListener {
 	private Image thumbnailImage;
 
 	private Dimension thumbnailImageSize;
+	private int timeBudget;
 	private final ThumbnailUpdater updater = new ThumbnailUpdater();
 
 	/**
@@ -470,6 +666,45 @@ public class Thumbnail extends Figure implements UpdateListener {
 		return sourceFigure;
 	}
 
+	/**
+	 * Returns the bounds of a figure in the coordinates of the source figure's
+	 * bounds, clipped by the ancestors of the figure up to the source figure.
+	 *
+	 * @param figure the dirty figure
+	 * @return the bounds, or <code>null</code> if the figure is not contained in
+	 *         the source figure
+	 */
+	private Rectangle getSourceRegion(IFigure figure) {
+		Rectangle result = figure.getBounds().getCopy();
+		for (IFigure walker = figure; walker != getSource(); walker = walker.getParent()) {
+			IFigure parent = walker.getParent();
+			if (parent == null) {
+				return null;
+			}
+			parent.translateToParent(result);
+			result.intersect(parent.getBounds());
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the part of the source figure which is not clipped by its ancestors,
+	 * in the coordinates of the source figure's bounds.
+	 *
+	 * @return the visible part of the source figure
+	 */
+	private Rectangle getVisibleSourceRegion() {
+		Rectangle result = getSource().getBounds().getCopy();
+		IFigure walker = getSource().getParent();
+		while (!result.isEmpty() && walker != null) {
+			walker.translateToParent(result);
+			result.intersect(walker.getBounds());
+			walker = walker.getParent();
+		}
+		getSource().translateToRelative(result);
+		return result;
+	}
+
 	/**
 	 * Returns the rectangular region relative to the source figure which will be
 	 * the basis of the thumbnail. The value may be returned by reference and should
@@ -494,7 +729,7 @@ public class Thumbnail extends Figure implements UpdateListener {
 		targetSize.expand(new Dimension(getInsets().getWidth(), getInsets().getHeight()).negate());
 		setScales(targetSize.width / (float) getSourceRectangle().width,
 				targetSize.height / (float) getSourceRectangle().height);
-		if ((isDirty()) && !updater.isRunning()) {
+		if ((isDirty() || updater.hasDirtyTiles()) && !updater.isRunning()) {
 			updater.start();
 		} else if (oldSize != null && !targetSize.equals(oldSize)) {
 			revalidate();
@@ -504,6 +739,29 @@ public class Thumbnail extends Figure implements UpdateListener {
 		return thumbnailImage;
 	}
 
+	/**
+	 * Returns the time in milliseconds the thumbnail may spend updating tiles
+	 * before it yields to other work in the event loop.
+	 *
+	 * @return the time budget in milliseconds
+	 * @since 3.15
+	 */
+	public int getTimeBudget() {
+		return timeBudget;
+	}
+
+	/**
+	 * Returns whether the source figure is painted only once into a
+	 * {@link DisplayList} for all dirty tiles.
+	 *
+	 * @return <code>true</code> if a display list is used
+	 * @see #setDisplayListEnabled(boolean)
+	 * @since 3.15
+	 */
+	public boolean isDisplayListEnabled() {
+		return displayListEnabled;
+	}
+
 	/**
 	 * Returns <code>true</code> if the source figure has changed.
 	 *
@@ -514,19 +772,38 @@ public class Thumbnail extends Figure implements UpdateListener {
 	}
 
 	/**
+	 * Invalidates the tiles of the thumbnail which show the dirty regions of the
+	 * source figure and its descendants. The dirty regions are relative to the
+	 * root figure and clipped to the visible area, so the whole bounds are
+	 * invalidated for a figure which is not completely visible.
+	 *
 	 * @see org.eclipse.draw2d.UpdateListener#notifyPainting(Rectangle, Map)
 	 */
 	@Override
 	public void notifyPainting(Rectangle damage, Map<IFigure, Rectangle> dirtyRegions) {
-		for (IFigure current : dirtyRegions.keySet()) {
-			while (current != null) {
-				if (current == getSource()) {
-					setDirty(true);
-					repaint();
-					return;
-				}
-				current = current.getParent();
+		Rectangle visible = null;
+		boolean changed = false;
+		for (Map.Entry<IFigure, Rectangle> entry : dirtyRegions.entrySet()) {
+			Rectangle region = getSourceRegion(entry.getKey());
+			if (region == null || region.isEmpty()) {
+				continue;
+			}
+			if (visible == null) {
+				visible = getVisibleSourceRegion();
+			}
+			if (visible.contains(region)) {
+				Rectangle bounds = region;
+				region = entry.getValue().getCopy();
+				getSource().translateToRelative(region);
+				region.intersect(bounds);
 			}
+			if (!region.isEmpty()) {
+				updater.invalidateSourceRegion(region);
+				changed = true;
+			}
+		}
+		if (changed) {
+			repaint();
 		}
 	}
 
@@ -551,6 +828,22 @@ public class Thumbnail extends Figure implements UpdateListener {
 		graphics.drawImage(thumbnail, getClientArea().getLocation());
 	}
 
+	/**
+	 * Sets whether the source figure is painted only once into a
+	 * {@link DisplayList}, which is then played for every dirty tile, instead of
+	 * painting the source figure for every tile. The display list is kept until
+	 * all dirty tiles have been updated, which may take several event loop
+	 * slices, so the colors and patterns used by the source figure must remain
+	 * undisposed as long as they are in use. The default is <code>false</code>.
+	 *
+	 * @param enabled whether a display list is used
+	 * @since 3.15
+	 */
+	public void setDisplayListEnabled(boolean enabled) {
+		displayListEnabled = enabled;
+		updater.disposeDisplayList();
+	}
+
 	/**
 	 * Sets the dirty flag.
 	 *
@@ -572,6 +865,18 @@ public class Thumbnail extends Figure implements UpdateListener {
 		scaleY = y;
 	}
 
+	/**
+	 * Sets the time in milliseconds the thumbnail may spend updating tiles before
+	 * it yields to other work in the event loop. At least one tile is updated at a
+	 * time. The default is 0, which updates a single tile at a time.
+	 *
+	 * @param millis the time budget in milliseconds
+	 * @since 3.15
+	 */
+	public void setTimeBudget(int millis) {
+		timeBudget = millis;
+	}
+
 	/**
 	 * Sets the source Figure. Also sets the scales and creates the necessary update
 	 * manager.
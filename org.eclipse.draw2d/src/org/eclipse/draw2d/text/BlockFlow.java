@@ -186,6 +186,44 @@ public class BlockFlow extends FlowFigure {
 		return margin;
 	}
 
+	/**
+	 * Discards the fragments of the contents, which are laid out again the next
+	 * time this block is validated. The block keeps its size.
+	 */
+	void discardContents() {
+		BlockFlowLayout layout = (BlockFlowLayout) getLayoutManager();
+		if (layout.contentsDiscarded)
+			return;
+		discardFragments();
+		layout.blockContentsChanged();
+		layout.contentsDiscarded = true;
+	}
+
+	/**
+	 * Returns the height of this block as last laid out or estimated, or -1 if it
+	 * is not known for the width the block would be given now.
+	 */
+	int getKnownHeight() {
+		return ((BlockFlowLayout) getLayoutManager()).getKnownHeight();
+	}
+
+	/**
+	 * Gives this block the estimated height instead of laying it out. The block
+	 * is laid out the next time it is invalidated and validated.
+	 */
+	void setEstimatedHeight(int height) {
+		((BlockFlowLayout) getLayoutManager()).setEstimatedHeight(height);
+		setValid(true);
+	}
+
+	/**
+	 * Returns <code>true</code> if this block is valid and was laid out for the
+	 * width it would be given now.
+	 */
+	boolean isLayoutReusable() {
+		return isValid() && ((BlockFlowLayout) getLayoutManager()).isBlockReusable();
+	}
+
 	/**
 	 * @see org.eclipse.draw2d.Figure#paintBorder(org.eclipse.draw2d.Graphics)
 	 */
@@ -216,13 +254,28 @@ public class BlockFlow extends FlowFigure {
 	}
 
 	/**
+	 * Marks the contents of this block as changed. The enclosing blocks are only
+	 * invalidated, so that they move the blocks following this one instead of
+	 * reflowing all of their contents.
+	 * 
 	 * @see FlowFigure#revalidate()
 	 */
 	@Override
 	public void revalidate() {
 		BlockFlowLayout layout = (BlockFlowLayout) getLayoutManager();
 		layout.blockContentsChanged();
-		super.revalidate();
+		invalidateBlock();
+	}
+
+	void invalidateBlock() {
+		invalidate();
+		IFigure parent = getParent();
+		if (parent == null || isValidationRoot())
+			getUpdateManager().addInvalidFigure(this);
+		else if (parent instanceof BlockFlow block)
+			block.invalidateBlock();
+		else
+			parent.revalidate();
 	}
 
 	/**
@@ -14,7 +14,6 @@ import java.util.List;
 
 import org.eclipse.swt.SWT;
 
-import org.eclipse.draw2d.Figure;
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.geometry.Insets;
@@ -32,6 +31,7 @@ public class BlockFlowLayout extends FlowContainerLayout {
 
 	BlockBox blockBox;
 	boolean blockInvalid = false;
+	boolean contentsDiscarded;
 	private boolean continueOnSameLine = false;
 	private CompositeBox previousLine = null;
 
@@ -99,8 +99,10 @@ public class BlockFlowLayout extends FlowContainerLayout {
 	}
 
 	/**
-	 * Marks the blocks contents as changed. This means that children will be
-	 * invalidated during validation.
+	 * Marks the blocks contents as changed. This means that all children will be
+	 * invalidated during validation. Otherwise, only the inline children are laid
+	 * out again, while child blocks which are still valid keep their lines and are
+	 * merely moved to their new location.
 	 * 
 	 * @since 3.1
 	 */
@@ -131,19 +133,15 @@ public class BlockFlowLayout extends FlowContainerLayout {
 	 * the current line and then ends the line.
 	 */
 	protected void endBlock() {
-		if (blockInvalid) {
-			Insets insets = getBlockFlow().getInsets();
-			blockBox.height += insets.getHeight();
-			blockBox.width += insets.getWidth();
-		}
+		Insets insets = getBlockFlow().getInsets();
+		blockBox.height += insets.getHeight();
+		blockBox.width += insets.getWidth();
 
 		if (getContext() != null)
 			getContext().addLine(blockBox);
 
-		if (blockInvalid) {
-			blockInvalid = false;
-			getFlowFigure().getChildren().forEach(child -> ((FlowFigure) child).postValidate());
-		}
+		blockInvalid = false;
+		getFlowFigure().getChildren().forEach(child -> ((FlowFigure) child).postValidate());
 	}
 
 	/**
@@ -166,8 +164,12 @@ public class BlockFlowLayout extends FlowContainerLayout {
 		endBlock();
 	}
 
-	boolean forceChildInvalidation(Figure f) {
-		return blockInvalid;
+	/**
+	 * Returns <code>true</code> if the block was laid out for the width it would be
+	 * given now, in which case its lines may be reused as long as it is valid.
+	 */
+	boolean isBlockReusable() {
+		return !blockInvalid && blockBox != null && getRecommendedWidth() == blockBox.getRecommendedWidth();
 	}
 
 	/**
@@ -206,12 +208,74 @@ public class BlockFlowLayout extends FlowContainerLayout {
 				return;
 	}
 
+	/**
+	 * Lays out the children. Unless the contents of this block have changed, valid
+	 * child blocks are not laid out again. Their block boxes are only placed below
+	 * the previous line, which moves the blocks following a changed block without
+	 * reflowing them.
+	 * 
+	 * @see FlowContainerLayout#layoutChildren()
+	 */
+	@Override
+	protected void layoutChildren() {
+		getFlowFigure().getChildren().forEach(this::layoutChild);
+	}
+
+	void layoutChild(IFigure child) {
+		if (child instanceof BlockFlow block) {
+			if (blockInvalid) {
+				// Changes to this block, such as its font, may affect nested blocks
+				((BlockFlowLayout) block.getLayoutManager()).blockContentsChanged();
+			} else if (block.isLayoutReusable()) {
+				addLine(block.getBlockBox());
+				return;
+			}
+		}
+		child.invalidate();
+		child.validate();
+	}
+
+	/**
+	 * Returns the y coordinate below the last line added so far.
+	 */
+	int getNextLineTop() {
+		if (previousLine == null)
+			return 0;
+		return previousLine.getBaseline() + previousLine.getDescent();
+	}
+
+	/**
+	 * Returns the height of the block as last laid out or estimated, or -1 if it
+	 * is not known for the width the block would be given now.
+	 */
+	int getKnownHeight() {
+		BlockBox box = getBlockFlow().getBlockBox();
+		if (box.height > 0 && box.getRecommendedWidth() == getRecommendedWidth())
+			return box.height;
+		return -1;
+	}
+
+	/**
+	 * Sizes the block box to the given height without laying out the children.
+	 * The contents are marked as changed, so they are laid out the next time the
+	 * block is validated.
+	 */
+	void setEstimatedHeight(int height) {
+		int recommended = getRecommendedWidth();
+		BlockBox box = getBlockFlow().getBlockBox();
+		box.setRecommendedWidth(recommended);
+		box.setWidth(Math.max(0, recommended));
+		box.height = height;
+		blockInvalid = true;
+	}
+
 	/**
 	 * @see FlowContainerLayout#preLayout()
 	 */
 	@Override
 	protected void preLayout() {
 		setContinueOnSameLine(false);
+		contentsDiscarded = false;
 		blockBox = getBlockFlow().getBlockBox();
 		setupBlock();
 		// Probably could setup current and previous line here, or just previous
@@ -229,6 +293,17 @@ public class BlockFlowLayout extends FlowContainerLayout {
 	 * sets up the single block that contains all of the lines.
 	 */
 	protected void setupBlock() {
+		int recommended = getRecommendedWidth();
+		if (recommended != blockBox.recommendedWidth) {
+			blockInvalid = true;
+			blockBox.setRecommendedWidth(recommended);
+		}
+
+		blockBox.height = 0;
+		blockBox.setWidth(Math.max(0, recommended));
+	}
+
+	private int getRecommendedWidth() {
 		int recommended = getContextWidth();
 		if (recommended == Integer.MAX_VALUE)
 			recommended = -1;
@@ -237,16 +312,7 @@ public class BlockFlowLayout extends FlowContainerLayout {
 			int borderCorrection = bf.getInsets().getWidth() + bf.getLeftMargin() + bf.getRightMargin();
 			recommended = Math.max(0, recommended - borderCorrection);
 		}
-
-		if (recommended != blockBox.recommendedWidth) {
-			blockInvalid = true;
-			blockBox.setRecommendedWidth(recommended);
-		}
-
-		if (blockInvalid) {
-			blockBox.height = 0;
-			blockBox.setWidth(Math.max(0, recommended));
-		}
+		return recommended;
 	}
 
 }
\ No newline at end of file
@@ -97,6 +97,32 @@ public abstract class FlowFigure extends Figure {
 	 */
 	protected abstract FlowFigureLayout createDefaultFlowLayout();
 
+	/**
+	 * Lays out the paragraph containing this figure now if it is a paragraph of a
+	 * virtualized {@link FlowPage} which was not laid out or whose fragments were
+	 * discarded. This is called before the fragments are queried for offsets.
+	 */
+	void layoutIfVirtualized() {
+		IFigure paragraph = this;
+		IFigure parent = getParent();
+		while (parent instanceof FlowFigure && !(parent instanceof FlowPage)) {
+			paragraph = parent;
+			parent = parent.getParent();
+		}
+		if (parent instanceof FlowPage page && paragraph instanceof BlockFlow block)
+			page.layoutBlock(block);
+	}
+
+	/**
+	 * Discards the fragments of this figure and its children, for example to
+	 * release the memory of contents which are far outside the visible area. The
+	 * figure must be laid out again before the fragments are used.
+	 */
+	void discardFragments() {
+		for (IFigure child : getChildren())
+			((FlowFigure) child).discardFragments();
+	}
+
 	/**
 	 * Called after validate has occurred. This is used to update the bounds of the
 	 * FlowFigure to encompass its new flow boxed created during validate.
@@ -10,6 +10,10 @@
  *******************************************************************************/
 package org.eclipse.draw2d.text;
 
+import java.beans.PropertyChangeListener;
+
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.Viewport;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 
@@ -20,6 +24,9 @@ import org.eclipse.draw2d.geometry.Rectangle;
  * A FlowPage will not have a defined width unless it is inside a figure whose
  * layout provides width hints when calling
  * {@link org.eclipse.draw2d.IFigure#getPreferredSize(int, int)}.
+ * <P>
+ * A page inside a {@link Viewport} can be {@link #setVirtualized(boolean)
+ * virtualized}. It then only lays out the paragraphs near the visible region.
  * 
  * <P>
  * WARNING: This class is not intended to be subclassed by clients.
@@ -30,6 +37,12 @@ public class FlowPage extends BlockFlow {
 	private int recommendedWidth;
 	private int pageSizeCacheKeys[] = new int[3];
 	private Dimension pageSizeCacheValues[] = new Dimension[3];
+	private boolean virtualized;
+	private Viewport viewport;
+	private int layoutTop;
+	private int layoutBottom;
+	private BlockFlow requestedBlock;
+	private final PropertyChangeListener scrollListener = event -> checkVisibleRegion();
 
 	/**
 	 * @see org.eclipse.draw2d.Figure#addNotify()
@@ -38,6 +51,14 @@ public class FlowPage extends BlockFlow {
 	public void addNotify() {
 		super.addNotify();
 		setValid(false);
+		if (virtualized)
+			hookViewport();
+	}
+
+	private void checkVisibleRegion() {
+		Rectangle visible = getVisibleRegion();
+		if (visible != null && (visible.y < layoutTop || visible.bottom() > layoutBottom))
+			invalidateBlock();
 	}
 
 	/**
@@ -99,6 +120,50 @@ public class FlowPage extends BlockFlow {
 		return recommendedWidth;
 	}
 
+	/**
+	 * Returns the child block which is laid out by a virtualized page regardless of
+	 * the visible region, or <code>null</code>.
+	 */
+	BlockFlow getRequestedBlock() {
+		return requestedBlock;
+	}
+
+	/**
+	 * Returns the region of this page visible in the viewport, in the coordinates
+	 * of its children, or <code>null</code> if this page is not virtualized.
+	 */
+	Rectangle getVisibleRegion() {
+		if (viewport == null)
+			return null;
+		Rectangle region = viewport.getClientArea(new Rectangle());
+		viewport.translateToParent(region);
+		viewport.translateToAbsolute(region);
+		translateToRelative(region);
+		translateFromParent(region);
+		return region;
+	}
+
+	private void hookViewport() {
+		IFigure parent = getParent();
+		while (parent != null && !(parent instanceof Viewport))
+			parent = parent.getParent();
+		if (parent != null) {
+			viewport = (Viewport) parent;
+			viewport.getVerticalRangeModel().addPropertyChangeListener(scrollListener);
+		}
+	}
+
+	/**
+	 * Returns whether only the paragraphs near the visible region are laid out.
+	 * 
+	 * @return <code>true</code> if this page is virtualized
+	 * @see #setVirtualized(boolean)
+	 * @since 3.15
+	 */
+	public boolean isVirtualized() {
+		return virtualized;
+	}
+
 	/**
 	 * @see BlockFlow#postValidate()
 	 */
@@ -117,6 +182,7 @@ public class FlowPage extends BlockFlow {
 	 */
 	@Override
 	public void removeNotify() {
+		unhookViewport();
 		super.removeNotify();
 		setValid(true);
 	}
@@ -137,6 +203,29 @@ public class FlowPage extends BlockFlow {
 		}
 	}
 
+	/**
+	 * Lays out the given child block of a virtualized page now if it was not laid
+	 * out or its fragments were discarded. The block then remains laid out until
+	 * another block is requested, so that carets and offsets can be computed for
+	 * its contents, for example while navigating into it with the keyboard.
+	 */
+	void layoutBlock(BlockFlow block) {
+		if (getVisibleRegion() == null || block.isLayoutReusable())
+			return;
+		requestedBlock = block;
+		invalidateBlock();
+		validate();
+	}
+
+	/**
+	 * Records the vertical range laid out by a virtualized page, which must be
+	 * laid out again once the visible region leaves it.
+	 */
+	void setLayoutRegion(int top, int bottom) {
+		layoutTop = top;
+		layoutBottom = bottom;
+	}
+
 	private void setPageWidth(int width) {
 		if (recommendedWidth == width)
 			return;
@@ -144,6 +233,37 @@ public class FlowPage extends BlockFlow {
 		super.invalidate();
 	}
 
+	/**
+	 * Sets whether only the paragraphs near the region visible in the enclosing
+	 * {@link Viewport} are laid out. The child {@link BlockFlow blocks} of a
+	 * virtualized page are laid out when they come close to the visible region,
+	 * while the others are given an estimated height based on the length of their
+	 * text, so that the size of the page and the scroll bars remain approximately
+	 * correct. Blocks far outside the visible region discard their fragments to
+	 * limit the memory used by large documents.
+	 * <P>
+	 * Pages which are not contained in a viewport are always laid out completely.
+	 * 
+	 * @param virtualized <code>true</code> to lay out lazily
+	 * @since 3.15
+	 */
+	public void setVirtualized(boolean virtualized) {
+		if (this.virtualized == virtualized)
+			return;
+		this.virtualized = virtualized;
+		unhookViewport();
+		if (virtualized && getParent() != null)
+			hookViewport();
+		revalidate();
+	}
+
+	private void unhookViewport() {
+		if (viewport != null) {
+			viewport.getVerticalRangeModel().removePropertyChangeListener(scrollListener);
+			viewport = null;
+		}
+	}
+
 	/**
 	 * @see org.eclipse.draw2d.Figure#validate()
 	 */
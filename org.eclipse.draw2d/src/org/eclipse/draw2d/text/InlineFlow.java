@@ -82,6 +82,12 @@ public class InlineFlow extends FlowFigure {
 		return new InlineFlowLayout(this);
 	}
 
+	@Override
+	void discardFragments() {
+		fragments.clear();
+		super.discardFragments();
+	}
+
 	/**
 	 * Returns the <code>FlowBox</code> fragments contained in this InlineFlow. The
 	 * returned list should not be modified.
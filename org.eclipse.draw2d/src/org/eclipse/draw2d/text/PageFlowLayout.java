@@ -10,6 +10,12 @@
  *******************************************************************************/
 package org.eclipse.draw2d.text;
 
+import org.eclipse.swt.graphics.FontMetrics;
+
+import org.eclipse.draw2d.FigureUtilities;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+
 /**
  * A block layout which requires no FlowContext to perform its layout. This
  * class is used by {@link FlowPage}.
@@ -18,6 +24,18 @@ package org.eclipse.draw2d.text;
  */
 public class PageFlowLayout extends BlockFlowLayout {
 
+	/**
+	 * The number of visible region heights above and below the visible region
+	 * which are laid out.
+	 */
+	private static final int LAYOUT_EXTENT = 1;
+
+	/**
+	 * The number of visible region heights above and below the visible region
+	 * beyond which fragments are discarded.
+	 */
+	private static final int DISCARD_EXTENT = 4;
+
 	/**
 	 * Creates a new PageFlowLayout with the given FlowPage
 	 * 
@@ -35,4 +53,66 @@ public class PageFlowLayout extends BlockFlowLayout {
 		return ((FlowPage) getFlowFigure()).getPageWidth();
 	}
 
+	/**
+	 * Extended to lay out only the blocks near the visible region of a
+	 * virtualized page. The other blocks are given their last known or an
+	 * estimated height, and blocks far outside the visible region discard their
+	 * fragments. The {@link FlowPage#getRequestedBlock() requested block} is
+	 * always laid out.
+	 * 
+	 * @see BlockFlowLayout#layoutChildren()
+	 */
+	@Override
+	protected void layoutChildren() {
+		FlowPage page = (FlowPage) getFlowFigure();
+		Rectangle visible = page.getVisibleRegion();
+		if (visible == null) {
+			super.layoutChildren();
+			return;
+		}
+		int layoutTop = visible.y - visible.height * LAYOUT_EXTENT;
+		int layoutBottom = visible.bottom() + visible.height * LAYOUT_EXTENT;
+		int discardTop = visible.y - visible.height * DISCARD_EXTENT;
+		int discardBottom = visible.bottom() + visible.height * DISCARD_EXTENT;
+		page.setLayoutRegion(layoutTop, layoutBottom);
+
+		for (IFigure child : page.getChildren()) {
+			if (!(child instanceof BlockFlow block)) {
+				layoutChild(child);
+				continue;
+			}
+			int top = getNextLineTop();
+			int height = block.getKnownHeight();
+			if (height == -1)
+				height = estimateHeight(block);
+			if (block == page.getRequestedBlock() || top < layoutBottom && top + height > layoutTop) {
+				layoutChild(block);
+				continue;
+			}
+			if (blockInvalid || !block.isLayoutReusable())
+				block.setEstimatedHeight(height);
+			if (top >= discardBottom || top + height <= discardTop)
+				block.discardContents();
+			addLine(block.getBlockBox());
+		}
+	}
+
+	private int estimateHeight(BlockFlow block) {
+		FontMetrics metrics = FigureUtilities.getFontMetrics(block.getFont());
+		int lines = 1;
+		int width = blockBox.getRecommendedWidth();
+		if (width > 0)
+			lines = Math.max(1, (int) Math.ceil(getTextLength(block) * metrics.getAverageCharacterWidth() / width));
+		return lines * metrics.getHeight() + block.getInsets().getHeight();
+	}
+
+	private static int getTextLength(IFigure figure) {
+		if (figure instanceof TextFlow text)
+			return text.getText().length();
+		int length = 0;
+		for (IFigure child : figure.getChildren())
+			length += getTextLength(child);
+		return length;
+	}
+
 }
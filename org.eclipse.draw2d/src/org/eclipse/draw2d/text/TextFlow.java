@@ -244,6 +244,7 @@ public class TextFlow extends InlineFlow {
 		if (offset == getText().length())
 			trailing = false;
 
+		layoutIfVirtualized();
 		List fragments = getFragmentsWithoutBorder();
 		int i = fragments.size();
 		TextFragmentBox box;
@@ -304,6 +305,7 @@ public class TextFlow extends InlineFlow {
 	 * @return -1 or the lowest offset for the line
 	 */
 	public int getFirstOffsetForLine(int baseline) {
+		layoutIfVirtualized();
 		TextFragmentBox box;
 		List fragments = getFragmentsWithoutBorder();
 		for (int i = 0; i < fragments.size(); i++) {
@@ -340,6 +342,7 @@ public class TextFlow extends InlineFlow {
 	 * @return -1 or the highest offset at the given baseline
 	 */
 	public int getLastOffsetForLine(int baseline) {
+		layoutIfVirtualized();
 		TextFragmentBox box;
 		List fragments = getFragmentsWithoutBorder();
 		for (int i = fragments.size() - 1; i >= 0; i--) {
@@ -363,6 +366,7 @@ public class TextFlow extends InlineFlow {
 	 * @return the next offset or <code>-1</code>
 	 */
 	public int getNextOffset(Point p, boolean down, int[] trailing) {
+		layoutIfVirtualized();
 		return down ? findNextLineOffset(p, trailing) : findPreviousLineOffset(p, trailing);
 	}
 
@@ -378,6 +382,7 @@ public class TextFlow extends InlineFlow {
 	 * @since 3.1
 	 */
 	public int getNextVisibleOffset(int offset) {
+		layoutIfVirtualized();
 		TextFragmentBox box;
 		List fragments = getFragmentsWithoutBorder();
 		for (int i = 0; i < fragments.size(); i++) {
@@ -422,6 +427,7 @@ public class TextFlow extends InlineFlow {
 	 * @return the nearest offset in this figure's text
 	 */
 	public int getOffset(Point p, int trailing[], Dimension proximity) {
+		layoutIfVirtualized();
 		if (proximity == null)
 			proximity = new Dimension(Integer.MAX_VALUE, Integer.MAX_VALUE);
 		TextFragmentBox closestBox = null;
@@ -460,6 +466,7 @@ public class TextFlow extends InlineFlow {
 	 */
 
 	public int getPreviousVisibleOffset(int offset) {
+		layoutIfVirtualized();
 		TextFragmentBox box;
 		if (offset == -1)
 			offset = Integer.MAX_VALUE;
@@ -20,6 +20,8 @@ import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.draw2d.FreeformFigure;
 import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.IScalablePane;
+import org.eclipse.draw2d.LevelOfDetail;
 import org.eclipse.draw2d.ScalableFigure;
 import org.eclipse.draw2d.Viewport;
 import org.eclipse.draw2d.geometry.Dimension;
@@ -206,6 +208,20 @@ public abstract class AbstractZoomManager {
 		return getFitXZoomLevel(0);
 	}
 
+	/**
+	 * Returns the level of detail used by the scalable figure, or
+	 * <code>null</code> if it paints its contents in full detail or does not
+	 * support levels of detail.
+	 * 
+	 * @return the level of detail or <code>null</code>
+	 * @since 3.15
+	 */
+	public LevelOfDetail getLevelOfDetail() {
+		if (pane instanceof IScalablePane scalablePane)
+			return scalablePane.getLevelOfDetail();
+		return null;
+	}
+
 	/**
 	 * Returns the maxZoom.
 	 * 
@@ -351,6 +367,20 @@ public abstract class AbstractZoomManager {
 		setViewLocation(newLocation);
 	}
 
+	/**
+	 * Sets the level of detail used by the scalable figure to paint its contents
+	 * at small zoom levels. Has no effect if the scalable figure does not support
+	 * levels of detail.
+	 * 
+	 * @param levelOfDetail the level of detail or <code>null</code> to always
+	 *                      paint in full detail
+	 * @since 3.15
+	 */
+	public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+		if (pane instanceof IScalablePane scalablePane)
+			scalablePane.setLevelOfDetail(levelOfDetail);
+	}
+
 	/**
 	 * Sets the UI multiplier. The UI multiplier is applied to all zoom settings
 	 * when they are presented to the user ({@link #getZoomAsText()}). Similarly,
@@ -67,7 +67,9 @@ public abstract class CompoundTextPart extends AbstractTextPart {
 			figure.setBorder(new MarginBorder(4, 2, 4, 0));
 			break;
 		case Container.TYPE_ROOT:
-			figure = new FlowPage();
+			FlowPage page = new FlowPage();
+			page.setVirtualized(true);
+			figure = page;
 			figure.setBorder(new MarginBorder(4));
 			break;
 		default: